@@ -0,0 +1,107 @@
+package com.backend.shopping.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커넥션을 빌려서 반납할 때까지의 시간(보유 시간)을 서비스 메서드별로 기록하는 DataSource.
+ * db.connection.hold{method="AuthService.login"} 형태의 Timer로 남기고, 기준보다 오래 잡으면 경고 로그를 남긴다.
+ */
+@Slf4j
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    private static final String OUTSIDE_SERVICE = "other";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final long warnThresholdNanos;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ConnectionHoldTimeDataSource(DataSource target, ObjectProvider<MeterRegistry> meterRegistry,
+                                        long warnThresholdMillis) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+        this.warnThresholdNanos = TimeUnit.MILLISECONDS.toNanos(warnThresholdMillis);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection target) {
+        String method = ServiceMethodAspect.currentMethod();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new HoldTimeHandler(target, method != null ? method : OUTSIDE_SERVICE, System.nanoTime()));
+    }
+
+    private void record(String method, long heldNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            timers.computeIfAbsent(method, m -> Timer.builder("db.connection.hold")
+                    .tag("method", m)
+                    .register(registry))
+                    .record(heldNanos, TimeUnit.NANOSECONDS);
+        }
+        if (heldNanos > warnThresholdNanos) {
+            log.warn("DB 커넥션 보유 시간 초과: {} {}ms", method, TimeUnit.NANOSECONDS.toMillis(heldNanos));
+        }
+    }
+
+    private class HoldTimeHandler implements InvocationHandler {
+        private final Connection target;
+        private final String method;
+        private final long acquiredAt;
+        private boolean closed;
+
+        HoldTimeHandler(Connection target, String method, long acquiredAt) {
+            this.target = target;
+            this.method = method;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method m, Object[] args) throws Throwable {
+            switch (m.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        record(method, System.nanoTime() - acquiredAt);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return m.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.shopping.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ConnectionMetricsConfig {
+    
+    // 커넥션 풀(DataSource)을 감싸서 서비스 메서드별 커넥션 보유 시간 기록
+    @Bean
+    public static BeanPostProcessor connectionHoldTimePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${db.connection.hold-warn-ms:200}") long warnThresholdMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry, warnThresholdMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -2,8 +2,11 @@ package com.backend.shopping.config;
 
 import java.util.Arrays;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -15,13 +18,19 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.backend.shopping.security.CustomUserDetailsService;
 import com.backend.shopping.security.JwtAuthenticationFilter;
+import com.backend.shopping.security.RateLimitFilter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,12 +40,20 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
     
+    // 이 파라미터가 있으면 개인화 응답이 필요하므로 일반 체인(JWT 인증)으로 처리
+    public static final String PERSONALIZED_PARAM = "personalized";
+    
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    
+    // BCrypt cost (올리면 기존 해시는 로그인 시 점진적으로 재해시됨)
+    @Value("${password.bcrypt-strength:10}")
+    private int bcryptStrength;
     
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
     
     @Bean
@@ -52,7 +69,36 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
     
+    /**
+     * 비로그인 상품 조회 전용 체인.
+     * 공개 조회에는 인증 주체가 필요 없으므로 JWT 파싱/검증을 건너뛰고,
+     * 세션/요청 캐시/익명 인증 등 쓰지 않는 필터도 뺀다. 요청 수 제한(IP 기준)은 유지한다.
+     * 여러 상품 조회(POST /api/products/batch)는 본문으로 ID를 받을 뿐 조회이므로 여기서 처리한다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain catalogFilterChain(HttpSecurity http) throws Exception {
+        RequestMatcher publicCatalogRead = new OrRequestMatcher(
+                new AndRequestMatcher(
+                        PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, "/api/products/**"),
+                        request -> request.getParameter(PERSONALIZED_PARAM) == null),
+                PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, "/api/products/batch"));
+        
+        http.securityMatcher(publicCatalogRead)
+            .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .requestCache(cache -> cache.disable())
+            .anonymous(anonymous -> anonymous.disable())
+            .logout(logout -> logout.disable())
+            .authorizeHttpRequests(authz -> authz.anyRequest().permitAll())
+            .addFilterBefore(rateLimitFilter, AuthorizationFilter.class);
+        
+        return http.build();
+    }
+    
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
@@ -70,21 +116,43 @@ public class SecurityConfig {
                 	    "/webjars/**"              // 경우에 따라 필요
                 	).permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
                 
                 // 관리자만 접근 가능
                 .requestMatchers(HttpMethod.POST, "/api/products").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/products/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/products/**").hasRole("ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
             )
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 인증 주체가 정해진 뒤 사용자 ID(없으면 IP) 기준으로 제한
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         
         return http.build();
     }
     
+    // 보안 필터 체인 밖에서 한 번 더 실행되지 않도록 서블릿 필터 자동 등록 해제
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+    
+    // JWT 필터는 일반 체인에서만 실행 (자동 등록되면 상품 조회 체인 요청도 토큰을 검증함)
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+    
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
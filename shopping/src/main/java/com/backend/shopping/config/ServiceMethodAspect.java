@@ -0,0 +1,39 @@
+package com.backend.shopping.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 스레드에서 실행 중인 (가장 바깥) 서비스 메서드 이름을 기록한다.
+ * 트랜잭션보다 바깥에서 실행되므로, 트랜잭션이 잡는 커넥션도 이 메서드 이름으로 집계된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMethodAspect {
+
+    private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+    // 서비스 밖(필터, 스케줄러 등)이면 null
+    public static String currentMethod() {
+        return CURRENT_METHOD.get();
+    }
+
+    @Around("execution(public * com.backend.shopping.service..*(..))")
+    public Object tagServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (CURRENT_METHOD.get() != null) {
+            return joinPoint.proceed();
+        }
+        CURRENT_METHOD.set(joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            CURRENT_METHOD.remove();
+        }
+    }
+}
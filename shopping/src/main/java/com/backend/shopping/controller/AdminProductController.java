@@ -0,0 +1,89 @@
+package com.backend.shopping.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.backend.shopping.dto.request.ProductBulkUpdateRequest;
+import com.backend.shopping.dto.response.ApiResponse;
+import com.backend.shopping.dto.response.ProductBulkUpdateResponse;
+import com.backend.shopping.dto.response.ProductImportResponse;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+import com.backend.shopping.service.ProductBulkUpdateService;
+import com.backend.shopping.service.ProductExportService;
+import com.backend.shopping.service.ProductImportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/products")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin Product", description = "관리자 상품 관리 API")
+public class AdminProductController {
+    
+    private final ProductImportService productImportService;
+    private final ProductExportService productExportService;
+    private final ProductBulkUpdateService productBulkUpdateService;
+    
+    // 본문 전체를 메모리에 올리지 않도록 요청 스트림을 직접 읽는다
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "상품 대량 등록", description = "CSV(첫 행은 헤더) 또는 NDJSON으로 상품을 일괄 등록합니다. SKU가 같은 상품은 갱신합니다. 건별 오류와 처리량을 반환합니다.")
+    public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(HttpServletRequest request) throws IOException {
+        ProductImportResponse response = productImportService.importProducts(request.getInputStream(), request.getContentType());
+        return ResponseEntity.ok(ApiResponse.success("상품 대량 등록이 완료되었습니다", response));
+    }
+    
+    @GetMapping("/import/progress")
+    @Operation(summary = "상품 대량 등록 진행 상황", description = "진행 중인 등록 작업의 처리 건수와 오류를 조회합니다. 진행 중인 작업이 없으면 마지막 결과를 반환합니다.")
+    public ResponseEntity<ApiResponse<ProductImportResponse>> getImportProgress() {
+        return ResponseEntity.ok(ApiResponse.success(productImportService.getProgress()));
+    }
+    
+    @PatchMapping("/bulk")
+    @Operation(summary = "가격/재고 일괄 수정", description = "여러 상품의 가격, 재고, 재고 증감을 한 번에 수정합니다. 항목별 결과(반영, 미존재, 재고 부족 등)를 요청 순서대로 반환합니다.")
+    public ResponseEntity<ApiResponse<ProductBulkUpdateResponse>> bulkUpdate(
+            @Valid @RequestBody ProductBulkUpdateRequest request) {
+        ProductBulkUpdateResponse response = productBulkUpdateService.update(request.getOperations());
+        return ResponseEntity.ok(ApiResponse.success("상품 일괄 수정이 완료되었습니다", response));
+    }
+    
+    // 응답 스트림에 바로 쓰므로 ApiResponse로 감싸지 않는다
+    @GetMapping("/export")
+    @Operation(summary = "카탈로그 내보내기", description = "전체 상품을 ID 순으로 NDJSON 또는 CSV 파일로 내려받습니다.")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "ndjson") String format) {
+        ProductExportService.Format exportFormat;
+        try {
+            exportFormat = ProductExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        boolean csv = exportFormat == ProductExportService.Format.CSV;
+        String filename = "products-" + LocalDate.now() + (csv ? ".csv" : ".ndjson");
+        StreamingResponseBody body = out -> productExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.shopping.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backend.shopping.dto.response.ApiResponse;
+import com.backend.shopping.dto.response.UserImportResponse;
+import com.backend.shopping.service.UserImportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin User", description = "관리자 회원 관리 API")
+public class AdminUserController {
+    
+    private final UserImportService userImportService;
+    
+    // 본문 전체를 메모리에 올리지 않도록 요청 스트림을 직접 읽는다
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "회원 대량 등록", description = "NDJSON(한 줄에 회원 한 명)으로 회원을 일괄 등록합니다. 건별 오류와 처리량을 반환합니다.")
+    public ResponseEntity<ApiResponse<UserImportResponse>> importUsers(HttpServletRequest request) throws IOException {
+        UserImportResponse response = userImportService.importUsers(request.getInputStream());
+        return ResponseEntity.ok(ApiResponse.success("회원 대량 등록이 완료되었습니다", response));
+    }
+}
@@ -1,7 +1,10 @@
 package com.backend.shopping.controller;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -9,11 +12,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.backend.shopping.dto.request.LoginRequest;
+import com.backend.shopping.dto.request.RefreshTokenRequest;
 import com.backend.shopping.dto.request.RegisterRequest;
 import com.backend.shopping.dto.response.ApiResponse;
 import com.backend.shopping.dto.response.AuthResponse;
 import com.backend.shopping.dto.response.UserInfoResponse;
 import com.backend.shopping.entity.User;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.security.AuthenticatedUser;
 import com.backend.shopping.service.AuthService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,6 +41,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.register(request);
             return ResponseEntity.ok(ApiResponse.success("회원가입이 완료되었습니다", response));
+        } catch (CustomException e) {
+            return errorResponse(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.<AuthResponse>builder()
@@ -50,6 +58,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.login(request);
             return ResponseEntity.ok(ApiResponse.success("로그인이 완료되었습니다", response));
+        } catch (CustomException e) {
+            return errorResponse(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.<AuthResponse>builder()
@@ -59,6 +69,27 @@ public class AuthController {
         }
     }
     
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 재발급", description = "refresh 토큰으로 access 토큰을 재발급합니다. 사용한 refresh 토큰은 폐기됩니다")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        try {
+            AuthResponse response = authService.refresh(request.getRefreshToken());
+            return ResponseEntity.ok(ApiResponse.success("토큰이 재발급되었습니다", response));
+        } catch (CustomException e) {
+            return errorResponse(e);
+        }
+    }
+    
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = "현재 access 토큰과 전달된 refresh 토큰을 폐기합니다")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        authService.logout(principal, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok(ApiResponse.success("로그아웃되었습니다", null));
+    }
+    
     @GetMapping("/me")
     @Operation(summary = "내 정보 조회", description = "현재 로그인한 사용자의 정보를 조회합니다")
     @PreAuthorize("isAuthenticated()")
@@ -83,4 +114,17 @@ public class AuthController {
                             .build());
         }
     }
+    
+    // ErrorCode 상태 코드 사용, 해시 풀 포화(503)면 Retry-After 추가
+    private ResponseEntity<ApiResponse<AuthResponse>> errorResponse(CustomException e) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(e.getErrorCode().getStatus());
+        if (e.getErrorCode().getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            builder.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return builder
+                .body(ApiResponse.<AuthResponse>builder()
+                        .success(false)
+                        .message(e.getMessage())
+                        .build());
+    }
 }
@@ -0,0 +1,157 @@
+package com.backend.shopping.controller;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.backend.shopping.dto.response.ApiResponse;
+import com.backend.shopping.dto.response.ProductResponse;
+import com.backend.shopping.service.CatalogVersion;
+import com.backend.shopping.service.ProductBodyCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 공개 카탈로그 응답의 HTTP 캐시 헤더와 캐시된 본문 출력.
+ * Cache-Control과 검증자(ETag, Last-Modified)를 붙이고, 클라이언트/CDN 사본이 최신이면 본문 없이 304로 끝낸다.
+ * 상품 상세는 상품의 수정 시각, 목록/카테고리는 카탈로그 버전(상품 변경마다 올라감)이 검증자다.
+ */
+@Component
+public class CatalogHttpCaching {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final String cacheControl;
+
+    public CatalogHttpCaching(ObjectMapper objectMapper,
+                              @Value("${product.http.max-age:30s}") Duration maxAge,
+                              @Value("${product.http.stale-while-revalidate:0s}") Duration staleWhileRevalidate) {
+        this.objectMapper = objectMapper;
+        CacheControl control = CacheControl.maxAge(maxAge.toSeconds(), TimeUnit.SECONDS).cachePublic();
+        if (!staleWhileRevalidate.isZero()) {
+            control = control.staleWhileRevalidate(staleWhileRevalidate.toSeconds(), TimeUnit.SECONDS);
+        }
+        this.cacheControl = control.getHeaderValue();
+    }
+
+    // 상품 상세 응답 본문 (ApiResponse로 감싸 직렬화, 검증자는 수정 시각)
+    public ProductBodyCache.Body productBody(ProductResponse product) {
+        LocalDateTime modifiedAt = product.getUpdatedAt() != null ? product.getUpdatedAt() : product.getCreatedAt();
+        long lastModified = modifiedAt != null ? modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+        // 수정 시각은 마이크로초까지 비교해야 같은 밀리초 안의 연속 수정도 구분됨
+        String version = modifiedAt != null
+                ? Long.toString(lastModified * 1000 + modifiedAt.getNano() / 1000 % 1000, 36)
+                : "0";
+        return ProductBodyCache.Body.of(serialize(ApiResponse.success(product)),
+                "\"p" + product.getId() + "-" + version + "\"", lastModified);
+    }
+
+    // 목록/카테고리 응답 본문 (검증자는 조회 전에 읽은 카탈로그 버전)
+    public ProductBodyCache.Body catalogBody(Object data, CatalogVersion catalogVersion) {
+        return ProductBodyCache.Body.of(serialize(ApiResponse.success(data)),
+                catalogEtag(catalogVersion), catalogVersion.getLastModified());
+    }
+
+    /**
+     * 목록/카테고리 검증 (조회 전에 호출하면 최신일 때 DB/캐시 조회도 건너뜀).
+     * true면 응답 상태(304 등)와 헤더가 이미 설정된 것이므로 핸들러는 본문 없이 null을 반환한다.
+     */
+    public boolean notModified(ServletWebRequest webRequest, CatalogVersion catalogVersion) {
+        return notModified(webRequest, catalogEtag(catalogVersion), catalogVersion.getLastModified());
+    }
+
+    /**
+     * 캐시된 본문으로 응답.
+     * 조건부 요청이 최신이면 304, 아니면 Accept-Encoding에 맞는 본문(원본/gzip)을 변환 없이 출력 스트림에 쓴다.
+     */
+    public void write(ServletWebRequest webRequest, ProductBodyCache.Body body) throws IOException {
+        HttpServletResponse response = webRequest.getResponse();
+        boolean gzip = body.hasGzip() && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            // 압축 본문은 바이트가 다르므로 약한 ETag (If-None-Match는 약한 비교라 같은 태그로 재검증됨)
+            response.setHeader(HttpHeaders.ETAG, "W/" + body.getEtag());
+        }
+        if (notModified(webRequest, body.getEtag(), body.getLastModified())) {
+            return;
+        }
+
+        ByteBuffer content = body.content(gzip);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(content.remaining());
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+    }
+
+    private boolean notModified(ServletWebRequest webRequest, String etag, long lastModified) {
+        // 304에도 같은 Cache-Control이 있어야 CDN이 사본 유효 기간을 다시 늘림
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+
+    private String catalogEtag(CatalogVersion catalogVersion) {
+        return "\"c" + catalogVersion.toTag() + "\"";
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    // Accept-Encoding에 gzip(없으면 "*")이 q=0이 아닌 값으로 있으면 압축 본문을 보냄
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            boolean rejected = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim().replace(" ", "");
+                if (param.startsWith("q=") && isZero(param.substring(2))) {
+                    rejected = true;
+                }
+            }
+            if (coding.equalsIgnoreCase(GZIP)) {
+                return !rejected;
+            }
+            if (coding.equals("*")) {
+                wildcard = !rejected;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
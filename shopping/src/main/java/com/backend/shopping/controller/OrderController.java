@@ -6,7 +6,6 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,7 +18,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.backend.shopping.dto.request.OrderRequest;
 import com.backend.shopping.dto.response.ApiResponse;
+import com.backend.shopping.dto.response.CursorResponse;
 import com.backend.shopping.dto.response.OrderResponse;
+import com.backend.shopping.security.AuthenticatedUser;
 import com.backend.shopping.service.OrderService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,9 +40,9 @@ public class OrderController {
     @PostMapping
     @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다.")
     public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody OrderRequest request) {
-        OrderResponse response = orderService.createOrder(userDetails.getUsername(), request);
+        OrderResponse response = orderService.createOrder(principal.getId(), request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("주문이 성공적으로 생성되었습니다.", response));
     }
@@ -49,27 +50,38 @@ public class OrderController {
     @GetMapping("/{orderId}")
     @Operation(summary = "주문 조회", description = "특정 주문의 상세 정보를 조회합니다.")
     public ResponseEntity<ApiResponse<OrderResponse>> getOrder(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Parameter(description = "주문 ID") @PathVariable(name="orderId") Long orderId) {
-        OrderResponse response = orderService.getOrder(userDetails.getUsername(), orderId);
+        OrderResponse response = orderService.getOrder(principal.getId(), orderId);
         return ResponseEntity.ok(ApiResponse.success("주문 조회 성공", response));
     }
     
     @GetMapping
     @Operation(summary = "내 주문 목록 조회", description = "현재 사용자의 주문 목록을 페이징으로 조회합니다.")
     public ResponseEntity<ApiResponse<Page<OrderResponse>>> getUserOrders(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PageableDefault(size = 10) Pageable pageable) {
-        Page<OrderResponse> response = orderService.getUserOrders(userDetails.getUsername(), pageable);
+        Page<OrderResponse> response = orderService.getUserOrders(principal.getId(), pageable);
+        return ResponseEntity.ok(ApiResponse.success("주문 목록 조회 성공", response));
+    }
+    
+    @GetMapping("/scroll")
+    @Operation(summary = "내 주문 목록 조회 (커서)", description = "전체 건수 없이 최신 주문부터 커서로 조회합니다. "
+            + "응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<OrderResponse>>> scrollUserOrders(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(name="cursor",required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(name="size",defaultValue = "10") int size) {
+        CursorResponse<OrderResponse> response = orderService.getUserOrdersByCursor(principal.getId(), cursor, size);
         return ResponseEntity.ok(ApiResponse.success("주문 목록 조회 성공", response));
     }
     
     @PutMapping("/{orderId}/cancel")
     @Operation(summary = "주문 취소", description = "주문을 취소합니다.")
     public ResponseEntity<ApiResponse<OrderResponse>> cancelOrder(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Parameter(description = "주문 ID") @PathVariable(name="orderId") Long orderId) {
-        OrderResponse response = orderService.cancelOrder(userDetails.getUsername(), orderId);
+        OrderResponse response = orderService.cancelOrder(principal.getId(), orderId);
         return ResponseEntity.ok(ApiResponse.success("주문이 취소되었습니다.", response));
     }
     
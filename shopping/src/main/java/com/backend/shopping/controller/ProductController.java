@@ -1,8 +1,13 @@
 package com.backend.shopping.controller;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,11 +19,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import com.backend.shopping.dto.request.ProductBatchRequest;
 import com.backend.shopping.dto.request.ProductRequest;
 import com.backend.shopping.dto.request.ProductSearchRequest;
+import com.backend.shopping.dto.request.ProductSortField;
 import com.backend.shopping.dto.response.ApiResponse;
+import com.backend.shopping.dto.response.CursorResponse;
+import com.backend.shopping.dto.response.ProductBatchResponse;
+import com.backend.shopping.dto.response.ProductFacetResponse;
 import com.backend.shopping.dto.response.ProductResponse;
+import com.backend.shopping.dto.response.ProductSuggestResponse;
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.service.CatalogVersion;
+import com.backend.shopping.service.ProductBodyCache;
 import com.backend.shopping.service.ProductService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,7 +49,12 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Product", description = "상품 관련 API")
 public class ProductController {
     
+    // 둘러보기 페이지 최대 크기 (커서 조회와 같음)
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final ProductService productService;
+    private final CatalogHttpCaching catalogHttpCaching;
+    private final ProductBodyCache productBodyCache;
     
     // 상품 생성 (관리자만)
     @PostMapping
@@ -94,14 +114,18 @@ public class ProductController {
         }
     }
     
-    // 상품 단건 조회
+    // 상품 단건 조회 (직렬화/압축해 둔 본문을 바로 씀, If-None-Match/If-Modified-Since가 최신이면 본문 없이 304)
     @GetMapping("/{id}")
-    @Operation(summary = "상품 상세 조회", description = "특정 상품의 상세 정보를 조회합니다.")
+    @Operation(summary = "상품 상세 조회", description = "특정 상품의 상세 정보를 조회합니다. ETag/Last-Modified로 조건부 요청을 지원합니다.")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(
-            @Parameter(description = "상품 ID") @PathVariable(name="id") Long id) {
+            @Parameter(description = "상품 ID") @PathVariable(name="id") Long id,
+            @Parameter(hidden = true) ServletWebRequest webRequest) throws IOException {
         try {
-            ProductResponse response = productService.getProduct(id);
-            return ResponseEntity.ok(ApiResponse.success(response));
+            ProductBodyCache.Body body = productBodyCache.getProduct(id,
+                    () -> catalogHttpCaching.productBody(productService.findProduct(id)));
+            productService.recordView(id);
+            catalogHttpCaching.write(webRequest, body);
+            return null;
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.<ProductResponse>builder()
@@ -113,21 +137,146 @@ public class ProductController {
     
     // 상품 목록 조회 (검색, 필터링, 페이징)
     @GetMapping
-    @Operation(summary = "상품 목록 조회", description = "상품 목록을 조회합니다. 검색, 필터링, 페이징이 가능합니다.")
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> getProducts(
+    @Operation(summary = "상품 목록 조회", description = "상품 목록을 조회합니다. 검색, 필터링, 페이징이 가능하며 필터는 함께 지정할 수 있습니다. "
+            + "ETag/Last-Modified로 조건부 요청을 지원합니다.")
+    public ResponseEntity<ApiResponse<Page<ProductSummaryResponse>>> getProducts(
             @Parameter(description = "상품명 검색") @RequestParam(name="name",required = false) String name,
             @Parameter(description = "카테고리 필터") @RequestParam(name="category",required = false) String category,
             @Parameter(description = "재고 있는 상품만") @RequestParam(name="inStock",required = false) Boolean inStock,
+            @Parameter(description = "최소 가격") @RequestParam(name="minPrice",required = false) BigDecimal minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(name="maxPrice",required = false) BigDecimal maxPrice,
+            @Parameter(description = "등록일 시작 (yyyy-MM-ddTHH:mm:ss, 포함)") @RequestParam(name="createdFrom",required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "등록일 끝 (yyyy-MM-ddTHH:mm:ss, 미포함)") @RequestParam(name="createdTo",required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(name="page",defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(name="size",defaultValue = "20") int size,
-            @Parameter(description = "정렬 기준") @RequestParam(name="sortBy",defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "정렬 기준 (createdAt, price, stock, name, id)") @RequestParam(name="sortBy",defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "정렬 방향") @RequestParam(name="sortDirection",defaultValue = "DESC") String sortDirection,
+            @Parameter(hidden = true) ServletWebRequest webRequest) throws IOException {
+        
+        ProductSearchRequest searchRequest = toSearchRequest(name, category, inStock, minPrice, maxPrice,
+                createdFrom, createdTo, size, sortBy, sortDirection);
+        searchRequest.setPage(page);
+        
+        // 카테고리(또는 전체) 둘러보기 페이지는 직렬화/압축해 둔 본문으로 응답
+        if (isBrowsePage(searchRequest)) {
+            // 같은 페이지가 캐시 키만 다르게 여러 번 들어가지 않도록 크기/카테고리/정렬 기준을 정규화
+            searchRequest.setSize(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+            searchRequest.setCategory(category == null || category.isBlank() ? null : category.trim());
+            searchRequest.setSortBy(ProductSortField.from(sortBy.trim()).getProperty());
+            String key = "products:" + searchRequest.getCategory() + "|" + page + "|" + searchRequest.getSize() + "|"
+                    + searchRequest.getSortBy() + "|" + searchRequest.getSortDirection();
+            catalogHttpCaching.write(webRequest, productBodyCache.getQuery(key, () -> {
+                CatalogVersion version = productService.getCatalogVersion();
+                return catalogHttpCaching.catalogBody(productService.getProducts(searchRequest), version);
+            }));
+            return null;
+        }
+        
+        // 검색/필터 조건이 있는 조회는 상품이 바뀌지 않았으면 조회 없이 304
+        if (catalogHttpCaching.notModified(webRequest, productService.getCatalogVersion())) {
+            return null;
+        }
+        
+        Page<ProductSummaryResponse> response = productService.getProducts(searchRequest);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 상품 목록 조회 (커서 기반)
+    @GetMapping("/scroll")
+    @Operation(summary = "상품 목록 조회 (커서)", description = "전체 건수 없이 커서로 다음 페이지를 조회합니다. "
+            + "응답의 nextCursor를 cursor로 넘기면 이어서 조회하며, 정렬 조건은 처음 요청과 같아야 합니다. "
+            + "상품명으로 검색하면 정렬 조건과 관계없이 관련도 순입니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<ProductSummaryResponse>>> scrollProducts(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(name="cursor",required = false) String cursor,
+            @Parameter(description = "상품명 검색") @RequestParam(name="name",required = false) String name,
+            @Parameter(description = "카테고리 필터") @RequestParam(name="category",required = false) String category,
+            @Parameter(description = "재고 있는 상품만") @RequestParam(name="inStock",required = false) Boolean inStock,
+            @Parameter(description = "최소 가격") @RequestParam(name="minPrice",required = false) BigDecimal minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(name="maxPrice",required = false) BigDecimal maxPrice,
+            @Parameter(description = "등록일 시작 (yyyy-MM-ddTHH:mm:ss, 포함)") @RequestParam(name="createdFrom",required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "등록일 끝 (yyyy-MM-ddTHH:mm:ss, 미포함)") @RequestParam(name="createdTo",required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(name="size",defaultValue = "20") int size,
+            @Parameter(description = "정렬 기준 (createdAt, price, stock, name, id)") @RequestParam(name="sortBy",defaultValue = "createdAt") String sortBy,
             @Parameter(description = "정렬 방향") @RequestParam(name="sortDirection",defaultValue = "DESC") String sortDirection) {
         
+        ProductSearchRequest searchRequest = toSearchRequest(name, category, inStock, minPrice, maxPrice,
+                createdFrom, createdTo, size, sortBy, sortDirection);
+        
+        CursorResponse<ProductSummaryResponse> response = productService.scrollProducts(searchRequest, cursor);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 검색 조건별 필터 개수 (목록 조회와 같은 조건)
+    @GetMapping("/facets")
+    @Operation(summary = "상품 필터별 개수 조회", description = "현재 검색 조건에서 카테고리, 가격대, 재고 여부별 상품 수를 조회합니다. "
+            + "각 필터의 개수는 그 필터를 뺀 나머지 조건으로 셉니다. ETag/Last-Modified로 조건부 요청을 지원합니다.")
+    public ResponseEntity<ApiResponse<ProductFacetResponse>> getFacets(
+            @Parameter(description = "상품명 검색") @RequestParam(name="name",required = false) String name,
+            @Parameter(description = "카테고리 필터") @RequestParam(name="category",required = false) String category,
+            @Parameter(description = "재고 있는 상품만") @RequestParam(name="inStock",required = false) Boolean inStock,
+            @Parameter(description = "최소 가격") @RequestParam(name="minPrice",required = false) BigDecimal minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(name="maxPrice",required = false) BigDecimal maxPrice,
+            @Parameter(description = "등록일 시작 (yyyy-MM-ddTHH:mm:ss, 포함)") @RequestParam(name="createdFrom",required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "등록일 끝 (yyyy-MM-ddTHH:mm:ss, 미포함)") @RequestParam(name="createdTo",required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(hidden = true) ServletWebRequest webRequest) {
+        
+        if (catalogHttpCaching.notModified(webRequest, productService.getCatalogVersion())) {
+            return null;
+        }
+        ProductSearchRequest searchRequest = toSearchRequest(name, category, inStock, minPrice, maxPrice,
+                createdFrom, createdTo, 20, "createdAt", "DESC");
+        return ResponseEntity.ok(ApiResponse.success(productService.getFacets(searchRequest)));
+    }
+    
+    // 여러 상품 한 번에 조회 + 재고 확인 (비로그인 조회 체인에서 처리)
+    @PostMapping("/batch")
+    @Operation(summary = "여러 상품 조회", description = "상품 ID 목록(최대 500개, 수량 선택)으로 상품 정보와 재고 충분 여부를 한 번에 조회합니다. "
+            + "없거나 삭제된 상품은 missingIds로 알려줍니다.")
+    public ResponseEntity<ApiResponse<ProductBatchResponse>> getProducts(
+            @Valid @RequestBody ProductBatchRequest request) {
+        ProductBatchResponse response = productService.getProducts(request.getItems());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 검색어 자동완성 (입력할 때마다 호출, DB 조회 없음)
+    @GetMapping("/suggest")
+    @Operation(summary = "검색어 자동완성", description = "입력어로 시작하는 카테고리와 상품명을 인기순으로 조회합니다. "
+            + "이름 중간 단어, 입력 중인 글자(예: 나잌), 초성(예: ㄴㅇㅋ)으로도 찾을 수 있습니다.")
+    public ResponseEntity<ApiResponse<ProductSuggestResponse>> suggest(
+            @Parameter(description = "입력어") @RequestParam(name="q") String query,
+            @Parameter(description = "카테고리/상품 각각 최대 개수 (최대 20)") @RequestParam(name="limit",defaultValue = "10") int limit) {
+        ProductSuggestResponse response = productService.suggest(query, Math.max(1, Math.min(limit, 20)));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 카테고리 외 필터가 없는 조회 (요청이 몰리는 페이지)
+    private boolean isBrowsePage(ProductSearchRequest searchRequest) {
+        return searchRequest.getName() == null
+                && searchRequest.getInStock() == null
+                && searchRequest.getMinPrice() == null
+                && searchRequest.getMaxPrice() == null
+                && searchRequest.getCreatedFrom() == null
+                && searchRequest.getCreatedTo() == null;
+    }
+    
+    private ProductSearchRequest toSearchRequest(String name, String category, Boolean inStock,
+                                                 BigDecimal minPrice, BigDecimal maxPrice,
+                                                 LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                 int size, String sortBy, String sortDirection) {
         ProductSearchRequest searchRequest = new ProductSearchRequest();
         searchRequest.setName(name);
         searchRequest.setCategory(category);
         searchRequest.setInStock(inStock);
-        searchRequest.setPage(page);
+        searchRequest.setMinPrice(minPrice);
+        searchRequest.setMaxPrice(maxPrice);
+        searchRequest.setCreatedFrom(createdFrom);
+        searchRequest.setCreatedTo(createdTo);
         searchRequest.setSize(size);
         searchRequest.setSortBy(sortBy);
         searchRequest.setSortDirection(
@@ -135,25 +284,56 @@ public class ProductController {
                 org.springframework.data.domain.Sort.Direction.ASC : 
                 org.springframework.data.domain.Sort.Direction.DESC
         );
-        
-        Page<ProductResponse> response = productService.getProducts(searchRequest);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return searchRequest;
     }
     
     // 카테고리 목록 조회
     @GetMapping("/categories")
-    @Operation(summary = "카테고리 목록 조회", description = "등록된 상품의 카테고리 목록을 조회합니다.")
-    public ResponseEntity<ApiResponse<List<String>>> getCategories() {
-        List<String> categories = productService.getCategories();
-        return ResponseEntity.ok(ApiResponse.success(categories));
+    @Operation(summary = "카테고리 목록 조회", description = "등록된 상품의 카테고리 목록을 조회합니다. ETag/Last-Modified로 조건부 요청을 지원합니다.")
+    public ResponseEntity<ApiResponse<List<String>>> getCategories(
+            @Parameter(hidden = true) ServletWebRequest webRequest) throws IOException {
+        catalogHttpCaching.write(webRequest, productBodyCache.getQuery("categories", () -> {
+            CatalogVersion version = productService.getCatalogVersion();
+            return catalogHttpCaching.catalogBody(productService.getCategories(), version);
+        }));
+        return null;
     }
     
     // 인기 상품 조회
     @GetMapping("/popular")
-    @Operation(summary = "인기 상품 조회", description = "인기 상품 목록을 조회합니다.")
-    public ResponseEntity<ApiResponse<List<ProductResponse>>> getPopularProducts(
-            @Parameter(description = "조회할 상품 수") @RequestParam(name="limit",defaultValue = "10") int limit) {
-        List<ProductResponse> response = productService.getPopularProducts(limit);
+    @Operation(summary = "인기 상품 조회", description = "최근 판매량(오래된 판매일수록 낮은 가중치) 기준 인기 상품 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<ProductSummaryResponse>>> getPopularProducts(
+            @Parameter(description = "조회할 상품 수") @RequestParam(name="limit",defaultValue = "10") int limit,
+            @Parameter(description = "카테고리 (생략하면 전체)") @RequestParam(name="category",required = false) String category) {
+        List<ProductSummaryResponse> response = productService.getPopularProducts(limit, category);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 많이 본 상품 조회
+    @GetMapping("/most-viewed")
+    @Operation(summary = "많이 본 상품 조회", description = "최근 지정한 시간 동안 조회수가 많은 상품 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<ProductSummaryResponse>>> getMostViewedProducts(
+            @Parameter(description = "집계 기간 (시간, 1~720)") @RequestParam(name="hours",defaultValue = "24") int hours,
+            @Parameter(description = "조회할 상품 수 (최대 100)") @RequestParam(name="limit",defaultValue = "10") int limit) {
+        List<ProductSummaryResponse> response = productService.getMostViewedProducts(viewWindow(hours), clampLimit(limit));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 급상승 상품 조회
+    @GetMapping("/trending")
+    @Operation(summary = "급상승 상품 조회", description = "최근 지정한 시간 동안 직전 같은 기간보다 조회수가 많이 늘어난 상품 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<ProductSummaryResponse>>> getTrendingProducts(
+            @Parameter(description = "비교 기간 (시간, 1~720)") @RequestParam(name="hours",defaultValue = "6") int hours,
+            @Parameter(description = "조회할 상품 수 (최대 100)") @RequestParam(name="limit",defaultValue = "10") int limit) {
+        List<ProductSummaryResponse> response = productService.getTrendingProducts(viewWindow(hours), clampLimit(limit));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+    
+    private Duration viewWindow(int hours) {
+        return Duration.ofHours(Math.max(1, Math.min(hours, 720)));
+    }
+    
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, 100));
+    }
 }
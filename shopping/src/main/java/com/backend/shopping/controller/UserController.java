@@ -1,20 +1,25 @@
 package com.backend.shopping.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.backend.shopping.dto.response.ApiResponse;
+import com.backend.shopping.entity.Role;
 import com.backend.shopping.entity.User;
+import com.backend.shopping.security.AuthenticatedUser;
 import com.backend.shopping.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -29,28 +34,38 @@ public class UserController {
     @GetMapping("/profile")
     @Operation(summary = "프로필 조회", description = "현재 로그인한 사용자의 프로필 정보를 조회합니다.")
     public ResponseEntity<ApiResponse<User>> getProfile(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        User user = userService.getUserByUsername(userDetails.getUsername());
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        User user = userService.getUser(principal.getId());
         return ResponseEntity.ok(ApiResponse.success("프로필 조회 성공", user));
     }
     
     @PutMapping("/profile")
     @Operation(summary = "프로필 수정", description = "현재 로그인한 사용자의 프로필 정보를 수정합니다.")
     public ResponseEntity<ApiResponse<User>> updateProfile(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @RequestBody UpdateProfileRequest request) {
-        User updatedUser = userService.updateProfile(userDetails.getUsername(), request);
+        User updatedUser = userService.updateProfile(principal.getId(), request);
         return ResponseEntity.ok(ApiResponse.success("프로필이 수정되었습니다.", updatedUser));
     }
     
     @DeleteMapping("/profile")
     @Operation(summary = "회원 탈퇴", description = "현재 로그인한 사용자의 계정을 삭제합니다.")
     public ResponseEntity<ApiResponse<Void>> deleteAccount(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        userService.deleteUser(userDetails.getUsername());
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        userService.deleteUser(principal.getId());
         return ResponseEntity.ok(ApiResponse.success("회원 탈퇴가 완료되었습니다.", null));
     }
     
+    @PutMapping("/{userId}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "역할 변경", description = "사용자의 역할을 변경합니다. 기존에 발급된 토큰은 무효화됩니다. (관리자용)")
+    public ResponseEntity<ApiResponse<Void>> changeRole(
+            @Parameter(description = "사용자 ID") @PathVariable(name = "userId") Long userId,
+            @RequestParam(name = "role") Role role) {
+        userService.changeRole(userId, role);
+        return ResponseEntity.ok(ApiResponse.success("역할이 변경되었습니다.", null));
+    }
+    
     // 내부 DTO 클래스
     public static class UpdateProfileRequest {
         private String email;
@@ -0,0 +1,38 @@
+package com.backend.shopping.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 여러 상품 한 번에 조회 + 재고 확인 (장바구니, 찜 목록, 제휴사 연동)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductBatchRequest {
+    
+    @NotEmpty(message = "조회할 상품은 필수입니다")
+    @Size(max = 500, message = "한 번에 500건까지 조회할 수 있습니다")
+    private List<@Valid Item> items;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        @NotNull(message = "상품 ID는 필수입니다")
+        private Long id;
+        
+        // 재고 확인 수량 (생략하면 1)
+        @Min(value = 1, message = "수량은 1 이상이어야 합니다")
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,44 @@
+package com.backend.shopping.dto.request;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 가격/재고 일괄 부분 수정 (항목별 검사는 서비스에서 해서 항목별 결과로 돌려줌)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductBulkUpdateRequest {
+    
+    @NotEmpty(message = "수정 항목은 필수입니다")
+    @Size(max = 10000, message = "한 번에 10000건까지 수정할 수 있습니다")
+    private List<Operation> operations;
+    
+    // 가격, 재고(stock), 재고 증감(stockDelta) 중 주어진 값만 바꿈 (stock과 stockDelta는 함께 쓸 수 없음)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Operation {
+        @NotNull(message = "상품 ID는 필수입니다")
+        private Long id;
+        
+        @DecimalMin(value = "0.0", inclusive = false, message = "가격은 0보다 커야 합니다")
+        private BigDecimal price;
+        
+        @Min(value = 0, message = "재고 수량은 0 이상이어야 합니다")
+        private Integer stock;
+        
+        private Integer stockDelta;
+    }
+}
@@ -0,0 +1,38 @@
+package com.backend.shopping.dto.request;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+// 대량 상품 등록 한 건 (NDJSON 한 줄 또는 CSV 한 행)
+@Data
+public class ProductImportRecord {
+    
+    @NotBlank(message = "SKU는 필수입니다")
+    @Size(max = 64, message = "SKU는 64자 이하여야 합니다")
+    private String sku;
+    
+    @NotBlank(message = "상품명은 필수입니다")
+    @Size(max = 255, message = "상품명은 255자 이하여야 합니다")
+    private String name;
+    
+    @Size(max = 1000, message = "상품 설명은 1000자 이하여야 합니다")
+    private String description;
+    
+    @NotNull(message = "가격은 필수입니다")
+    @DecimalMin(value = "0.0", inclusive = false, message = "가격은 0보다 커야 합니다")
+    private BigDecimal price;
+    
+    @NotNull(message = "재고 수량은 필수입니다")
+    @Min(value = 0, message = "재고 수량은 0 이상이어야 합니다")
+    private Integer stock;
+    
+    private String category;
+    
+    private String imageUrl;
+}
@@ -1,5 +1,8 @@
 package com.backend.shopping.dto.request;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 import org.springframework.data.domain.Sort;
 
 import lombok.Data;
@@ -9,6 +12,10 @@ public class ProductSearchRequest {
     private String name;        // 상품명 검색
     private String category;    // 카테고리 필터
     private Boolean inStock;    // 재고 있는 상품만
+    private BigDecimal minPrice;    // 최소 가격 (포함)
+    private BigDecimal maxPrice;    // 최대 가격 (포함)
+    private LocalDateTime createdFrom;  // 등록일 시작 (포함)
+    private LocalDateTime createdTo;    // 등록일 끝 (미포함)
     
     // 페이징
     private int page = 0;
@@ -18,7 +25,10 @@ public class ProductSearchRequest {
     private String sortBy = "createdAt";
     private Sort.Direction sortDirection = Sort.Direction.DESC;
     
+    // 허용된 정렬 기준만, 같은 값이면 id 순 (커서 페이징에서도 순서가 유일하도록)
     public Sort getSort() {
-        return Sort.by(sortDirection, sortBy);
+        ProductSortField field = ProductSortField.from(sortBy);
+        Sort sort = Sort.by(sortDirection, field.getProperty());
+        return field == ProductSortField.ID ? sort : sort.and(Sort.by(sortDirection, "id"));
     }
 }
\ No newline at end of file
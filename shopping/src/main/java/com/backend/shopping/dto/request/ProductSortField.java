@@ -0,0 +1,43 @@
+package com.backend.shopping.dto.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 상품 목록 정렬 기준 (허용 목록).
+ * 모두 (컬럼, id) 인덱스가 있는 컬럼만 허용해서 정렬 때문에 전체 정렬(filesort)이 생기지 않게 한다.
+ */
+@Getter
+public enum ProductSortField {
+    CREATED_AT("createdAt", LocalDateTime.class, ProductSummaryResponse::getCreatedAt),
+    PRICE("price", BigDecimal.class, ProductSummaryResponse::getPrice),
+    STOCK("stock", Integer.class, ProductSummaryResponse::getStock),
+    NAME("name", String.class, ProductSummaryResponse::getName),
+    ID("id", Long.class, ProductSummaryResponse::getId);
+
+    private final String property;
+    private final Class<?> type;
+    private final Function<ProductSummaryResponse, Object> getter;
+
+    ProductSortField(String property, Class<?> type, Function<ProductSummaryResponse, Object> getter) {
+        this.property = property;
+        this.type = type;
+        this.getter = getter;
+    }
+
+    public static ProductSortField from(String sortBy) {
+        for (ProductSortField field : values()) {
+            if (field.property.equals(sortBy)) {
+                return field;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_SORT_FIELD);
+    }
+}
@@ -0,0 +1,11 @@
+package com.backend.shopping.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+    
+    @NotBlank(message = "refresh 토큰은 필수입니다")
+    private String refreshToken;
+}
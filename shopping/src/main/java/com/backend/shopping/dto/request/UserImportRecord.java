@@ -0,0 +1,30 @@
+package com.backend.shopping.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+// 대량 회원 등록 NDJSON 한 줄
+@Data
+public class UserImportRecord {
+    
+    @NotBlank(message = "이메일은 필수입니다")
+    @Email(message = "올바른 이메일 형식이 아닙니다")
+    private String email;
+    
+    @NotBlank(message = "비밀번호는 필수입니다")
+    @Size(min = 6, message = "비밀번호는 최소 6자 이상이어야 합니다")
+    private String password;
+    
+    @NotBlank(message = "이름은 필수입니다")
+    @Size(min = 2, max = 20, message = "이름은 2자 이상 20자 이하여야 합니다")
+    private String name;
+    
+    private String phone;
+    
+    private String address;
+    
+    // 없으면 USER
+    private String role;
+}
@@ -23,6 +23,19 @@ public class CartItemResponse {
     private BigDecimal subtotal;
     private LocalDateTime createdAt;
     
+    // JPQL 생성자 표현식용 (CartItemRepository.findItemResponsesByCartId)
+    public CartItemResponse(Long id, Long productId, String productName, String productImageUrl,
+                            BigDecimal productPrice, Integer productStock, Integer quantity, LocalDateTime createdAt) {
+        this.id = id;
+        this.productId = productId;
+        this.productName = productName;
+        this.productImageUrl = productImageUrl;
+        this.productPrice = productPrice;
+        this.productStock = productStock;
+        this.quantity = quantity;
+        this.createdAt = createdAt;
+    }
+    
     // 소계 계산 (가격 × 수량)
     public BigDecimal getSubtotal() {
         if (productPrice == null || quantity == null) {
@@ -0,0 +1,28 @@
+package com.backend.shopping.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 여러 상품 조회 결과 (없거나 삭제된 상품은 실패 대신 missingIds로)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchResponse {
+    // 요청 순서대로 찾은 상품
+    private List<Item> items;
+    private List<Long> missingIds;
+    
+    @Data
+    @AllArgsConstructor
+    public static class Item {
+        private ProductResponse product;
+        private int quantity;
+        // 재고가 quantity 이상인지 (조회 시점 기준, 주문 시 다시 확인)
+        private boolean available;
+    }
+}
@@ -0,0 +1,33 @@
+package com.backend.shopping.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBulkUpdateResponse {
+    private int requestedCount;
+    private int updatedCount;
+    private int failedCount;
+    // 요청 순서대로 항목별 결과
+    private List<Result> results;
+    
+    public enum Status {
+        UPDATED, NOT_FOUND, INSUFFICIENT_STOCK, INVALID, FAILED
+    }
+    
+    @Data
+    @AllArgsConstructor
+    public static class Result {
+        private Long id;
+        private Status status;
+        // 실패 사유 (성공이면 null)
+        private String reason;
+    }
+}
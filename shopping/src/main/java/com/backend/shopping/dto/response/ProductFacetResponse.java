@@ -0,0 +1,40 @@
+package com.backend.shopping.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 검색 조건별 필터(카테고리, 가격대, 재고) 상품 수
+// 각 필터의 수는 그 필터를 뺀 나머지 조건으로 센다 (다른 값으로 바꿨을 때의 결과 수)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetResponse {
+    // 모든 조건을 적용한 상품 수
+    private long total;
+    private List<CategoryCount> categories;
+    private List<PriceRangeCount> priceRanges;
+    private long inStockCount;
+    private long outOfStockCount;
+    
+    @Data
+    @AllArgsConstructor
+    public static class CategoryCount {
+        private String category;
+        private long count;
+    }
+    
+    // minPrice 포함, maxPrice 미포함 (null이면 제한 없음)
+    @Data
+    @AllArgsConstructor
+    public static class PriceRangeCount {
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+        private long count;
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.shopping.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResponse {
+    // 진행 중이면 true (진행 상황 조회)
+    private boolean running;
+    private int totalRecords;
+    private int createdCount;
+    private int updatedCount;
+    private int failedCount;
+    private long elapsedMillis;
+    private double recordsPerSecond;
+    private List<RecordError> errors;
+    // 오류가 너무 많아 일부만 담은 경우
+    private boolean errorsTruncated;
+    
+    @Data
+    @AllArgsConstructor
+    public static class RecordError {
+        private int line;
+        private String sku;
+        private String reason;
+    }
+}
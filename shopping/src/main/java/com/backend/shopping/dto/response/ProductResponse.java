@@ -14,6 +14,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ProductResponse {
     private Long id;
+    private String sku;
     private String name;
     private String description;
     private BigDecimal price;
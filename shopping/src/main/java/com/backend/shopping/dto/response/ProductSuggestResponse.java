@@ -0,0 +1,23 @@
+package com.backend.shopping.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 검색어 자동완성 결과 (각각 인기/상품 수 순)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestResponse {
+    private List<String> categories;
+    private List<ProductSuggestion> products;
+    
+    @Data
+    @AllArgsConstructor
+    public static class ProductSuggestion {
+        private Long id;
+        private String name;
+    }
+}
@@ -0,0 +1,29 @@
+package com.backend.shopping.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 목록용 상품 요약 (설명 등 상세 필드 없이 필요한 컬럼만 조회)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSummaryResponse {
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private Integer stock;
+    private String category;
+    private String imageUrl;
+    private LocalDateTime createdAt;
+    
+    // 재고 상태 (편의 메서드)
+    public boolean isInStock() {
+        return stock != null && stock > 0;
+    }
+}
@@ -5,16 +5,17 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +23,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products",
+        uniqueConstraints = @UniqueConstraint(name = "uk_products_sku", columnNames = "sku"),
+        indexes = {
+                @Index(name = "idx_products_category_created_at", columnList = "category, created_at, id"),
+                @Index(name = "idx_products_created_at", columnList = "created_at, id"),
+                @Index(name = "idx_products_price", columnList = "price, id"),
+                @Index(name = "idx_products_stock", columnList = "stock, id"),
+                @Index(name = "idx_products_name", columnList = "name, id"),
+                @Index(name = "idx_products_deleted_at", columnList = "deleted_at")
+        })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,6 +43,10 @@ public class Product {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    // 공급사 상품 코드 (대량 등록 시 이 값으로 기존 상품을 찾아 갱신)
+    @Column(length = 64)
+    private String sku;
+    
     @Column(nullable = false)
     private String name;
     
@@ -56,14 +70,24 @@ public class Product {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
+    // 삭제 시각 (null이 아니면 삭제된 상품, 주문 내역에서 참조하므로 행은 남김)
+    // 장바구니 항목은 ProductPurgeJob이 나중에 정리
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
+    // 삭제가 연관 항목으로 전파되지 않도록 cascade 없음
+    @OneToMany(mappedBy = "product")
     @Builder.Default
     private List<CartItem> cartItems = new ArrayList<>();
     
-    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "product")
     @Builder.Default
     private List<OrderItem> orderItems = new ArrayList<>();
     
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
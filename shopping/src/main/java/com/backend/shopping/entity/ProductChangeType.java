@@ -0,0 +1,5 @@
+package com.backend.shopping.entity;
+
+public enum ProductChangeType {
+	CREATED, UPDATED, DELETED, STOCK
+}
@@ -0,0 +1,48 @@
+package com.backend.shopping.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 상품 판매량 시간 구간 스냅샷 (노드별로 자기 행만 갱신하므로 노드 간 경합 없음)
+@Entity
+@Table(name = "product_sales_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_sales_bucket",
+                columnNames = {"product_id", "bucket_start", "node_id"}),
+        indexes = @Index(name = "idx_product_sales_buckets_bucket_start", columnList = "bucket_start"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSalesBucket {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+    
+    // 구간 시작 시각 (구간 크기 단위로 내림)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+    
+    // 판매 수량 (주문 취소는 음수로 반영)
+    @Column(nullable = false)
+    private Long quantity;
+}
@@ -0,0 +1,47 @@
+package com.backend.shopping.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 상품 조회수 시간 구간 집계 (노드별로 모아서 주기적으로 더함)
+@Entity
+@Table(name = "product_view_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_view_stat",
+                columnNames = {"product_id", "bucket_start", "node_id"}),
+        indexes = @Index(name = "idx_product_view_stats_bucket_start", columnList = "bucket_start, product_id"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductViewStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+    
+    // 구간 시작 시각 (구간 크기 단위로 내림)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+    
+    @Column(nullable = false)
+    private Long views;
+}
@@ -0,0 +1,50 @@
+package com.backend.shopping.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 폐기된 토큰 로그 (로그아웃, refresh 토큰 교체), 각 노드가 증분 폴링해서 메모리에 반영
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // JWT jti (unique → 같은 refresh 토큰으로 동시에 재발급하면 한쪽만 성공)
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+    
+    @Column(name = "user_id")
+    private Long userId;
+    
+    // 토큰 만료 시각, 이후에는 기록이 필요 없음
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -70,6 +70,11 @@ public class User implements UserDetails {
     @Column
     private String address;
     
+    // 역할 변경/탈퇴 시 증가 → 이전 버전으로 발급된 토큰 무효화
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Long tokenVersion = 0L;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
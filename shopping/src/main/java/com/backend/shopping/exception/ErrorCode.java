@@ -11,6 +11,9 @@ public enum ErrorCode {
     // Common
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류가 발생했습니다."),
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "입력값이 올바르지 않습니다."),
+    INVALID_SORT_FIELD(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 기준입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "엔티티를 찾을 수 없습니다."),
     
     // User
@@ -18,6 +21,9 @@ public enum ErrorCode {
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
     DUPLICATE_USERNAME(HttpStatus.CONFLICT, "이미 사용 중인 사용자명입니다."),
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "인증 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    IMPORT_IN_PROGRESS(HttpStatus.CONFLICT, "다른 대량 등록 작업이 진행 중입니다."),
+    INVALID_IMPORT_HEADER(HttpStatus.BAD_REQUEST, "CSV 헤더에 필수 열(sku, name, price, stock)이 없습니다."),
     
     // JWT
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
@@ -26,6 +32,7 @@ public enum ErrorCode {
     // Product
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다."),
     INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족합니다."),
+    FACETS_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "상품 필터 정보를 준비 중입니다. 잠시 후 다시 시도해주세요."),
     
     // Cart
     CART_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "장바구니 항목을 찾을 수 없습니다."),
@@ -42,6 +42,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("이메일 또는 비밀번호가 올바르지 않습니다"));
     }
     
+    // 비즈니스 예외 (ErrorCode에 정의된 상태 코드 사용)
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ApiResponse<?>> handleCustomException(CustomException ex) {
+        return ResponseEntity.status(ex.getErrorCode().getStatus())
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+    
     // 일반 런타임 예외
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<?>> handleRuntimeException(RuntimeException ex) {
@@ -4,8 +4,11 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.backend.shopping.dto.response.CartItemResponse;
 import com.backend.shopping.entity.Cart;
 import com.backend.shopping.entity.CartItem;
 import com.backend.shopping.entity.Product;
@@ -15,4 +18,16 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     Optional<CartItem> findByCartAndProduct(Cart cart, Product product);
     List<CartItem> findByCart(Cart cart);
     void deleteByCart(Cart cart);
+    
+    // 장바구니 화면용 (상품 설명 등 엔티티 전체를 읽지 않고 필요한 컬럼만)
+    // 삭제된 상품의 항목은 정리되기 전에도 보이지 않음
+    @Query("SELECT new com.backend.shopping.dto.response.CartItemResponse("
+            + "ci.id, p.id, p.name, p.imageUrl, p.price, p.stock, ci.quantity, ci.createdAt) "
+            + "FROM CartItem ci JOIN ci.product p WHERE ci.cart.id = :cartId AND p.deletedAt IS NULL ORDER BY ci.id")
+    List<CartItemResponse> findItemResponsesByCartId(@Param("cartId") Long cartId);
+    
+    // 장바구니 아이템 수 (삭제된 상품 제외, 장바구니가 없으면 0)
+    @Query("SELECT COALESCE(SUM(ci.quantity), 0) FROM CartItem ci JOIN ci.product p "
+            + "WHERE ci.cart.user.id = :userId AND p.deletedAt IS NULL")
+    long sumQuantityByUserId(@Param("userId") Long userId);
 }
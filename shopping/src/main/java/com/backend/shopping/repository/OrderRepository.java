@@ -1,11 +1,15 @@
 package com.backend.shopping.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.shopping.entity.Order;
@@ -23,6 +27,21 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Page<Order> findByUser(User user, Pageable pageable);
     Page<Order> findByUserId(Long userId, Pageable pageable);
     
+    // 인증 주체의 사용자 ID로 바로 조회 (User 엔티티 로딩 없이)
+    Optional<Order> findByIdAndUserId(Long id, Long userId);
+    Page<Order> findByUserIdOrderByOrderDateDesc(Long userId, Pageable pageable);
+    
+    // 커서 기반 주문 목록 (주문일, ID 내림차순 / COUNT, OFFSET 없음)
+    List<Order> findByUserIdOrderByOrderDateDescIdDesc(Long userId, Limit limit);
+    
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId "
+            + "AND (o.orderDate < :orderDate OR (o.orderDate = :orderDate AND o.id < :id)) "
+            + "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findByUserIdBefore(@Param("userId") Long userId,
+                                   @Param("orderDate") LocalDateTime orderDate,
+                                   @Param("id") Long id,
+                                   Limit limit);
+    
     // 만약 페이징 필요 없으면 List도 사용 가능
     List<Order> findByUserOrderByOrderDateDesc(User user);
 }
@@ -0,0 +1,35 @@
+package com.backend.shopping.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.shopping.entity.ProductChangeLog;
+
+@Repository
+public interface ProductChangeLogRepository extends JpaRepository<ProductChangeLog, Long> {
+    
+    // 마지막으로 반영한 ID 이후의 로그만 조회 (증분 폴링)
+    List<ProductChangeLog> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    // 노드가 마지막으로 기록한 로그
+    Optional<ProductChangeLog> findFirstByNodeIdOrderByIdDesc(String nodeId);
+    
+    // 가장 최근 변경 ID (시작 시점 이전 로그는 캐시가 비어 있으므로 건너뜀)
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM ProductChangeLog c")
+    Long findMaxId();
+    
+    // 보관 기간이 지난 로그 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProductChangeLog c WHERE c.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
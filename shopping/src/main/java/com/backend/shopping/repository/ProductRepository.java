@@ -1,29 +1,33 @@
 package com.backend.shopping.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.shopping.entity.Product;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
-    
-    // 카테고리별 상품 조회
-    Page<Product> findByCategory(String category, Pageable pageable);
-    
-    // 상품명으로 검색
-    Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
-    
-    // 재고가 있는 상품만 조회
-    @Query("SELECT p FROM Product p WHERE p.stock > 0")
-    Page<Product> findAvailableProducts(Pageable pageable);
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductSummaryRepository {
     
     // 카테고리 목록 조회
-    @Query("SELECT DISTINCT p.category FROM Product p WHERE p.category IS NOT NULL")
+    @Query("SELECT DISTINCT p.category FROM Product p WHERE p.category IS NOT NULL AND p.deletedAt IS NULL")
     List<String> findDistinctCategories();
+    
+    // 삭제되지 않은 상품 (findById는 주문 내역 등 삭제된 상품도 필요한 곳에서만 사용)
+    default Optional<Product> findActiveById(Long id) {
+        return findById(id).filter(product -> !product.isDeleted());
+    }
+    
+    // 소프트 삭제 (없거나 이미 삭제된 상품이면 0)
+    @Modifying
+    @Query("UPDATE Product p SET p.deletedAt = :now, p.updatedAt = :now WHERE p.id = :id AND p.deletedAt IS NULL")
+    int softDelete(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,47 @@
+package com.backend.shopping.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.shopping.entity.ProductSalesBucket;
+
+@Repository
+public interface ProductSalesBucketRepository extends JpaRepository<ProductSalesBucket, Long> {
+    
+    // 이 노드의 구간 행에 판매량 더하기 (행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE ProductSalesBucket b SET b.quantity = b.quantity + :delta "
+            + "WHERE b.productId = :productId AND b.bucketStart = :bucketStart AND b.nodeId = :nodeId")
+    int addQuantity(@Param("productId") Long productId,
+                    @Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("nodeId") String nodeId,
+                    @Param("delta") long delta);
+    
+    // 윈도우 안의 상품/구간별 판매량 (모든 노드 합산, 삭제된 상품 제외)
+    @Query("SELECT b.productId AS productId, p.category AS category, b.bucketStart AS bucketStart, "
+            + "SUM(b.quantity) AS quantity "
+            + "FROM ProductSalesBucket b, Product p WHERE p.id = b.productId AND p.deletedAt IS NULL "
+            + "AND b.bucketStart >= :from "
+            + "GROUP BY b.productId, p.category, b.bucketStart")
+    List<SalesSum> sumByProductAndBucket(@Param("from") LocalDateTime from);
+    
+    // 윈도우를 벗어난 구간 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProductSalesBucket b WHERE b.bucketStart < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+    
+    interface SalesSum {
+        Long getProductId();
+        String getCategory();
+        LocalDateTime getBucketStart();
+        Long getQuantity();
+    }
+}
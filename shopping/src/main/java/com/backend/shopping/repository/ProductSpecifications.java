@@ -0,0 +1,82 @@
+package com.backend.shopping.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.backend.shopping.entity.Product;
+
+/**
+ * 상품 검색 조건 (JPA Specification).
+ * 조건마다 하나씩 만들어 Specification.allOf로 조합하고, 값이 없는 조건은 null을 반환해 무시된다.
+ * 카테고리/가격/등록일/재고 조건은 products 테이블 인덱스를 탈 수 있는 형태로만 만든다.
+ */
+public final class ProductSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductSpecifications() {
+    }
+
+    // 상품명 부분 일치 (대소문자 무시)
+    public static Specification<Product> nameContains(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(name.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE);
+    }
+
+    public static Specification<Product> categoryEquals(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("category"), category.trim());
+    }
+
+    public static Specification<Product> inStock(Boolean inStock) {
+        if (inStock == null || !inStock) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThan(root.get("stock"), 0);
+    }
+
+    // 가격 범위 (양 끝 포함, 한쪽만 지정 가능)
+    public static Specification<Product> priceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (minPrice == null) {
+                return cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+            }
+            if (maxPrice == null) {
+                return cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+            }
+            return cb.between(root.get("price"), minPrice, maxPrice);
+        };
+    }
+
+    // 등록일 범위 (from 포함, to 미포함)
+    public static Specification<Product> createdBetween(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (createdFrom == null && createdTo == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (createdFrom == null) {
+                return cb.lessThan(root.get("createdAt"), createdTo);
+            }
+            if (createdTo == null) {
+                return cb.greaterThanOrEqualTo(root.get("createdAt"), createdFrom);
+            }
+            return cb.and(cb.greaterThanOrEqualTo(root.get("createdAt"), createdFrom),
+                    cb.lessThan(root.get("createdAt"), createdTo));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
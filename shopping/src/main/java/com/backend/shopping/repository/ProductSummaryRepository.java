@@ -0,0 +1,24 @@
+package com.backend.shopping.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.entity.Product;
+
+// 목록 조회용 요약 프로젝션 (엔티티를 만들지 않고 필요한 컬럼만 조회)
+public interface ProductSummaryRepository {
+    
+    Page<ProductSummaryResponse> findSummaries(Specification<Product> spec, Pageable pageable);
+    
+    // 전체 건수 없이 상위 limit건
+    List<ProductSummaryResponse> findSummaries(Specification<Product> spec, Sort sort, int limit);
+    
+    // 순서는 보장하지 않음
+    List<ProductSummaryResponse> findSummariesByIds(Collection<Long> ids);
+}
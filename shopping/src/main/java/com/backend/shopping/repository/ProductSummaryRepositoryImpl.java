@@ -0,0 +1,90 @@
+package com.backend.shopping.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.entity.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요약 프로젝션 구현 (Criteria 생성자 표현식).
+ * SELECT 절에 요약 컬럼만 넣으므로 description 등은 읽지 않고, 결과는 영속성 컨텍스트에 올라가지 않는다.
+ * 삭제된 상품은 모든 요약 조회에서 빠진다 (목록, 인기/조회수 순위, 검색 색인 갱신 모두 이 경로를 씀).
+ */
+@RequiredArgsConstructor
+class ProductSummaryRepositoryImpl implements ProductSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<ProductSummaryResponse> findSummaries(Specification<Product> spec, Pageable pageable) {
+        List<ProductSummaryResponse> content = query(spec, pageable.getSort(),
+                (int) pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<ProductSummaryResponse> findSummaries(Specification<Product> spec, Sort sort, int limit) {
+        return query(spec, sort, 0, limit);
+    }
+
+    @Override
+    public List<ProductSummaryResponse> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return query((root, query, cb) -> root.get("id").in(ids), Sort.unsorted(), 0, ids.size());
+    }
+
+    private List<ProductSummaryResponse> query(Specification<Product> spec, Sort sort, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummaryResponse> query = cb.createQuery(ProductSummaryResponse.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.construct(ProductSummaryResponse.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("price"),
+                root.get("stock"),
+                root.get("category"),
+                root.get("imageUrl"),
+                root.get("createdAt")));
+        query.where(activeAnd(spec, root, query, cb));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.count(root));
+        query.where(activeAnd(spec, root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate activeAnd(Specification<Product> spec, Root<Product> root,
+                                       CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate active = cb.isNull(root.get("deletedAt"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        return predicate != null ? cb.and(active, predicate) : active;
+    }
+}
@@ -0,0 +1,55 @@
+package com.backend.shopping.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.shopping.entity.ProductViewStat;
+
+@Repository
+public interface ProductViewStatRepository extends JpaRepository<ProductViewStat, Long> {
+    
+    // 이 노드의 구간 행에 조회수 더하기 (행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE ProductViewStat v SET v.views = v.views + :views "
+            + "WHERE v.productId = :productId AND v.bucketStart = :bucketStart AND v.nodeId = :nodeId")
+    int addViews(@Param("productId") Long productId,
+                 @Param("bucketStart") LocalDateTime bucketStart,
+                 @Param("nodeId") String nodeId,
+                 @Param("views") long views);
+    
+    // 기간 내 조회수 많은 상품 (모든 노드 합산)
+    @Query("SELECT v.productId AS productId, SUM(v.views) AS views FROM ProductViewStat v "
+            + "WHERE v.bucketStart >= :from AND v.bucketStart < :to "
+            + "GROUP BY v.productId ORDER BY SUM(v.views) DESC, v.productId")
+    List<ViewSum> findMostViewed(@Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 Pageable pageable);
+    
+    // 지정한 상품들의 기간 내 조회수
+    @Query("SELECT v.productId AS productId, SUM(v.views) AS views FROM ProductViewStat v "
+            + "WHERE v.productId IN :productIds AND v.bucketStart >= :from AND v.bucketStart < :to "
+            + "GROUP BY v.productId")
+    List<ViewSum> sumViews(@Param("productIds") Collection<Long> productIds,
+                           @Param("from") LocalDateTime from,
+                           @Param("to") LocalDateTime to);
+    
+    // 보관 기간이 지난 구간 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProductViewStat v WHERE v.bucketStart < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+    
+    interface ViewSum {
+        Long getProductId();
+        Long getViews();
+    }
+}
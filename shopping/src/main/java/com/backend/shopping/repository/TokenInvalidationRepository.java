@@ -0,0 +1,27 @@
+package com.backend.shopping.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.shopping.entity.TokenInvalidation;
+
+@Repository
+public interface TokenInvalidationRepository extends JpaRepository<TokenInvalidation, Long> {
+    
+    // 마지막으로 반영한 ID 이후의 로그만 조회 (증분 폴링)
+    List<TokenInvalidation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    // 토큰 최대 수명이 지난 로그 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TokenInvalidation t WHERE t.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
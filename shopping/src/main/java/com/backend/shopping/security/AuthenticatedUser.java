@@ -0,0 +1,82 @@
+package com.backend.shopping.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.backend.shopping.entity.Role;
+import com.backend.shopping.entity.User;
+
+import lombok.Getter;
+
+/**
+ * JWT 클레임만으로 만든 경량 인증 주체.
+ * 요청마다 User 엔티티(+Cart)를 조회하지 않고 서비스에서 사용자 ID/역할을 바로 사용한다.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final List<GrantedAuthority> authorities;
+    // 인증에 사용된 토큰 (로그아웃 시 폐기 대상), 없으면 null
+    private final String tokenId;
+    private final long tokenExpirationMillis;
+
+    public AuthenticatedUser(Long id, String email, Role role) {
+        this(id, email, role, null, 0L);
+    }
+
+    public AuthenticatedUser(Long id, String email, Role role, String tokenId, long tokenExpirationMillis) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        this.tokenId = tokenId;
+        this.tokenExpirationMillis = tokenExpirationMillis;
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    // 토큰 기반 인증이므로 비밀번호는 보관하지 않는다
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
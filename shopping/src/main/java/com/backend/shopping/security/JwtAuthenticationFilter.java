@@ -1,15 +1,19 @@
 package com.backend.shopping.security;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.backend.shopping.entity.Role;
+import com.backend.shopping.entity.User;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,8 +24,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
-    private final JwtTokenProvider tokenProvider;
+    private final JwtTokenVerifier tokenVerifier;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -30,12 +36,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String jwt = getJwtFromRequest(request);
         
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            String username = tokenProvider.getUsernameFromToken(jwt);
-            
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        // 토큰 파싱/서명 검증은 한 번만 (캐시 적중 시 생략)
+        Optional<TokenClaims> claims = StringUtils.hasText(jwt) ? tokenVerifier.verify(jwt) : Optional.empty();
+        
+        // 클레임만으로 인증 주체 생성 (요청마다 사용자 조회하지 않음)
+        AuthenticatedUser principal = claims.map(this::toPrincipal).orElse(null);
+        
+        if (principal != null) {
             UsernamePasswordAuthenticationToken authentication = 
-                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -44,6 +53,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    private AuthenticatedUser toPrincipal(TokenClaims claims) {
+        // refresh 토큰으로는 API 인증 불가
+        if (!claims.isAccessToken()) {
+            return null;
+        }
+        // 로그아웃 등으로 폐기된 토큰 거부 (메모리 조회만)
+        if (tokenRevocationRegistry.isRevoked(claims.getTokenId(), claims.getExpirationMillis())) {
+            return null;
+        }
+        
+        if (claims.getUserId() == null) {
+            // uid 클레임이 없는 이전 형식의 토큰은 한 번 조회해서 처리
+            try {
+                User user = (User) userDetailsService.loadUserByUsername(claims.getSubject());
+                return AuthenticatedUser.from(user);
+            } catch (UsernameNotFoundException ex) {
+                return null;
+            }
+        }
+        
+        // 역할 변경/탈퇴로 무효화된 토큰 거부
+        if (!tokenVersionRegistry.isCurrent(claims.getUserId(), claims.getTokenVersion())) {
+            return null;
+        }
+        return new AuthenticatedUser(claims.getUserId(), claims.getSubject(), Role.valueOf(claims.getRole()),
+                claims.getTokenId(), claims.getExpirationMillis());
+    }
+    
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
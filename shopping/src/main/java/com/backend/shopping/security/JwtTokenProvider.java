@@ -1,73 +1,93 @@
 package com.backend.shopping.security;
 
 import java.util.Date;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.backend.shopping.entity.User;
+
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 
 
 @Component
 public class JwtTokenProvider {
+	// 사용자 조회 없이 인증 주체를 만들 수 있도록 토큰에 담는 클레임
+	public static final String CLAIM_USER_ID = "uid";
+	public static final String CLAIM_ROLE = "role";
+	public static final String CLAIM_TOKEN_VERSION = "ver";
+	public static final String CLAIM_TOKEN_TYPE = "typ";
+	
+	public static final String TOKEN_TYPE_ACCESS = "access";
+	public static final String TOKEN_TYPE_REFRESH = "refresh";
+	
 	private final SecretKey key;
 	private final long jwtExpiration;
+	private final long refreshExpiration;
+	// JwtParser는 불변/스레드 안전하므로 한 번만 생성해서 재사용
+	private final JwtParser jwtParser;
 	
 	public JwtTokenProvider(@Value("${jwt.secret}") String secret,
-							@Value("${jwt.expiration}") long jwtExpiration) {
+							@Value("${jwt.expiration}") long jwtExpiration,
+							@Value("${jwt.refresh-expiration:1209600000}") long refreshExpiration) {
 		this.key = Keys.hmacShaKeyFor(secret.getBytes());
 		this.jwtExpiration=jwtExpiration;
+		this.refreshExpiration = refreshExpiration;
+		this.jwtParser = Jwts.parserBuilder()
+							.setSigningKey(key)
+							.build();
 	}
 	
-	//JWT 토큰 
-	public String generateToken(Authentication authentication) {
-		UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-		Date expriyDate = new Date(System.currentTimeMillis()+jwtExpiration);
+	//JWT 토큰 (짧은 수명의 access 토큰)
+	public String generateToken(User user) {
+		return buildToken(user, TOKEN_TYPE_ACCESS, jwtExpiration);
+	}
+	
+	//refresh 토큰 (access 토큰 재발급 전용, 인증에는 사용 불가)
+	public String generateRefreshToken(User user) {
+		return buildToken(user, TOKEN_TYPE_REFRESH, refreshExpiration);
+	}
+	
+	public long getRefreshExpiration() {
+		return refreshExpiration;
+	}
+	
+	// jti는 로그아웃/폐기 시 토큰을 식별하는 데 사용
+	private String buildToken(User user, String tokenType, long expiration) {
+		Date expriyDate = new Date(System.currentTimeMillis()+expiration);
 		
 		return Jwts.builder()
-				.setSubject(userPrincipal.getUsername())
+				.setId(UUID.randomUUID().toString())
+				.setSubject(user.getUsername())
+				.claim(CLAIM_USER_ID, user.getId())
+				.claim(CLAIM_ROLE, user.getRole().name())
+				.claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
+				.claim(CLAIM_TOKEN_TYPE, tokenType)
 				.setIssuedAt(new Date())
 				.setExpiration(expriyDate)
 				.signWith(key, SignatureAlgorithm.HS512)
 				.compact();
 	}
 	
-	public String getUsernameFromToken (String token) {
-		Claims claims = Jwts.parserBuilder()
-							.setSigningKey(key)
-							.build()
-							.parseClaimsJws(token)
-							.getBody();
-		return claims.getSubject();
-	}
-	
-	//JWT 유효 검증
-	public boolean validateToken(String token) {
-		try {
-			Jwts.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token);
-			return true;
-		} catch (MalformedJwtException ex) {
-			System.err.println("JWT 토큰 없음");
-		}catch (ExpiredJwtException ex) {
-			System.err.println("Expired JWT Token");
-		}catch(UnsupportedJwtException ex) {
-			System.err.println("Unsupported JWT token");
-		}catch(IllegalArgumentException ex) {
-			System.err.println("JWT claims string is empty");
-		}
-		return false;
+	//JWT 파싱 + 서명 검증 (한 번만 수행), 실패 시 JwtException
+	public TokenClaims parseToken(String token) {
+		Claims claims = jwtParser.parseClaimsJws(token).getBody();
+		return TokenClaims.builder()
+				.tokenId(claims.getId())
+				.tokenType(claims.get(CLAIM_TOKEN_TYPE, String.class))
+				.subject(claims.getSubject())
+				.userId(claims.get(CLAIM_USER_ID, Long.class))
+				.role(claims.get(CLAIM_ROLE, String.class))
+				.tokenVersion(claims.get(CLAIM_TOKEN_VERSION, Long.class))
+				.issuedAt(claims.getIssuedAt())
+				.expiration(claims.getExpiration())
+				.build();
 	}
 }
@@ -0,0 +1,129 @@
+package com.backend.shopping.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검증된 JWT 캐시.
+ * 토큰을 한 번만 파싱/서명검증하고, 같은 토큰으로 들어오는 요청은 만료 전까지 캐시된 클레임을 사용한다.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 캐시 크기는 jwt.cache.max-entries로 제한된다.
+ */
+@Component
+@Slf4j
+public class JwtTokenVerifier {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtTokenProvider tokenProvider;
+    private final int maxEntries;
+    private final Map<String, TokenClaims> cache = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtTokenVerifier(JwtTokenProvider tokenProvider,
+                            MeterRegistry meterRegistry,
+                            @Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+        this.tokenProvider = tokenProvider;
+        this.maxEntries = maxEntries;
+        this.hitCounter = Counter.builder("jwt.verification.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.verification.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verification.cache.size", cache, Map::size)
+                .register(meterRegistry);
+    }
+
+    // 토큰 검증 (유효하지 않으면 empty)
+    public Optional<TokenClaims> verify(String token) {
+        long now = System.currentTimeMillis();
+        String key = digest(token);
+
+        TokenClaims cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                hitCounter.increment();
+                return Optional.of(cached);
+            }
+            cache.remove(key, cached);
+        }
+        missCounter.increment();
+
+        TokenClaims claims;
+        try {
+            claims = tokenProvider.parseToken(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("JWT 검증 실패: {}", ex.getMessage());
+            return Optional.empty();
+        }
+
+        store(key, claims, now);
+        return Optional.of(claims);
+    }
+
+    public long getHitCount() {
+        return (long) hitCounter.count();
+    }
+
+    public long getMissCount() {
+        return (long) missCounter.count();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void store(String key, TokenClaims claims, long now) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (cache.size() >= maxEntries) {
+            evict(now);
+        }
+        cache.put(key, claims);
+    }
+
+    // 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 일부(1/8)를 임의로 비운다
+    private void evict(long now) {
+        cache.values().removeIf(claims -> claims.isExpired(now));
+        if (cache.size() < maxEntries) {
+            return;
+        }
+        int toRemove = Math.max(1, maxEntries / 8);
+        Iterator<String> it = cache.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+}
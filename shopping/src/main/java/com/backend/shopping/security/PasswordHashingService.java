@@ -0,0 +1,150 @@
+package com.backend.shopping.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 해시/검증 전용 스레드 풀.
+ * 로그인 폭주 시에도 서블릿 스레드를 모두 점유하지 않도록 동시 실행 수와 대기열 크기를 제한하고,
+ * 대기열이 가득 차면 기다리지 않고 바로 AUTH_BUSY(503)로 거절한다.
+ */
+@Component
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final double rehashRate;
+    // 존재하지 않는 사용자도 같은 시간이 걸리도록 비교용으로 쓰는 해시 (계정 존재 여부 노출 방지)
+    private final String dummyHash;
+
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+    private final Counter rehashCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${password.hashing.pool-size:0}") int poolSize,
+                                  @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${password.hashing.timeout-ms:5000}") long timeoutMillis,
+                                  @Value("${password.rehash-rate:0.1}") double rehashRate) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.rehashRate = rehashRate;
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-timing");
+
+        // 0이면 코어 수의 절반 (최소 2) → 나머지 코어는 일반 요청 처리에 남겨둔다
+        int threads = poolSize > 0 ? poolSize : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash.duration").tag("operation", "encode").register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.hash.duration").tag("operation", "verify").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+        this.rehashCounter = Counter.builder("password.hash.rehashed").register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    // 비밀번호 해시 (회원가입, 비밀번호 변경)
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    // 비밀번호 검증 (로그인), 사용자가 없으면 encodedPassword에 null 전달
+    public boolean matches(String rawPassword, String encodedPassword) {
+        String target = encodedPassword != null ? encodedPassword : dummyHash;
+        Boolean matched = submit(() -> verifyTimer.recordCallable(
+                () -> passwordEncoder.matches(rawPassword, target)));
+        return encodedPassword != null && Boolean.TRUE.equals(matched);
+    }
+
+    /**
+     * 현재 설정된 cost보다 낮은 해시면 백그라운드에서 재해시.
+     * 풀이 한가할 때만, 그리고 password.rehash-rate 비율만큼만 수행해서 cost 변경이 한 번에 몰리지 않게 한다.
+     */
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> onRehashed) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        if (!executor.getQueue().isEmpty() || ThreadLocalRandom.current().nextDouble() >= rehashRate) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    onRehashed.accept(encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+                    rehashCounter.increment();
+                } catch (Exception e) {
+                    log.warn("비밀번호 재해시 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 다음 로그인 때 다시 시도
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CustomException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
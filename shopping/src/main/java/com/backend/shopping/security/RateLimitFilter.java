@@ -0,0 +1,145 @@
+package com.backend.shopping.security;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.backend.shopping.dto.response.ApiResponse;
+import com.backend.shopping.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 클라이언트별 요청 수 제한.
+ * JwtAuthenticationFilter 다음에 실행되어 로그인 사용자는 사용자 ID, 그 외에는 IP 기준으로 제한한다.
+ * 경로 그룹(auth/catalog/cart/order)마다 별도의 버킷과 한도를 가진다.
+ * 서블릿 필터로 자동 등록되지 않도록 SecurityConfig에서 막고, 보안 필터 체인에서만 실행한다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    enum RouteGroup {
+        AUTH("/api/auth"),
+        CATALOG("/api/products"),
+        CART("/api/cart"),
+        ORDER("/api/orders");
+
+        private final String pathPrefix;
+
+        RouteGroup(String pathPrefix) {
+            this.pathPrefix = pathPrefix;
+        }
+
+        static RouteGroup of(String path) {
+            for (RouteGroup group : values()) {
+                if (path.startsWith(group.pathPrefix)) {
+                    return group;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Map<RouteGroup, TokenBucketRateLimiter> limiters = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, Counter> rejectedCounters = new EnumMap<>(RouteGroup.class);
+
+    public RateLimitFilter(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.max-clients:100000}") int maxClients,
+                           @Value("${rate-limit.stripes:64}") int stripes,
+                           @Value("${rate-limit.auth.capacity:10}") long authCapacity,
+                           @Value("${rate-limit.auth.refill-per-second:0.2}") double authRefill,
+                           @Value("${rate-limit.catalog.capacity:100}") long catalogCapacity,
+                           @Value("${rate-limit.catalog.refill-per-second:20}") double catalogRefill,
+                           @Value("${rate-limit.cart.capacity:30}") long cartCapacity,
+                           @Value("${rate-limit.cart.refill-per-second:5}") double cartRefill,
+                           @Value("${rate-limit.order.capacity:10}") long orderCapacity,
+                           @Value("${rate-limit.order.refill-per-second:1}") double orderRefill) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        limiters.put(RouteGroup.AUTH, new TokenBucketRateLimiter(authCapacity, authRefill, maxClients, stripes));
+        limiters.put(RouteGroup.CATALOG, new TokenBucketRateLimiter(catalogCapacity, catalogRefill, maxClients, stripes));
+        limiters.put(RouteGroup.CART, new TokenBucketRateLimiter(cartCapacity, cartRefill, maxClients, stripes));
+        limiters.put(RouteGroup.ORDER, new TokenBucketRateLimiter(orderCapacity, orderRefill, maxClients, stripes));
+
+        for (RouteGroup group : RouteGroup.values()) {
+            String tag = group.name().toLowerCase();
+            rejectedCounters.put(group, Counter.builder("rate.limit.rejected").tag("group", tag).register(meterRegistry));
+            Gauge.builder("rate.limit.clients", limiters.get(group), TokenBucketRateLimiter::size)
+                    .tag("group", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || RouteGroup.of(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RouteGroup group = RouteGroup.of(request.getRequestURI());
+        TokenBucketRateLimiter limiter = limiters.get(group);
+        String key = clientKey(request);
+        long now = System.nanoTime();
+
+        long result = limiter.tryAcquire(key, now);
+        response.setHeader("RateLimit-Limit", String.valueOf(limiter.getCapacity()));
+
+        if (result < 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(-result + 999_999_999L));
+            rejectedCounters.get(group).increment();
+            response.setHeader("RateLimit-Remaining", "0");
+            response.setHeader("RateLimit-Reset", String.valueOf(retryAfterSeconds));
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getWriter(), ApiResponse.error(ErrorCode.TOO_MANY_REQUESTS.getMessage()));
+            return;
+        }
+
+        response.setHeader("RateLimit-Remaining", String.valueOf(result));
+        response.setHeader("RateLimit-Reset",
+                String.valueOf(TimeUnit.NANOSECONDS.toSeconds(limiter.nanosUntilFull(key, now) + 999_999_999L)));
+        filterChain.doFilter(request, response);
+    }
+
+    // 유휴 버킷 정리 (가득 찬 버킷은 지워도 동작이 같다)
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:30000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        limiters.values().forEach(limiter -> limiter.evictIdle(now));
+    }
+
+    // 로그인 사용자는 사용자 ID, 그 외에는 IP
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return "u:" + principal.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,120 @@
+package com.backend.shopping.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA 방식).
+ * 클라이언트마다 "이론상 다음 도착 시각(TAT)" 하나만 AtomicLong으로 보관하고 CAS로 갱신한다.
+ * TAT가 현재 시각보다 과거인 항목은 버킷이 가득 찬 상태와 같으므로 언제 지워도 동작이 바뀌지 않는다.
+ * 항목은 여러 개의 ConcurrentHashMap(stripe)에 나눠 담고, stripe마다 최대 개수를 제한한다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long capacity;
+    // 토큰 하나가 채워지는 간격
+    private final long emissionIntervalNanos;
+    // 버킷이 비어 있는 상태에서 가득 찰 때까지 걸리는 시간 (허용 버스트)
+    private final long burstToleranceNanos;
+    private final int maxEntriesPerStripe;
+    private final Map<String, AtomicLong>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(long capacity, double refillPerSecond, int maxEntries, int stripeCount) {
+        this.capacity = capacity;
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        int stripeSize = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / stripeSize);
+        this.stripes = new Map[stripeSize];
+        for (int i = 0; i < stripeSize; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 토큰 하나를 사용한다.
+     * 허용되면 남은 토큰 수(0 이상), 거절되면 다시 시도할 수 있을 때까지 남은 시간(나노초)을 음수로 반환한다.
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong tat = bucket(key, nowNanos);
+        while (true) {
+            long current = tat.get();
+            long newTat = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return -waitNanos;
+            }
+            if (tat.compareAndSet(current, newTat)) {
+                return (burstToleranceNanos - (newTat - nowNanos)) / emissionIntervalNanos;
+            }
+        }
+    }
+
+    // 버킷이 다시 가득 찰 때까지 남은 시간 (RateLimit-Reset)
+    public long nanosUntilFull(String key, long nowNanos) {
+        AtomicLong tat = stripe(key).get(key);
+        return tat == null ? 0L : Math.max(0L, tat.get() - nowNanos);
+    }
+
+    // 가득 찬 (= 한동안 요청이 없던) 버킷 정리
+    public int evictIdle(long nowNanos) {
+        int removed = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            Iterator<AtomicLong> it = stripe.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().get() <= nowNanos) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private AtomicLong bucket(String key, long nowNanos) {
+        Map<String, AtomicLong> stripe = stripe(key);
+        AtomicLong tat = stripe.get(key);
+        if (tat != null) {
+            return tat;
+        }
+        if (stripe.size() >= maxEntriesPerStripe) {
+            makeRoom(stripe, nowNanos);
+        }
+        return stripe.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+    }
+
+    // stripe가 가득 차면 유휴 항목부터, 그래도 부족하면 임의의 일부를 비운다
+    private void makeRoom(Map<String, AtomicLong> stripe, long nowNanos) {
+        stripe.values().removeIf(tat -> tat.get() <= nowNanos);
+        if (stripe.size() < maxEntriesPerStripe) {
+            return;
+        }
+        int toRemove = stripe.size() - maxEntriesPerStripe + Math.max(1, maxEntriesPerStripe / 8);
+        Iterator<String> it = stripe.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private Map<String, AtomicLong> stripe(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+}
@@ -0,0 +1,39 @@
+package com.backend.shopping.security;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 서명 검증이 끝난 JWT 클레임 (불변)
+@Getter
+@Builder
+@AllArgsConstructor
+public class TokenClaims {
+    private final String tokenId;
+    private final String tokenType;
+    private final String subject;
+    private final Long userId;
+    private final String role;
+    private final Long tokenVersion;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    public long getExpirationMillis() {
+        return expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return getExpirationMillis() <= nowMillis;
+    }
+
+    // typ 클레임이 없는 이전 형식의 토큰은 access 토큰으로 취급
+    public boolean isAccessToken() {
+        return tokenType == null || JwtTokenProvider.TOKEN_TYPE_ACCESS.equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtTokenProvider.TOKEN_TYPE_REFRESH.equals(tokenType);
+    }
+}
@@ -0,0 +1,171 @@
+package com.backend.shopping.security;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backend.shopping.entity.RevokedToken;
+import com.backend.shopping.repository.RevokedTokenRepository;
+import com.backend.shopping.util.IdPollCursor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폐기된 토큰(jti) 레지스트리.
+ * 토큰 만료 시각 기준으로 구간(bucket)을 나누고, 구간마다 Bloom 필터 + 정확한 집합을 둔다.
+ * 요청 경로에서는 대부분 Bloom 필터에서 바로 "없음"으로 끝나고, 구간이 지나면 통째로 버린다.
+ * 노드 간 동기화는 revoked_tokens 테이블 증분 폴링으로 한다 (TokenVersionRegistry와 같은 방식).
+ * 늦게 커밋된 폐기 기록을 놓치지 않도록 폴링에서 빠진 ID는 gap-timeout-millis 동안 다시 조회한다.
+ */
+@Component
+@Slf4j
+public class TokenRevocationRegistry {
+
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    private static final int MAX_POLL_GAPS = 10_000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long bucketMillis;
+    private final int expectedPerBucket;
+
+    // 만료 구간 번호(만료시각 / bucketMillis) → 구간
+    private final ConcurrentNavigableMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+    private final IdPollCursor cursor;
+
+    private final Counter falsePositiveCounter;
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${jwt.revocation.bucket-millis:3600000}") long bucketMillis,
+                                   @Value("${jwt.revocation.expected-per-bucket:10000}") int expectedPerBucket,
+                                   @Value("${jwt.revocation.gap-timeout-millis:300000}") long gapTimeoutMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bucketMillis = bucketMillis;
+        this.expectedPerBucket = expectedPerBucket;
+        this.cursor = new IdPollCursor(0L, gapTimeoutMillis, MAX_POLL_GAPS);
+        this.falsePositiveCounter = Counter.builder("jwt.revocation.bloom.false-positive").register(meterRegistry);
+        Gauge.builder("jwt.revocation.size", this, TokenRevocationRegistry::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        poll();
+    }
+
+    // 폐기된 토큰인지 (메모리 조회만)
+    public boolean isRevoked(String tokenId, long expirationMillis) {
+        if (tokenId == null) {
+            return false;
+        }
+        Bucket bucket = buckets.get(bucketOf(expirationMillis));
+        if (bucket == null || !bucket.filter.mightContain(tokenId)) {
+            return false;
+        }
+        if (bucket.tokenIds.contains(tokenId)) {
+            return true;
+        }
+        falsePositiveCounter.increment();
+        return false;
+    }
+
+    // 폐기 기록 (호출한 트랜잭션에 참여), 로컬 노드는 커밋되면 바로 반영 (롤백되면 반영하지 않음)
+    public void revoke(String tokenId, Long userId, long expirationMillis) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .userId(userId)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expirationMillis), ZoneId.systemDefault()))
+                .build());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(tokenId, expirationMillis);
+                }
+            });
+        } else {
+            apply(tokenId, expirationMillis);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval:5000}")
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        // 지난 폴링 이후에 커밋된, 이미 지나친 ID의 폐기 기록
+        List<Long> gapIds = cursor.pendingGaps(now);
+        for (int from = 0; from < gapIds.size(); from += POLL_BATCH_SIZE) {
+            for (RevokedToken revoked : revokedTokenRepository.findAllById(
+                    gapIds.subList(from, Math.min(from + POLL_BATCH_SIZE, gapIds.size())))) {
+                cursor.fill(revoked.getId());
+                apply(revoked);
+            }
+        }
+
+        List<RevokedToken> batch;
+        do {
+            batch = revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(
+                    cursor.getLastSeenId(), PageRequest.of(0, POLL_BATCH_SIZE));
+            for (RevokedToken revoked : batch) {
+                cursor.advance(revoked.getId(), now);
+                apply(revoked);
+            }
+        } while (batch.size() == POLL_BATCH_SIZE);
+    }
+
+    // 만료 구간이 모두 지난 버킷은 통째로 버리고, 테이블에서도 정리
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval:600000}")
+    public void cleanup() {
+        buckets.headMap(bucketOf(System.currentTimeMillis())).clear();
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 폐기 토큰 기록 정리: {}건", deleted);
+        }
+    }
+
+    public int size() {
+        return buckets.values().stream().mapToInt(b -> b.tokenIds.size()).sum();
+    }
+
+    private void apply(RevokedToken revoked) {
+        apply(revoked.getTokenId(), revoked.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private void apply(String tokenId, long expirationMillis) {
+        if (expirationMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        Bucket bucket = buckets.computeIfAbsent(bucketOf(expirationMillis), k -> new Bucket(expectedPerBucket));
+        // 정확한 집합에 먼저 넣어야 Bloom 필터 통과 후 조회에서 누락되지 않는다
+        bucket.tokenIds.add(tokenId);
+        bucket.filter.put(tokenId);
+    }
+
+    private long bucketOf(long expirationMillis) {
+        return expirationMillis / bucketMillis;
+    }
+
+    private static class Bucket {
+        private final BloomFilter filter;
+        private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+        Bucket(int expectedInsertions) {
+            this.filter = new BloomFilter(expectedInsertions, BLOOM_FALSE_POSITIVE_RATE);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.backend.shopping.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backend.shopping.entity.TokenInvalidation;
+import com.backend.shopping.repository.TokenInvalidationRepository;
+import com.backend.shopping.util.IdPollCursor;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 최소 유효 토큰 버전 레지스트리.
+ * 역할 변경/탈퇴 시 token_invalidations 테이블에 기록하고, 각 노드는 이를 증분 폴링해서 메모리에 반영한다.
+ * 요청 경로에서는 메모리 조회만 하므로 DB를 타지 않는다.
+ * 늦게 커밋된 기록을 놓치지 않도록 폴링에서 빠진 ID는 gap-timeout-millis 동안 다시 조회한다.
+ */
+@Component
+@Slf4j
+public class TokenVersionRegistry {
+
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final int MAX_POLL_GAPS = 10_000;
+
+    private final TokenInvalidationRepository invalidationRepository;
+    private final long retentionMillis;
+
+    private final Map<Long, Long> minVersions = new ConcurrentHashMap<>();
+    private final IdPollCursor cursor;
+
+    public TokenVersionRegistry(TokenInvalidationRepository invalidationRepository,
+                                @Value("${jwt.expiration}") long jwtExpiration,
+                                @Value("${jwt.refresh-expiration:1209600000}") long refreshExpiration,
+                                @Value("${jwt.invalidation.gap-timeout-millis:300000}") long gapTimeoutMillis) {
+        this.invalidationRepository = invalidationRepository;
+        this.cursor = new IdPollCursor(0L, gapTimeoutMillis, MAX_POLL_GAPS);
+        // refresh 토큰에도 버전이 담기므로 더 긴 수명 기준으로 보관
+        this.retentionMillis = Math.max(jwtExpiration, refreshExpiration);
+    }
+
+    @PostConstruct
+    void init() {
+        poll();
+    }
+
+    // 토큰 버전이 현재 유효한지 (레지스트리에 없으면 무효화된 적 없는 사용자)
+    public boolean isCurrent(Long userId, Long tokenVersion) {
+        Long min = minVersions.get(userId);
+        if (min == null) {
+            return true;
+        }
+        return tokenVersion != null && tokenVersion >= min;
+    }
+
+    // 무효화 기록 (호출한 트랜잭션에 참여), 로컬 노드는 커밋되면 바로 반영 (롤백되면 반영하지 않음)
+    public void invalidate(Long userId, long minTokenVersion) {
+        invalidationRepository.save(TokenInvalidation.builder()
+                .userId(userId)
+                .minTokenVersion(minTokenVersion)
+                .build());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, minTokenVersion);
+                }
+            });
+        } else {
+            apply(userId, minTokenVersion);
+        }
+    }
+
+    // 탈퇴 사용자의 모든 토큰 무효화
+    public void invalidateAll(Long userId) {
+        invalidate(userId, Long.MAX_VALUE);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.invalidation.poll-interval:5000}")
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        // 지난 폴링 이후에 커밋된, 이미 지나친 ID의 무효화 기록
+        List<Long> gapIds = cursor.pendingGaps(now);
+        for (int from = 0; from < gapIds.size(); from += POLL_BATCH_SIZE) {
+            for (TokenInvalidation invalidation : invalidationRepository.findAllById(
+                    gapIds.subList(from, Math.min(from + POLL_BATCH_SIZE, gapIds.size())))) {
+                cursor.fill(invalidation.getId());
+                apply(invalidation.getUserId(), invalidation.getMinTokenVersion());
+            }
+        }
+
+        List<TokenInvalidation> batch;
+        do {
+            batch = invalidationRepository.findByIdGreaterThanOrderByIdAsc(
+                    cursor.getLastSeenId(), PageRequest.of(0, POLL_BATCH_SIZE));
+            for (TokenInvalidation invalidation : batch) {
+                cursor.advance(invalidation.getId(), now);
+                apply(invalidation.getUserId(), invalidation.getMinTokenVersion());
+            }
+        } while (batch.size() == POLL_BATCH_SIZE);
+    }
+
+    // 토큰 최대 수명이 지난 기록은 더 이상 필요 없음 (그 이전 토큰은 모두 만료)
+    @Scheduled(fixedDelayString = "${jwt.invalidation.cleanup-interval:3600000}")
+    public void cleanup() {
+        int deleted = invalidationRepository.deleteOlderThan(
+                LocalDateTime.now().minus(Duration.ofMillis(retentionMillis)));
+        if (deleted > 0) {
+            log.info("만료된 토큰 무효화 기록 정리: {}건", deleted);
+        }
+    }
+
+    private void apply(Long userId, long minTokenVersion) {
+        minVersions.merge(userId, minTokenVersion, Math::max);
+    }
+}
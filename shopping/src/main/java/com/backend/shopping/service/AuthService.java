@@ -1,12 +1,13 @@
 package com.backend.shopping.service;
 
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import java.util.Objects;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.backend.shopping.dto.request.LoginRequest;
 import com.backend.shopping.dto.request.RegisterRequest;
@@ -14,22 +15,34 @@ import com.backend.shopping.dto.response.AuthResponse;
 import com.backend.shopping.entity.Cart;
 import com.backend.shopping.entity.Role;
 import com.backend.shopping.entity.User;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
 import com.backend.shopping.repository.CartRepository;
 import com.backend.shopping.repository.UserRepository;
+import com.backend.shopping.security.AuthenticatedUser;
 import com.backend.shopping.security.JwtTokenProvider;
+import com.backend.shopping.security.PasswordHashingService;
+import com.backend.shopping.security.TokenClaims;
+import com.backend.shopping.security.TokenRevocationRegistry;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 인증 서비스.
+ * BCrypt 해시(~100ms) 동안 DB 커넥션을 잡고 있지 않도록 클래스 단위 트랜잭션을 두지 않는다.
+ * 조회/저장은 각각 짧은 트랜잭션(리포지토리 기본 트랜잭션 또는 TransactionTemplate)으로 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuthService {
     
-    private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final CartRepository cartRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final TransactionTemplate transactionTemplate;
     
     // 회원가입
     public AuthResponse register(RegisterRequest request) {
@@ -38,56 +51,134 @@ public class AuthService {
             throw new RuntimeException("이미 사용 중인 이메일입니다");
         }
         
-        // 사용자 생성
-        User user = User.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .name(request.getName())
-                .phone(request.getPhone())
-                .role(Role.USER)
-                .build();
+        // 비밀번호 해시는 트랜잭션 밖에서 (전용 풀에서 수행, 포화 시 503)
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
         
-        User savedUser = userRepository.save(user);
+        // 사용자 + 장바구니 저장만 짧은 트랜잭션으로
+        User savedUser;
+        try {
+            savedUser = transactionTemplate.execute(status -> {
+                User user = userRepository.save(User.builder()
+                        .email(request.getEmail())
+                        .password(encodedPassword)
+                        .name(request.getName())
+                        .phone(request.getPhone())
+                        .role(Role.USER)
+                        .build());
+                
+                // 사용자 장바구니 생성
+                cartRepository.save(Cart.builder()
+                        .user(user)
+                        .build());
+                return user;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 중복 체크 이후 같은 이메일로 먼저 가입된 경우
+            throw new RuntimeException("이미 사용 중인 이메일입니다");
+        }
         
-        // 사용자 장바구니 생성
-        Cart cart = Cart.builder()
-                .user(savedUser)
-                .build();
-        cartRepository.save(cart);
+        // JWT 토큰 생성 (방금 저장한 사용자이므로 재인증 불필요)
+        return issueTokens(savedUser);
+    }
+    
+    // 로그인
+    public AuthResponse login(LoginRequest request) {
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
         
-        // JWT 토큰 생성
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        // 비밀번호 검증은 전용 풀에서 수행 (사용자가 없어도 같은 비용으로 검증)
+        String encodedPassword = user != null ? user.getPassword() : null;
+        if (!passwordHashingService.matches(request.getPassword(), encodedPassword)) {
+            throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다");
+        }
         
-        String jwt = tokenProvider.generateToken(authentication);
+        // BCrypt cost가 올라갔다면 점진적으로 재해시
+        Long userId = user.getId();
+        passwordHashingService.rehashIfNeeded(request.getPassword(), encodedPassword,
+                newHash -> userRepository.updatePassword(userId, newHash));
         
-        return new AuthResponse(jwt, savedUser.getId(), savedUser.getEmail(), 
-                               savedUser.getName(), savedUser.getRole().name());
+        return issueTokens(user);
     }
     
-    // 로그인
-    public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+    // access 토큰 재발급 (refresh 토큰은 한 번 쓰면 폐기하고 새로 발급)
+    public AuthResponse refresh(String refreshToken) {
+        TokenClaims claims = parseRefreshToken(refreshToken);
+        if (tokenRevocationRegistry.isRevoked(claims.getTokenId(), claims.getExpirationMillis())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
         
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = tokenProvider.generateToken(authentication);
+        // 역할 변경/탈퇴 이후 발급된 토큰인지 확인
+        User user = userRepository.findById(claims.getUserId())
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+        if (!Objects.equals(user.getTokenVersion(), claims.getTokenVersion())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
         
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        try {
+            tokenRevocationRegistry.revoke(claims.getTokenId(), user.getId(), claims.getExpirationMillis());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드에서 같은 refresh 토큰으로 이미 재발급함
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        return issueTokens(user);
+    }
+    
+    // 로그아웃: 현재 access 토큰과 (전달된 경우) refresh 토큰 폐기
+    public void logout(AuthenticatedUser principal, String refreshToken) {
+        if (principal.getTokenId() != null
+                && !tokenRevocationRegistry.isRevoked(principal.getTokenId(), principal.getTokenExpirationMillis())) {
+            tokenRevocationRegistry.revoke(principal.getTokenId(), principal.getId(),
+                    principal.getTokenExpirationMillis());
+        }
         
-        return new AuthResponse(jwt, user.getId(), user.getEmail(), 
-                               user.getName(), user.getRole().name());
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            TokenClaims claims = parseRefreshToken(refreshToken);
+            if (principal.getId().equals(claims.getUserId())
+                    && !tokenRevocationRegistry.isRevoked(claims.getTokenId(), claims.getExpirationMillis())) {
+                tokenRevocationRegistry.revoke(claims.getTokenId(), claims.getUserId(), claims.getExpirationMillis());
+            }
+        }
+    }
+    
+    private TokenClaims parseRefreshToken(String refreshToken) {
+        TokenClaims claims;
+        try {
+            claims = tokenProvider.parseToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (!claims.isRefreshToken() || claims.getUserId() == null || claims.getTokenId() == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        return claims;
+    }
+    
+    private AuthResponse issueTokens(User user) {
+        return AuthResponse.builder()
+                .accessToken(tokenProvider.generateToken(user))
+                .refreshToken(tokenProvider.generateRefreshToken(user))
+                .userId(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .role(user.getRole().name())
+                .build();
     }
     
     // 현재 사용자 정보 조회
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        
-        return userRepository.findByEmail(email)
+        return userRepository.findById(getCurrentUserId())
                 .orElseThrow(() -> new RuntimeException("인증된 사용자를 찾을 수 없습니다"));
     }
+    
+    // 현재 인증 주체 (JWT 클레임 기반, DB 조회 없음)
+    public AuthenticatedUser getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다");
+        }
+        return principal;
+    }
+    
+    public Long getCurrentUserId() {
+        return getCurrentPrincipal().getId();
+    }
 }
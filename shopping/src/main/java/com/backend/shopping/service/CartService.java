@@ -1,7 +1,6 @@
 package com.backend.shopping.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,10 +11,10 @@ import com.backend.shopping.dto.response.CartResponse;
 import com.backend.shopping.entity.Cart;
 import com.backend.shopping.entity.CartItem;
 import com.backend.shopping.entity.Product;
-import com.backend.shopping.entity.User;
 import com.backend.shopping.repository.CartItemRepository;
 import com.backend.shopping.repository.CartRepository;
 import com.backend.shopping.repository.ProductRepository;
+import com.backend.shopping.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,15 +26,15 @@ public class CartService {
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final ProductRepository productRepository;
+    private final UserRepository userRepository;
     private final AuthService authService;
     
     // 장바구니에 상품 추가
     @Transactional
     public CartResponse addItemToCart(CartItemRequest request) {
-        User currentUser = authService.getCurrentUser();
-        Cart cart = getOrCreateCart(currentUser);
+        Cart cart = getOrCreateCart(authService.getCurrentUserId());
         
-        Product product = productRepository.findById(request.getProductId())
+        Product product = productRepository.findActiveById(request.getProductId())
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
         
         // 재고 확인
@@ -71,14 +70,13 @@ public class CartService {
     // 장바구니 아이템 수량 수정
     @Transactional
     public CartResponse updateCartItem(Long itemId, Integer quantity) {
-        User currentUser = authService.getCurrentUser();
-        Cart cart = getOrCreateCart(currentUser);
+        Cart cart = getOrCreateCart(authService.getCurrentUserId());
         
         CartItem cartItem = cartItemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("장바구니 아이템을 찾을 수 없습니다"));
         
         // 권한 확인 (자신의 장바구니인지)
-        if (!cartItem.getCart().getUser().getId().equals(currentUser.getId())) {
+        if (!cartItem.getCart().getId().equals(cart.getId())) {
             throw new RuntimeException("권한이 없습니다");
         }
         
@@ -96,14 +94,13 @@ public class CartService {
     // 장바구니에서 아이템 제거
     @Transactional
     public CartResponse removeItemFromCart(Long itemId) {
-        User currentUser = authService.getCurrentUser();
-        Cart cart = getOrCreateCart(currentUser);
+        Cart cart = getOrCreateCart(authService.getCurrentUserId());
         
         CartItem cartItem = cartItemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("장바구니 아이템을 찾을 수 없습니다"));
         
         // 권한 확인
-        if (!cartItem.getCart().getUser().getId().equals(currentUser.getId())) {
+        if (!cartItem.getCart().getId().equals(cart.getId())) {
             throw new RuntimeException("권한이 없습니다");
         }
         
@@ -115,41 +112,30 @@ public class CartService {
     // 장바구니 전체 비우기
     @Transactional
     public void clearCart() {
-        User currentUser = authService.getCurrentUser();
-        Cart cart = getOrCreateCart(currentUser);
+        Cart cart = getOrCreateCart(authService.getCurrentUserId());
         
         cartItemRepository.deleteByCart(cart);
     }
     
     // 내 장바구니 조회
     public CartResponse getMyCart() {
-        User currentUser = authService.getCurrentUser();
-        Cart cart = getOrCreateCart(currentUser);
+        Cart cart = getOrCreateCart(authService.getCurrentUserId());
         
         return getCartResponse(cart);
     }
     
-    // 장바구니 아이템 수 조회
+    // 장바구니 아이템 수 조회 (DB에서 합산, 상품을 읽지 않음)
     public Integer getCartItemCount() {
-        User currentUser = authService.getCurrentUser();
-        Cart cart = cartRepository.findByUser(currentUser).orElse(null);
-        
-        if (cart == null) {
-            return 0;
-        }
-        
-        List<CartItem> items = cartItemRepository.findByCart(cart);
-        return items.stream()
-                .mapToInt(CartItem::getQuantity)
-                .sum();
+        return (int) cartItemRepository.sumQuantityByUserId(authService.getCurrentUserId());
     }
     
     // 장바구니 존재 여부 확인 및 생성
-    private Cart getOrCreateCart(User user) {
-        return cartRepository.findByUser(user)
+    private Cart getOrCreateCart(Long userId) {
+        return cartRepository.findByUserId(userId)
                 .orElseGet(() -> {
+                    // 사용자 엔티티는 FK만 필요하므로 프록시 참조 사용 (조회 없음)
                     Cart newCart = Cart.builder()
-                            .user(user)
+                            .user(userRepository.getReferenceById(userId))
                             .build();
                     return cartRepository.save(newCart);
                 });
@@ -157,11 +143,7 @@ public class CartService {
     
     // Cart Entity -> CartResponse 변환
     private CartResponse getCartResponse(Cart cart) {
-        List<CartItem> cartItems = cartItemRepository.findByCart(cart);
-        
-        List<CartItemResponse> itemResponses = cartItems.stream()
-                .map(this::convertToCartItemResponse)
-                .collect(Collectors.toList());
+        List<CartItemResponse> itemResponses = cartItemRepository.findItemResponsesByCartId(cart.getId());
         
         CartResponse response = CartResponse.builder()
                 .id(cart.getId())
@@ -176,20 +158,4 @@ public class CartService {
         
         return response;
     }
-    
-    // CartItem Entity -> CartItemResponse 변환
-    private CartItemResponse convertToCartItemResponse(CartItem cartItem) {
-        Product product = cartItem.getProduct();
-        
-        return CartItemResponse.builder()
-                .id(cartItem.getId())
-                .productId(product.getId())
-                .productName(product.getName())
-                .productImageUrl(product.getImageUrl())
-                .productPrice(product.getPrice())
-                .productStock(product.getStock())
-                .quantity(cartItem.getQuantity())
-                .createdAt(cartItem.getCreatedAt())
-                .build();
-    }
 }
@@ -0,0 +1,25 @@
+package com.backend.shopping.service;
+
+import lombok.Getter;
+
+/**
+ * 카탈로그 전체 버전 (가장 최근 상품 변경 로그 ID와 그 시각).
+ * 모든 노드가 같은 변경 로그를 따라가므로 보통은 노드가 달라도 같은 값이 된다.
+ */
+@Getter
+public class CatalogVersion {
+
+    private final long version;
+    // epoch millis
+    private final long lastModified;
+
+    public CatalogVersion(long version, long lastModified) {
+        this.version = version;
+        this.lastModified = lastModified;
+    }
+
+    // HTTP 검증자용 문자열 (ID가 같아도 시각이 다르면 다른 버전)
+    public String toTag() {
+        return version + "-" + Long.toString(lastModified, 36);
+    }
+}
@@ -0,0 +1,255 @@
+package com.backend.shopping.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.backend.shopping.dto.request.ProductSearchRequest;
+import com.backend.shopping.dto.response.ProductResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작 시 카탈로그 예열.
+ * 배포 직후 캐시가 비어 있고 Hibernate/Jackson/JIT도 식은 상태라 첫 몇 분 동안 요청이 모두 DB로 몰린다.
+ * 시작이 끝나면 별도 스레드에서 1) 마지막 판매량 스냅샷으로 인기 순위를 계산하고 2) 인기(또는 설정한) 상품과
+ * 카테고리를 캐시에 미리 읽어 두고 3) 주요 조회 API의 서비스 경로와 직렬화를 여러 번 실행해 JIT 컴파일을 유도한다.
+ * 끝날 때까지 이 헬스 지표가 OUT_OF_SERVICE이므로 readiness 프로브가 트래픽을 받지 않게 하고, 진행 상황은 상세에 보인다.
+ * 실패하거나 제한 시간을 넘겨도 예열만 멈추고 준비 완료로 바뀐다.
+ */
+@Component
+@Slf4j
+public class CatalogWarmup implements HealthIndicator {
+
+    private static final long INDEX_WAIT_MILLIS = 100;
+
+    private final ProductService productService;
+    private final ProductPopularityTracker popularityTracker;
+    private final ProductSearchIndex searchIndex;
+    private final ProductFacetIndex facetIndex;
+    private final ProductSuggestIndex suggestIndex;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final int topProducts;
+    private final int topCategories;
+    private final List<Long> configuredProductIds;
+    private final List<String> configuredCategories;
+    private final int rounds;
+    private final Duration timeout;
+
+    private volatile String phase = "waiting";
+    private volatile boolean done;
+    private volatile String error;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile int productTarget;
+    private volatile int categoryTarget;
+    private final AtomicInteger primedProducts = new AtomicInteger();
+    private final AtomicInteger primedCategories = new AtomicInteger();
+    private final AtomicInteger completedRounds = new AtomicInteger();
+
+    public CatalogWarmup(ProductService productService,
+                         ProductPopularityTracker popularityTracker,
+                         ProductSearchIndex searchIndex,
+                         ProductFacetIndex facetIndex,
+                         ProductSuggestIndex suggestIndex,
+                         ObjectMapper objectMapper,
+                         @Value("${product.warmup.enabled:true}") boolean enabled,
+                         @Value("${product.warmup.top-products:200}") int topProducts,
+                         @Value("${product.warmup.top-categories:20}") int topCategories,
+                         @Value("${product.warmup.product-ids:}") List<Long> configuredProductIds,
+                         @Value("${product.warmup.categories:}") List<String> configuredCategories,
+                         @Value("${product.warmup.rounds:20}") int rounds,
+                         @Value("${product.warmup.timeout:2m}") Duration timeout) {
+        this.productService = productService;
+        this.popularityTracker = popularityTracker;
+        this.searchIndex = searchIndex;
+        this.facetIndex = facetIndex;
+        this.suggestIndex = suggestIndex;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.topProducts = topProducts;
+        this.topCategories = topCategories;
+        this.configuredProductIds = configuredProductIds;
+        this.configuredCategories = configuredCategories;
+        this.rounds = rounds;
+        this.timeout = timeout;
+    }
+
+    // 시작 처리를 막지 않도록 별도 스레드에서 실행 (준비 여부는 health로 알림)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            phase = "disabled";
+            done = true;
+            return;
+        }
+        Thread thread = new Thread(this::run, "catalog-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = done ? Health.up() : Health.outOfService();
+        builder.withDetail("phase", phase)
+                .withDetail("products", primedProducts.get() + "/" + productTarget)
+                .withDetail("categories", primedCategories.get() + "/" + categoryTarget)
+                .withDetail("rounds", completedRounds.get() + "/" + rounds);
+        if (startedAt > 0) {
+            builder.withDetail("elapsedMs", (done ? finishedAt : System.currentTimeMillis()) - startedAt);
+        }
+        if (error != null) {
+            builder.withDetail("error", error);
+        }
+        return builder.build();
+    }
+
+    void run() {
+        startedAt = System.currentTimeMillis();
+        long deadline = startedAt + timeout.toMillis();
+        try {
+            // 1. 마지막으로 저장된 판매량 구간으로 인기 순위 계산 (주기 작업을 기다리지 않음)
+            phase = "popularity";
+            popularityTracker.refresh();
+
+            // 2. 인기 상품 단건 캐시
+            phase = "products";
+            Set<Long> productIds = new LinkedHashSet<>(configuredProductIds);
+            productIds.addAll(popularityTracker.getTopProducts(null, topProducts));
+            productTarget = productIds.size();
+            List<ProductResponse> products = new ArrayList<>();
+            for (Long id : productIds) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("제한 시간 초과 (" + phase + ")");
+                }
+                try {
+                    products.add(productService.findProduct(id));
+                } catch (RuntimeException e) {
+                    // 그 사이 삭제된 상품
+                }
+                primedProducts.incrementAndGet();
+            }
+
+            // 3. 인기 카테고리 첫 페이지 (인기 상품이 많이 속한 순, 판매 이력이 없으면 카테고리 목록 순)
+            phase = "categories";
+            List<String> categories = hotCategories(products);
+            categoryTarget = categories.size();
+            for (String category : categories) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("제한 시간 초과 (" + phase + ")");
+                }
+                productService.getProducts(browseRequest(category));
+                primedCategories.incrementAndGet();
+            }
+
+            // 4. 메모리 색인이 준비되면 주요 조회 경로를 반복 실행
+            phase = "indexes";
+            while (!(searchIndex.isReady() && facetIndex.isReady() && suggestIndex.isReady())) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("제한 시간 초과 (" + phase + ")");
+                }
+                Thread.sleep(INDEX_WAIT_MILLIS);
+            }
+            phase = "exercise";
+            List<String> queries = products.stream()
+                    .map(ProductResponse::getName)
+                    .filter(name -> name != null && name.length() >= 2)
+                    .map(name -> name.substring(0, 2))
+                    .distinct()
+                    .limit(20)
+                    .collect(Collectors.toList());
+            for (int round = 0; round < rounds; round++) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("제한 시간 초과 (" + phase + ")");
+                }
+                exercise(products, categories, queries);
+                completedRounds.incrementAndGet();
+            }
+            phase = "done";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "중단됨";
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            log.warn("카탈로그 예열 중단 ({}): {}", phase, e.getMessage());
+        } finally {
+            finishedAt = System.currentTimeMillis();
+            done = true;
+            log.info("카탈로그 예열 완료: 상품 {}/{}건, 카테고리 {}/{}개, {}/{}회, {}ms",
+                    primedProducts.get(), productTarget, primedCategories.get(), categoryTarget,
+                    completedRounds.get(), rounds, finishedAt - startedAt);
+        }
+    }
+
+    private List<String> hotCategories(List<ProductResponse> products) {
+        Map<String, Long> counts = new HashMap<>();
+        products.stream()
+                .map(ProductResponse::getCategory)
+                .filter(category -> category != null && !category.isBlank())
+                .forEach(category -> counts.merge(category, 1L, Long::sum));
+        Set<String> categories = new LinkedHashSet<>(configuredCategories);
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .forEach(categories::add);
+        if (counts.isEmpty()) {
+            categories.addAll(productService.getCategories());
+        }
+        return categories.stream().limit(Math.max(topCategories, configuredCategories.size()))
+                .collect(Collectors.toList());
+    }
+
+    // 요청 처리에서 쓰는 서비스 경로와 응답 직렬화를 그대로 실행
+    private void exercise(List<ProductResponse> products, List<String> categories, List<String> queries) {
+        serialize(productService.getCategories());
+        serialize(productService.getProducts(browseRequest(null)));
+        serialize(productService.getPopularProducts(10));
+        for (ProductResponse product : products) {
+            serialize(productService.findProduct(product.getId()));
+        }
+        for (String category : categories) {
+            ProductSearchRequest request = browseRequest(category);
+            serialize(productService.getProducts(request));
+            serialize(productService.getFacets(request));
+        }
+        for (String query : queries) {
+            serialize(productService.suggest(query, 10));
+        }
+    }
+
+    private void serialize(Object response) {
+        try {
+            objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    // 카테고리(또는 전체) 둘러보기 첫 페이지 (목록 조회 기본값과 같음)
+    private static ProductSearchRequest browseRequest(String category) {
+        ProductSearchRequest request = new ProductSearchRequest();
+        request.setCategory(category);
+        return request;
+    }
+}
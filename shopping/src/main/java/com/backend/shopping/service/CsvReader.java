@@ -0,0 +1,100 @@
+package com.backend.shopping.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 읽기 (RFC 4180).
+ * 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈과 "" 이스케이프를 처리하고, 한 번에 한 행만 메모리에 둔다.
+ */
+class CsvReader {
+
+    private final Reader reader;
+    private int lineNumber;
+    private int recordLine;
+    private int next = -2;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 다음 행의 필드 목록, 끝이면 null
+    List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        lineNumber++;
+        recordLine = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new UnclosedQuoteException(recordLine);
+                }
+                if (c == '"') {
+                    int peek = read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = peek;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int peek = read();
+                    if (peek != '\n') {
+                        next = peek;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    // 마지막으로 읽은 행이 시작한 줄 번호 (1부터)
+    int getRecordLine() {
+        return recordLine;
+    }
+
+    // 따옴표가 닫히지 않은 채 파일이 끝남 (그 행부터 끝까지 한 필드로 읽혀서 이후 행은 없음)
+    static class UnclosedQuoteException extends IOException {
+        UnclosedQuoteException(int line) {
+            super(line + "행: 닫히지 않은 따옴표가 있습니다");
+        }
+    }
+
+    private int read() throws IOException {
+        if (next != -2) {
+            int c = next;
+            next = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -1,21 +1,28 @@
 package com.backend.shopping.service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.shopping.dto.request.OrderRequest;
+import com.backend.shopping.dto.response.CursorResponse;
 import com.backend.shopping.dto.response.OrderResponse;
 import com.backend.shopping.dto.response.OrderResponse.OrderItemResponse;
 import com.backend.shopping.entity.Order;
 import com.backend.shopping.entity.OrderItem;
 import com.backend.shopping.entity.OrderStatus;
 import com.backend.shopping.entity.Product;
+import com.backend.shopping.entity.ProductChangeType;
 import com.backend.shopping.entity.User;
 import com.backend.shopping.exception.CustomException;
 import com.backend.shopping.exception.ErrorCode;
@@ -32,14 +39,19 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OrderService {
 
+	private static final String CURSOR_SORT_PROPERTY = "orderDate";
+	private static final int MAX_CURSOR_SIZE = 100;
+
 	private final OrderRepository orderRepository;
 	private final ProductRepository productRepository;
 	private final UserRepository userRepository;
+	private final ProductChangeTracker productChangeTracker;
+	private final ProductPopularityTracker popularityTracker;
 
 	// 주문 생성
-	public OrderResponse createOrder(String username, OrderRequest request) {
-		User user = userRepository.findByEmail(username)
-				.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+	public OrderResponse createOrder(Long userId, OrderRequest request) {
+		// 주문에는 FK만 필요하므로 사용자 프록시 참조 사용 (조회 없음)
+		User user = userRepository.getReferenceById(userId);
 		// 주문 생성
 		Order order = Order.builder()
 				.user(user)
@@ -49,7 +61,7 @@ public class OrderService {
 
 		// 주문 항목 생성
 		List<OrderItem> items = request.getOrderItems().stream().map(itemRequest -> {
-			Product product = productRepository.findById(itemRequest.getProductId())
+			Product product = productRepository.findActiveById(itemRequest.getProductId())
 					.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
 			// 재고 확인
@@ -79,18 +91,20 @@ public class OrderService {
 		order.setTotalPrice(total);
 
 		Order savedOrder = orderRepository.save(order);
-		log.info("주문 생성 완료: 주문ID={}, 사용자={}", savedOrder.getId(), username);
+		// 재고가 바뀐 상품 캐시 무효화 (커밋 후)
+		productChangeTracker.record(items.stream().map(i -> i.getProduct().getId()).collect(Collectors.toList()),
+				ProductChangeType.STOCK);
+		// 인기 상품 판매량 반영 (커밋 후)
+		popularityTracker.recordSales(quantitiesByProduct(items));
+		log.info("주문 생성 완료: 주문ID={}, 사용자ID={}", savedOrder.getId(), userId);
 
 		return convertToResponse(savedOrder);
 	}
 
 	// 주문 조회 (단건)
 	@Transactional(readOnly = true)
-	public OrderResponse getOrder(String username, Long orderId) {
-		User user = userRepository.findByEmail(username)
-				.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-		Order order = orderRepository.findByIdAndUser(orderId, user)
+	public OrderResponse getOrder(Long userId, Long orderId) {
+		Order order = orderRepository.findByIdAndUserId(orderId, userId)
 				.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 
 		return convertToResponse(order);
@@ -98,20 +112,34 @@ public class OrderService {
 
 	// 사용자 주문 목록 조회 (페이징)
 	@Transactional(readOnly = true)
-	public Page<OrderResponse> getUserOrders(String username, Pageable pageable) {
-		User user = userRepository.findByEmail(username)
-				.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-		Page<Order> orders = orderRepository.findByUserOrderByOrderDateDesc(user, pageable);
+	public Page<OrderResponse> getUserOrders(Long userId, Pageable pageable) {
+		// 정렬은 주문일 내림차순 고정 (클라이언트가 보낸 sort는 인덱스를 못 타므로 무시)
+		Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+		Page<Order> orders = orderRepository.findByUserIdOrderByOrderDateDesc(userId, unsorted);
 		return orders.map(this::convertToResponse);
 	}
 
-	// 주문 취소
-	public OrderResponse cancelOrder(String username, Long orderId) {
-		User user = userRepository.findByEmail(username)
-				.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+	// 사용자 주문 목록 조회 (커서 기반, 전체 건수 조회 없음)
+	@Transactional(readOnly = true)
+	public CursorResponse<OrderResponse> getUserOrdersByCursor(Long userId, String cursor, int size) {
+		int limit = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+		List<Order> orders;
+		if (cursor == null || cursor.isBlank()) {
+			orders = orderRepository.findByUserIdOrderByOrderDateDescIdDesc(userId, Limit.of(limit + 1));
+		} else {
+			SeekCursor seek = SeekCursor.decode(cursor);
+			seek.checkMatches(CURSOR_SORT_PROPERTY, Sort.Direction.DESC);
+			orders = orderRepository.findByUserIdBefore(userId,
+					(LocalDateTime) seek.value(LocalDateTime.class), seek.getId(), Limit.of(limit + 1));
+		}
+		List<OrderResponse> rows = orders.stream().map(this::convertToResponse).collect(Collectors.toList());
+		return CursorResponse.of(rows, limit, last -> SeekCursor
+				.of(CURSOR_SORT_PROPERTY, Sort.Direction.DESC, last.getOrderDate(), last.getId()).encode());
+	}
 
-		Order order = orderRepository.findByIdAndUser(orderId, user)
+	// 주문 취소
+	public OrderResponse cancelOrder(Long userId, Long orderId) {
+		Order order = orderRepository.findByIdAndUserId(orderId, userId)
 				.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 
 		// 취소 가능한 상태인지 확인
@@ -127,9 +155,13 @@ public class OrderService {
 			product.setStock(product.getStock() + item.getQuantity());
 		}
 
+		productChangeTracker.record(order.getOrderItems().stream().map(i -> i.getProduct().getId())
+				.collect(Collectors.toList()), ProductChangeType.STOCK);
+		popularityTracker.recordCancellation(quantitiesByProduct(order.getOrderItems()));
+
 		order.setStatus(OrderStatus.CANCELLED);
 		Order savedOrder = orderRepository.save(order);
-		log.info("주문 취소 완료: 주문ID={}, 사용자={}", savedOrder.getId(), username);
+		log.info("주문 취소 완료: 주문ID={}, 사용자ID={}", savedOrder.getId(), userId);
 
 		return convertToResponse(savedOrder);
 	}
@@ -155,6 +187,11 @@ public class OrderService {
 		return convertToResponse(savedOrder);
 	}
 
+	// 상품별 주문 수량 합계
+	private Map<Long, Integer> quantitiesByProduct(List<OrderItem> items) {
+		return items.stream().collect(Collectors.toMap(i -> i.getProduct().getId(), OrderItem::getQuantity, Integer::sum));
+	}
+
 	 // Entity to DTO 변환
 	private OrderResponse convertToResponse(Order order) {
 		List<OrderItemResponse> items = order.getOrderItems().stream()
@@ -0,0 +1,176 @@
+package com.backend.shopping.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 직렬화가 끝난 상품 응답 본문 캐시 (힙 밖).
+ * 상품 상세와 카테고리 목록 응답을 JSON 그대로, 그리고 gzip으로 압축한 것까지 direct ByteBuffer에 보관해서
+ * 같은 응답을 매번 DTO 변환/직렬화/압축하지 않고 바로 출력 스트림에 쓴다.
+ * 힙에는 작은 항목 객체만 남고, 버퍼 메모리는 항목이 밀려나 GC될 때 함께 해제된다.
+ * 무효화 기준은 ProductCache와 같다 (상품이 바뀌면 그 상품 본문과 목록 본문 전체, 재고만 바뀌면 그 상품 본문만).
+ * 재고만 바뀐 목록이 오래 남지 않도록 목록 본문은 상세보다 짧은 query-ttl로 만료된다.
+ */
+@Component
+public class ProductBodyCache {
+
+    private final Cache<Long, Body> products;
+    private final Cache<String, Body> queries;
+    // 목록 본문 세대, 만드는 도중 무효화되면 캐시에 넣지 않는다
+    private final AtomicLong queryGeneration = new AtomicLong();
+
+    public ProductBodyCache(MeterRegistry meterRegistry,
+                            @Value("${product.body-cache.max-size:64MB}") DataSize maxSize,
+                            @Value("${product.body-cache.ttl:300s}") Duration ttl,
+                            @Value("${product.body-cache.query-ttl:30s}") Duration queryTtl) {
+        // 상세와 목록이 절반씩 나눠 씀
+        long maxBytes = maxSize.toBytes() / 2;
+        this.products = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, Body body) -> body.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.queries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Body body) -> body.weight())
+                .expireAfterWrite(queryTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.body.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, queries, "product.body.query");
+        Gauge.builder("product.body-cache.bytes", this, ProductBodyCache::offHeapBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 상품 상세 본문 (없으면 loader로 만듦, 같은 상품의 무효화는 만드는 동안 기다림)
+    public Body getProduct(Long id, Supplier<Body> loader) {
+        return products.get(id, key -> loader.get());
+    }
+
+    // 목록 본문 (조회 조건 문자열이 키)
+    public Body getQuery(String key, Supplier<Body> loader) {
+        Body body = queries.getIfPresent(key);
+        if (body != null) {
+            return body;
+        }
+        long generation = queryGeneration.get();
+        body = loader.get();
+        if (queryGeneration.get() == generation) {
+            queries.put(key, body);
+        }
+        return body;
+    }
+
+    public void invalidate(Collection<Long> productIds) {
+        products.invalidateAll(productIds);
+        invalidateQueries();
+    }
+
+    // 상세 본문만 비움 (재고만 바뀐 경우)
+    public void invalidateProducts(Collection<Long> productIds) {
+        products.invalidateAll(productIds);
+    }
+
+    public void invalidateAll() {
+        products.invalidateAll();
+        invalidateQueries();
+    }
+
+    private void invalidateQueries() {
+        queryGeneration.incrementAndGet();
+        queries.invalidateAll();
+    }
+
+    private long offHeapBytes() {
+        return weightedSize(products) + weightedSize(queries);
+    }
+
+    private static long weightedSize(Cache<?, ?> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * 응답 본문 한 벌 (원본 JSON + gzip, 검증자).
+     * 버퍼는 읽기 전용이고, 꺼낼 때마다 duplicate로 위치를 따로 가진다.
+     */
+    public static class Body {
+        private final ByteBuffer identity;
+        // 압축해도 작아지지 않으면 null
+        private final ByteBuffer gzip;
+        private final String etag;
+        private final long lastModified;
+
+        private Body(ByteBuffer identity, ByteBuffer gzip, String etag, long lastModified) {
+            this.identity = identity;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public static Body of(byte[] json, String etag, long lastModified) {
+            byte[] compressed = gzip(json);
+            return new Body(toDirect(json),
+                    compressed.length < json.length ? toDirect(compressed) : null,
+                    etag, lastModified);
+        }
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+
+        public ByteBuffer content(boolean gzipped) {
+            return (gzipped && gzip != null ? gzip : identity).duplicate();
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        int weight() {
+            return identity.capacity() + (gzip != null ? gzip.capacity() : 0);
+        }
+
+        private static ByteBuffer toDirect(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return buffer.asReadOnlyBuffer();
+        }
+
+        private static byte[] gzip(byte[] bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                gzipOut.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
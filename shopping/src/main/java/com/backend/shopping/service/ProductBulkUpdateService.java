@@ -0,0 +1,189 @@
+package com.backend.shopping.service;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.shopping.dto.request.ProductBulkUpdateRequest;
+import com.backend.shopping.dto.response.ProductBulkUpdateResponse;
+import com.backend.shopping.dto.response.ProductBulkUpdateResponse.Result;
+import com.backend.shopping.dto.response.ProductBulkUpdateResponse.Status;
+import com.backend.shopping.entity.ProductChangeType;
+import com.backend.shopping.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 가격/재고 일괄 부분 수정.
+ * 엔티티를 읽어 바꾸지 않고, 청크마다 한 트랜잭션에서 항목별 UPDATE 문을 JDBC 배치로 보낸다.
+ * 주어지지 않은 값은 COALESCE로 기존 값을 유지하고, 재고 증감은 결과가 음수가 되지 않을 때만 반영한다.
+ * 반영된 상품은 변경 로그에 한 번에 기록해서 캐시/검색 색인도 청크 단위로 무효화된다.
+ */
+@Service
+@Slf4j
+public class ProductBulkUpdateService {
+
+    // null 파라미터는 타입을 지정해서 넘김 (PostgreSQL이 COALESCE 인자 타입을 추론할 수 있도록)
+    private static final String UPDATE_SQL =
+            "UPDATE products SET price = COALESCE(:price, price), "
+            + "stock = COALESCE(:stock, stock + :stockDelta), updated_at = :now "
+            + "WHERE id = :id AND deleted_at IS NULL AND COALESCE(:stock, stock + :stockDelta) >= 0";
+
+    // 삭제된 상품은 없는 상품으로 봄
+    private static final String SELECT_EXISTING_SQL = "SELECT id FROM products WHERE id IN (:ids) AND deleted_at IS NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ProductChangeTracker changeTracker;
+    private final int chunkSize;
+
+    private final Counter updatedCounter;
+    private final Counter failedCounter;
+
+    public ProductBulkUpdateService(NamedParameterJdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    Validator validator,
+                                    ProductChangeTracker changeTracker,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${product-bulk-update.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.changeTracker = changeTracker;
+        this.chunkSize = chunkSize;
+        this.updatedCounter = Counter.builder("product.bulk-update.operations").tag("result", "updated").register(meterRegistry);
+        this.failedCounter = Counter.builder("product.bulk-update.operations").tag("result", "failed").register(meterRegistry);
+    }
+
+    public ProductBulkUpdateResponse update(List<ProductBulkUpdateRequest.Operation> operations) {
+        long startNanos = System.nanoTime();
+        Result[] results = new Result[operations.size()];
+
+        // 1. 항목별 검사 (실패한 항목만 빼고 나머지는 진행)
+        List<Integer> valid = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            String reason = validate(operations.get(i));
+            if (reason != null) {
+                results[i] = new Result(operations.get(i).getId(), Status.INVALID, reason);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        // 2. 청크마다 배치 UPDATE
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            applyChunk(operations, valid.subList(from, Math.min(from + chunkSize, valid.size())), results);
+        }
+
+        int updated = (int) Arrays.stream(results).filter(r -> r.getStatus() == Status.UPDATED).count();
+        int failed = results.length - updated;
+        updatedCounter.increment(updated);
+        failedCounter.increment(failed);
+        log.info("상품 일괄 수정 완료: 요청 {}건, 반영 {}건, 실패 {}건, {}ms",
+                results.length, updated, failed, (System.nanoTime() - startNanos) / 1_000_000);
+
+        return ProductBulkUpdateResponse.builder()
+                .requestedCount(results.length)
+                .updatedCount(updated)
+                .failedCount(failed)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private String validate(ProductBulkUpdateRequest.Operation operation) {
+        if (operation == null) {
+            return "수정 항목이 비어 있습니다";
+        }
+        Set<ConstraintViolation<ProductBulkUpdateRequest.Operation>> violations = validator.validate(operation);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (operation.getStock() != null && operation.getStockDelta() != null) {
+            return "stock과 stockDelta는 함께 쓸 수 없습니다";
+        }
+        if (operation.getPrice() == null && operation.getStock() == null && operation.getStockDelta() == null) {
+            return "수정할 값(price, stock, stockDelta)이 없습니다";
+        }
+        return null;
+    }
+
+    private void applyChunk(List<ProductBulkUpdateRequest.Operation> operations, List<Integer> indexes, Result[] results) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] batch = indexes.stream()
+                .map(operations::get)
+                .map(op -> new MapSqlParameterSource()
+                        .addValue("id", op.getId())
+                        .addValue("price", op.getPrice(), Types.DECIMAL)
+                        .addValue("stock", op.getStock(), Types.INTEGER)
+                        .addValue("stockDelta", op.getStockDelta() != null ? op.getStockDelta() : 0, Types.INTEGER)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+
+                // 가격이 바뀐 상품은 UPDATED(검색 색인 갱신), 재고만 바뀐 상품은 STOCK
+                Set<Long> changed = new LinkedHashSet<>();
+                Set<Long> stockOnly = new LinkedHashSet<>();
+                List<Integer> missed = new ArrayList<>();
+                for (int i = 0; i < counts.length; i++) {
+                    ProductBulkUpdateRequest.Operation op = operations.get(indexes.get(i));
+                    // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 봄
+                    if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                        results[indexes.get(i)] = new Result(op.getId(), Status.UPDATED, null);
+                        (op.getPrice() != null ? changed : stockOnly).add(op.getId());
+                    } else {
+                        missed.add(indexes.get(i));
+                    }
+                }
+                stockOnly.removeAll(changed);
+                changeTracker.recordBatch(changed, ProductChangeType.UPDATED);
+                changeTracker.recordBatch(stockOnly, ProductChangeType.STOCK);
+
+                // 반영되지 않은 항목: 상품이 있으면 재고 부족, 없으면 미존재
+                if (!missed.isEmpty()) {
+                    Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(SELECT_EXISTING_SQL,
+                            new MapSqlParameterSource("ids", missed.stream()
+                                    .map(i -> operations.get(i).getId())
+                                    .distinct()
+                                    .collect(Collectors.toList())),
+                            Long.class));
+                    for (int index : missed) {
+                        Long id = operations.get(index).getId();
+                        results[index] = existing.contains(id)
+                                ? new Result(id, Status.INSUFFICIENT_STOCK, ErrorCode.INSUFFICIENT_STOCK.getMessage())
+                                : new Result(id, Status.NOT_FOUND, ErrorCode.PRODUCT_NOT_FOUND.getMessage());
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            // 청크 전체가 롤백됨
+            log.warn("상품 일괄 수정 청크 실패: {}", e.getMessage());
+            for (int index : indexes) {
+                results[index] = new Result(operations.get(index).getId(), Status.FAILED, "저장에 실패했습니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.backend.shopping.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.backend.shopping.dto.response.ProductResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 노드 로컬 상품 캐시.
+ * 단건 조회는 상품 ID별로, 목록/카테고리/인기 상품 조회는 조회 조건별로 캐시한다.
+ * 상품이 바뀌면 해당 상품 항목과 목록 캐시 전체를 비운다 (어떤 목록에 포함될지 알 수 없으므로).
+ * 재고만 바뀐 경우(주문, 재고 동기화)는 해당 상품 항목만 비우고 목록은 짧은 TTL로 만료되게 둔다.
+ */
+@Component
+public class ProductCache {
+
+    private final Cache<Long, Entry<ProductResponse>> products;
+    private final Cache<String, Entry<Object>> queries;
+    // 캐시 세대 (무효화될 때마다 증가), 여러 건/목록 조회 도중 무효화되면 조회 결과를 캐시에 넣지 않는다
+    private final AtomicLong productGeneration = new AtomicLong();
+    private final AtomicLong queryGeneration = new AtomicLong();
+
+    private final Timer stalenessTimer;
+
+    public ProductCache(MeterRegistry meterRegistry,
+                        @Value("${product.cache.max-size:10000}") long maxSize,
+                        @Value("${product.cache.ttl:300s}") Duration ttl,
+                        @Value("${product.cache.query-max-size:1000}") long queryMaxSize,
+                        @Value("${product.cache.query-ttl:30s}") Duration queryTtl) {
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.queries = Caffeine.newBuilder()
+                .maximumSize(queryMaxSize)
+                .expireAfterWrite(queryTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, queries, "product.query");
+        Gauge.builder("product.cache.hit.ratio", products, c -> c.stats().hitRate())
+                .tag("cache", "by-id")
+                .register(meterRegistry);
+        Gauge.builder("product.cache.hit.ratio", queries, c -> c.stats().hitRate())
+                .tag("cache", "query")
+                .register(meterRegistry);
+        // 캐시에서 응답한 값이 DB에서 읽은 지 얼마나 지났는지
+        this.stalenessTimer = Timer.builder("product.cache.staleness")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    // 단건 조회 (없으면 loader로 조회, loader가 null을 반환하면 캐시하지 않음)
+    public ProductResponse getProduct(Long id, Supplier<ProductResponse> loader) {
+        Entry<ProductResponse> entry = products.getIfPresent(id);
+        if (entry != null) {
+            recordStaleness(entry);
+            return entry.value;
+        }
+        // 같은 키의 무효화는 계산이 끝날 때까지 기다렸다가 지우므로, 커밋 전 값이 남지 않는다
+        entry = products.get(id, key -> {
+            ProductResponse value = loader.get();
+            return value != null ? new Entry<>(value) : null;
+        });
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * 여러 건 조회.
+     * 캐시에 없는 ID만 loader로 한 번에 조회하고, loader가 찾지 못한 ID는 결과에 없다.
+     */
+    public Map<Long, ProductResponse> getProducts(Collection<Long> ids,
+                                                  Function<List<Long>, Map<Long, ProductResponse>> loader) {
+        Map<Long, ProductResponse> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Entry<ProductResponse> entry = products.getIfPresent(id);
+            if (entry != null) {
+                recordStaleness(entry);
+                result.put(id, entry.value);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long generation = productGeneration.get();
+            Map<Long, ProductResponse> loaded = loader.apply(missing);
+            result.putAll(loaded);
+            if (productGeneration.get() == generation) {
+                loaded.forEach((id, value) -> products.put(id, new Entry<>(value)));
+            }
+        }
+        return result;
+    }
+
+    // 목록성 조회 (조회 조건 문자열이 키)
+    @SuppressWarnings("unchecked")
+    public <T> T getQuery(String key, Supplier<T> loader) {
+        Entry<Object> entry = queries.getIfPresent(key);
+        if (entry != null) {
+            recordStaleness(entry);
+            return (T) entry.value;
+        }
+        long generation = queryGeneration.get();
+        T value = loader.get();
+        if (value != null && queryGeneration.get() == generation) {
+            queries.put(key, new Entry<Object>(value));
+        }
+        return value;
+    }
+
+    public void invalidate(Collection<Long> productIds) {
+        invalidateProducts(productIds);
+        invalidateQueries();
+    }
+
+    // 단건 항목만 비움 (재고만 바뀐 경우, 목록은 query-ttl 안에 만료됨)
+    public void invalidateProducts(Collection<Long> productIds) {
+        productGeneration.incrementAndGet();
+        products.invalidateAll(productIds);
+    }
+
+    public void invalidateAll() {
+        productGeneration.incrementAndGet();
+        products.invalidateAll();
+        invalidateQueries();
+    }
+
+    public long size() {
+        return products.estimatedSize() + queries.estimatedSize();
+    }
+
+    private void invalidateQueries() {
+        queryGeneration.incrementAndGet();
+        queries.invalidateAll();
+    }
+
+    private void recordStaleness(Entry<?> entry) {
+        stalenessTimer.record(System.currentTimeMillis() - entry.loadedAt, TimeUnit.MILLISECONDS);
+    }
+
+    private static class Entry<T> {
+        private final T value;
+        private final long loadedAt;
+
+        Entry(T value) {
+            this.value = value;
+            this.loadedAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.backend.shopping.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backend.shopping.entity.ProductChangeLog;
+import com.backend.shopping.entity.ProductChangeType;
+import com.backend.shopping.repository.ProductChangeLogRepository;
+import com.backend.shopping.util.IdPollCursor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 변경 로그 기록 + 폴링.
+ * 상품을 바꾸는 트랜잭션 안에서 product_change_log에 기록하고, 커밋 후 로컬 캐시(DTO, 응답 본문)를 바로 비운다.
+ * 색인 반영은 바뀐 ID만 ProductIndexRefresher에 넘기고 그 스레드에서 따로 읽는다.
+ * 다른 노드는 로그를 증분 폴링해서 자기 캐시를 비운다 (별도 메시지 브로커 없음).
+ * 로그 ID는 커밋 순서와 다를 수 있으므로 폴링에서 빠진 ID는 gap-timeout 동안 다시 조회한다.
+ * 마지막으로 반영한 로그 ID를 카탈로그 버전으로 두고, 목록 응답의 HTTP 검증자(ETag)로 쓴다.
+ * 재고만 바뀐 변경(STOCK)은 주문마다 생기므로 단건 캐시만 비우고 카탈로그 버전은 올리지 않는다
+ * (목록의 재고 표시는 목록 캐시 TTL만큼 늦게 반영됨).
+ */
+@Component
+@Slf4j
+public class ProductChangeTracker {
+
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final int MAX_POLL_GAPS = 100_000;
+
+    private static final String INSERT_CHANGE_SQL =
+            "INSERT INTO product_change_log (product_id, change_type, node_id, created_at) "
+            + "VALUES (:productId, :changeType, :nodeId, :now)";
+
+    private final ProductChangeLogRepository changeLogRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ProductCache productCache;
+    private final ProductBodyCache productBodyCache;
+    private final ProductIndexRefresher indexRefresher;
+    private final Duration retention;
+    // 이 노드 식별자 (재시작하면 새로 발급)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final IdPollCursor cursor;
+    // 캐시 무효화가 끝난 뒤에 올림 (버전을 먼저 읽은 요청이 새 데이터를 옛 버전으로 받는 것은 괜찮음)
+    private final AtomicReference<CatalogVersion> catalogVersion =
+            new AtomicReference<>(new CatalogVersion(0L, System.currentTimeMillis()));
+
+    private final Timer invalidationLagTimer;
+    private final Counter invalidationCounter;
+
+    public ProductChangeTracker(ProductChangeLogRepository changeLogRepository,
+                                NamedParameterJdbcTemplate jdbcTemplate,
+                                ProductCache productCache,
+                                ProductBodyCache productBodyCache,
+                                ProductIndexRefresher indexRefresher,
+                                MeterRegistry meterRegistry,
+                                @Value("${product.change-log.retention:1d}") Duration retention,
+                                @Value("${product.change-log.gap-timeout:10m}") Duration gapTimeout) {
+        this.changeLogRepository = changeLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.productCache = productCache;
+        this.productBodyCache = productBodyCache;
+        this.indexRefresher = indexRefresher;
+        this.retention = retention;
+        this.cursor = new IdPollCursor(0L, gapTimeout.toMillis(), MAX_POLL_GAPS);
+        // 다른 노드에서 커밋된 변경이 이 노드 캐시에 반영되기까지 걸린 시간
+        this.invalidationLagTimer = Timer.builder("product.cache.invalidation.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("product.cache.invalidations").register(meterRegistry);
+    }
+
+    // 시작 시점에는 캐시가 비어 있으므로 이전 로그는 볼 필요 없음
+    @PostConstruct
+    void init() {
+        long lastSeenId = changeLogRepository.findMaxId();
+        cursor.reset(lastSeenId);
+        // 로그가 이미 정리됐으면 시작 시각 (실제 변경 시각보다 늦으므로 304를 잘못 주지는 않음)
+        long lastModified = changeLogRepository.findById(lastSeenId)
+                .map(change -> toEpochMillis(change.getCreatedAt()))
+                .orElse(System.currentTimeMillis());
+        catalogVersion.set(new CatalogVersion(lastSeenId, lastModified));
+    }
+
+    public void record(Long productId, ProductChangeType changeType) {
+        record(List.of(productId), changeType);
+    }
+
+    // 호출한 트랜잭션 안에서 기록, 커밋되면 로컬 캐시 무효화
+    public void record(Collection<Long> productIds, ProductChangeType changeType) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<ProductChangeLog> saved = changeLogRepository.saveAll(ids.stream()
+                .map(id -> ProductChangeLog.builder()
+                        .productId(id)
+                        .changeType(changeType)
+                        .nodeId(nodeId)
+                        .build())
+                .collect(Collectors.toList()));
+        applyAfterCommit(ids, changeType, saved.get(saved.size() - 1));
+    }
+
+    /**
+     * 대량 변경 기록 (대량 등록용, JDBC 배치).
+     * 호출한 트랜잭션 안에서 실행되어야 하며, 커밋되면 record와 같이 캐시 무효화/재색인/버전 반영을 한다.
+     */
+    public void recordBatch(Collection<Long> productIds, ProductChangeType changeType) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, ids.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("productId", id)
+                        .addValue("changeType", changeType.name())
+                        .addValue("nodeId", nodeId)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new));
+        // 방금 넣은 로그는 이 노드의 가장 최근 로그 (ID 내림차순으로 첫 건만 찾음)
+        ProductChangeLog latest = changeLogRepository.findFirstByNodeIdOrderByIdDesc(nodeId)
+                .orElseThrow(() -> new IllegalStateException("상품 변경 로그 기록 실패"));
+        applyAfterCommit(ids, changeType, latest);
+    }
+
+    private void applyAfterCommit(Set<Long> ids, ProductChangeType changeType, ProductChangeLog latest) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(ids, changeType, latest);
+                }
+            });
+        } else {
+            apply(ids, changeType, latest);
+        }
+    }
+
+    private void apply(Set<Long> ids, ProductChangeType changeType, ProductChangeLog latest) {
+        if (changeType == ProductChangeType.STOCK) {
+            invalidateStock(ids);
+            return;
+        }
+        invalidate(ids);
+        advanceCatalogVersion(latest);
+    }
+
+    // 가장 최근 변경 ID (폴링 위치)
+    public long getLastSeenId() {
+        return cursor.getLastSeenId();
+    }
+
+    // 카탈로그 버전 (이 노드에 반영된 가장 최근 변경)
+    public CatalogVersion getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    @Scheduled(fixedDelayString = "${product.change-log.poll-interval:1000}")
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        // 지난 폴링 이후에 커밋된, 이미 지나친 ID의 변경 (대량 등록/수정 청크, 주문 트랜잭션 등)
+        List<Long> gapIds = cursor.pendingGaps(now);
+        for (int from = 0; from < gapIds.size(); from += POLL_BATCH_SIZE) {
+            List<ProductChangeLog> late = changeLogRepository.findAllById(
+                    gapIds.subList(from, Math.min(from + POLL_BATCH_SIZE, gapIds.size())));
+            late.forEach(change -> cursor.fill(change.getId()));
+            applyRemote(late, now);
+        }
+
+        List<ProductChangeLog> batch;
+        do {
+            batch = changeLogRepository.findByIdGreaterThanOrderByIdAsc(
+                    cursor.getLastSeenId(), PageRequest.of(0, POLL_BATCH_SIZE));
+            batch.forEach(change -> cursor.advance(change.getId(), now));
+            applyRemote(batch, now);
+        } while (batch.size() == POLL_BATCH_SIZE);
+    }
+
+    // 다른 노드의 변경 반영 (자기 노드 변경은 커밋 직후 이미 반영함)
+    private void applyRemote(List<ProductChangeLog> changes, long now) {
+        Set<Long> changedIds = new LinkedHashSet<>();
+        Set<Long> stockIds = new LinkedHashSet<>();
+        ProductChangeLog lastChanged = null;
+        for (ProductChangeLog change : changes) {
+            if (!nodeId.equals(change.getNodeId())) {
+                if (change.getChangeType() == ProductChangeType.STOCK) {
+                    stockIds.add(change.getProductId());
+                } else {
+                    changedIds.add(change.getProductId());
+                    lastChanged = change;
+                }
+                long committedAt = toEpochMillis(change.getCreatedAt());
+                invalidationLagTimer.record(Math.max(0, now - committedAt), TimeUnit.MILLISECONDS);
+            }
+        }
+        stockIds.removeAll(changedIds);
+        if (!stockIds.isEmpty()) {
+            invalidateStock(stockIds);
+        }
+        if (!changedIds.isEmpty()) {
+            invalidate(changedIds);
+            advanceCatalogVersion(lastChanged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.change-log.cleanup-interval:3600000}")
+    public void cleanup() {
+        int deleted = changeLogRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("오래된 상품 변경 로그 정리: {}건", deleted);
+        }
+    }
+
+    private void invalidate(Collection<Long> productIds) {
+        productCache.invalidate(productIds);
+        productBodyCache.invalidate(productIds);
+        indexRefresher.refresh(productIds);
+        invalidationCounter.increment(productIds.size());
+    }
+
+    // 재고만 바뀜: 단건 캐시만 비우고 목록 캐시는 TTL로 만료되게 둠
+    private void invalidateStock(Collection<Long> productIds) {
+        productCache.invalidateProducts(productIds);
+        productBodyCache.invalidateProducts(productIds);
+        // 필터별 개수는 재고에도 영향을 받으므로 필터 색인은 다시 반영
+        indexRefresher.refreshFacets(productIds);
+        invalidationCounter.increment(productIds.size());
+    }
+
+    /**
+     * 반영한 변경으로 카탈로그 버전을 올림.
+     * 커밋 순서와 ID 순서가 다를 수 있어서, 더 작은 ID의 변경이 늦게 반영되면 ID는 두고 시각만 올린다
+     * (이 경우 잠시 노드마다 버전이 다를 수 있지만 304를 잘못 주지는 않음).
+     */
+    private void advanceCatalogVersion(ProductChangeLog change) {
+        long changedAt = toEpochMillis(change.getCreatedAt());
+        catalogVersion.updateAndGet(current -> {
+            if (change.getId() > current.getVersion()) {
+                return new CatalogVersion(change.getId(), Math.max(changedAt, current.getLastModified()));
+            }
+            if (change.getId() < current.getVersion()) {
+                return new CatalogVersion(current.getVersion(), Math.max(changedAt, current.getLastModified() + 1));
+            }
+            return current;
+        });
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
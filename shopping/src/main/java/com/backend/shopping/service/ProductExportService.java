@@ -0,0 +1,138 @@
+package com.backend.shopping.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.shopping.dto.response.ProductResponse;
+import com.backend.shopping.entity.Product;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 전체 카탈로그 내보내기 (NDJSON 또는 CSV).
+ * 읽기 전용 트랜잭션 하나에서 ID 순으로 정방향 스트림을 열어 fetch size 단위로 가져오고,
+ * 한 건씩 출력한 뒤 영속성 컨텍스트에서 떼어내므로 카탈로그 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+@Slf4j
+public class ProductExportService {
+
+    private static final String CSV_HEADER =
+            "id,sku,name,description,price,stock,category,imageUrl,createdAt,updatedAt";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter ndjsonWriter;
+    private final int fetchSize;
+
+    public ProductExportService(EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                @Value("${product-export.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 줄마다 출력 스트림을 닫거나 flush하지 않도록 (버퍼가 찰 때만 내보냄)
+        this.ndjsonWriter = objectMapper.writerFor(ProductResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    // 전체 상품을 out에 씀 (요청 스레드가 아닌 StreamingResponseBody 스레드에서 호출), 내보낸 건수 반환
+    public long export(Format format, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        long count;
+        try {
+            count = readOnlyTransaction.execute(status -> {
+                long written = 0;
+                try (Stream<Product> products = entityManager
+                        .createQuery("SELECT p FROM Product p WHERE p.deletedAt IS NULL ORDER BY p.id", Product.class)
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                        .setHint(HibernateHints.HINT_READ_ONLY, true)
+                        .getResultStream()) {
+                    for (Product product : (Iterable<Product>) products::iterator) {
+                        if (format == Format.CSV) {
+                            writeCsv(writer, product);
+                        } else {
+                            ndjsonWriter.writeValue(writer, ProductService.convertToResponse(product));
+                            writer.write('\n');
+                        }
+                        // 쓴 상품은 영속성 컨텍스트에 남기지 않음
+                        entityManager.detach(product);
+                        written++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return written;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("카탈로그 내보내기 완료: {} {}건, {}ms", format, count, (System.nanoTime() - startNanos) / 1_000_000);
+        return count;
+    }
+
+    private void writeCsv(Writer writer, Product product) throws IOException {
+        writer.write(String.valueOf(product.getId()));
+        writer.write(',');
+        writer.write(csv(product.getSku()));
+        writer.write(',');
+        writer.write(csv(product.getName()));
+        writer.write(',');
+        writer.write(csv(product.getDescription()));
+        writer.write(',');
+        writer.write(product.getPrice() != null ? product.getPrice().toPlainString() : "");
+        writer.write(',');
+        writer.write(product.getStock() != null ? product.getStock().toString() : "");
+        writer.write(',');
+        writer.write(csv(product.getCategory()));
+        writer.write(',');
+        writer.write(csv(product.getImageUrl()));
+        writer.write(',');
+        writer.write(product.getCreatedAt() != null ? product.getCreatedAt().toString() : "");
+        writer.write(',');
+        writer.write(product.getUpdatedAt() != null ? product.getUpdatedAt().toString() : "");
+        writer.write('\n');
+    }
+
+    // RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,377 @@
+package com.backend.shopping.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.backend.shopping.dto.request.ProductSearchRequest;
+import com.backend.shopping.dto.response.ProductFacetResponse;
+import com.backend.shopping.dto.response.ProductFacetResponse.CategoryCount;
+import com.backend.shopping.dto.response.ProductFacetResponse.PriceRangeCount;
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 필터별 개수 색인 (메모리, 비트셋).
+ * 상품마다 번호(ordinal)를 붙이고, 카테고리별/가격대별/재고 있음 비트셋을 유지한다.
+ * 요청마다 조건별 비트셋을 만들어 AND 한 뒤 필터 값별 비트셋과 교집합 크기를 세므로 GROUP BY 조회가 없다.
+ * 가격/등록일 범위 조건은 번호별로 보관한 값을 훑어 비트셋으로 만든다.
+ * 상품명 조건은 목록 조회와 같은 기준이 되도록 검색 색인에서 찾은 상품 ID를 받아 비트셋으로 만든다.
+ * 시작 시 전체를 읽고, 이후에는 상품 변경 로그에 따라 해당 상품만 다시 반영한다 (재고 변경 포함).
+ */
+@Component
+@Slf4j
+public class ProductFacetIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    // 가격대 경계 (오름차순, 첫 구간은 0부터, 마지막 구간은 상한 없음)
+    private final List<BigDecimal> priceBoundaries;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 변경 반영은 조회부터 적용까지 한 번에 하나씩 (먼저 읽은 옛 상태가 나중에 적용되지 않도록)
+    private final Object refreshLock = new Object();
+
+    private volatile FacetData data;
+    private volatile boolean ready;
+    // 전체 재색인 도중 바뀐 상품 (재색인이 끝난 뒤 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public ProductFacetIndex(ProductRepository productRepository,
+                             @Value("${product.facets.price-buckets:10000,30000,50000,100000}") List<BigDecimal> priceBoundaries) {
+        this.productRepository = productRepository;
+        this.priceBoundaries = priceBoundaries.stream().sorted().collect(Collectors.toList());
+        this.data = new FacetData(this.priceBoundaries);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            FacetData fresh = new FacetData(priceBoundaries);
+            // ID 순 seek 페이징 (OFFSET 없음)
+            long lastId = 0;
+            List<ProductSummaryResponse> batch;
+            do {
+                long after = lastId;
+                batch = productRepository.findSummaries(
+                        (root, query, cb) -> cb.greaterThan(root.<Long>get("id"), after),
+                        Sort.by("id"), BUILD_BATCH_SIZE);
+                batch.forEach(fresh::put);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == BUILD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                data = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("상품 필터 색인 완료: {}건, 카테고리 {}개, {}ms",
+                    fresh.ordinals.size(), fresh.byCategory.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuilding = false;
+        }
+        if (!changedDuringRebuild.isEmpty()) {
+            refresh(List.copyOf(changedDuringRebuild));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 변경된 상품만 다시 반영 (삭제된 상품은 제거)
+    public void refresh(Collection<Long> productIds) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(productIds);
+        }
+        synchronized (refreshLock) {
+            List<ProductSummaryResponse> products = productRepository.findSummariesByIds(productIds);
+            lock.writeLock().lock();
+            try {
+                FacetData current = data;
+                productIds.forEach(current::remove);
+                products.forEach(current::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 상품의 필터별 개수.
+     * nameMatches는 검색 색인에서 상품명 검색어에 맞은 상품 ID (null이면 상품명 조건 없음).
+     * 색인이 아직 준비되지 않았으면 empty.
+     */
+    public Optional<ProductFacetResponse> count(ProductSearchRequest searchRequest, Set<Long> nameMatches) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(data.count(searchRequest, nameMatches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 상품 중 상품명 외 조건(카테고리/재고/가격/등록일)에 맞는 상품만.
+     * 검색어 + 필터 목록 조회에서 검색 색인 결과를 거를 때 사용한다 (필터별 개수와 같은 기준).
+     * 색인이 준비된 뒤에만 호출해야 한다.
+     */
+    public Set<Long> retainMatching(Collection<Long> productIds, ProductSearchRequest searchRequest) {
+        lock.readLock().lock();
+        try {
+            return data.retainMatching(productIds, searchRequest);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인 자료구조 (전체 재색인 시 새로 만들어 교체)
+    private static class FacetData {
+        private final List<BigDecimal> priceBoundaries;
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        // 번호별 값 (범위 조건을 훑을 때 사용)
+        private final List<Entry> entries = new ArrayList<>();
+        // 삭제되어 다시 쓸 수 있는 번호
+        private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+        private final BitSet live = new BitSet();
+        private final BitSet inStock = new BitSet();
+        private final Map<String, BitSet> byCategory = new HashMap<>();
+        private final BitSet[] byPriceRange;
+
+        FacetData(List<BigDecimal> priceBoundaries) {
+            this.priceBoundaries = priceBoundaries;
+            this.byPriceRange = new BitSet[priceBoundaries.size() + 1];
+            for (int i = 0; i < byPriceRange.length; i++) {
+                byPriceRange[i] = new BitSet();
+            }
+        }
+
+        void put(ProductSummaryResponse product) {
+            remove(product.getId());
+            Integer reused = freeOrdinals.poll();
+            int ordinal = reused != null ? reused : entries.size();
+            Entry entry = new Entry(product);
+            if (reused != null) {
+                entries.set(ordinal, entry);
+            } else {
+                entries.add(entry);
+            }
+            ordinals.put(product.getId(), ordinal);
+
+            live.set(ordinal);
+            if (product.isInStock()) {
+                inStock.set(ordinal);
+            }
+            if (product.getCategory() != null) {
+                byCategory.computeIfAbsent(product.getCategory(), c -> new BitSet()).set(ordinal);
+            }
+            if (product.getPrice() != null) {
+                byPriceRange[priceRange(product.getPrice())].set(ordinal);
+            }
+        }
+
+        void remove(Long productId) {
+            Integer ordinal = ordinals.remove(productId);
+            if (ordinal == null) {
+                return;
+            }
+            Entry entry = entries.get(ordinal);
+            live.clear(ordinal);
+            inStock.clear(ordinal);
+            if (entry.category != null) {
+                BitSet bits = byCategory.get(entry.category);
+                bits.clear(ordinal);
+                if (bits.isEmpty()) {
+                    byCategory.remove(entry.category);
+                }
+            }
+            if (entry.price != null) {
+                byPriceRange[priceRange(entry.price)].clear(ordinal);
+            }
+            entries.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        }
+
+        ProductFacetResponse count(ProductSearchRequest request, Set<Long> nameMatches) {
+            // 조건별 비트셋 (null이면 조건 없음)
+            BitSet name = nameMatches != null ? ordinalsOf(nameMatches) : null;
+            BitSet category = categoryFilter(request);
+            BitSet stock = stockFilter(request);
+            BitSet price = priceFilter(request);
+            BitSet created = createdFilter(request);
+
+            // 각 필터 값의 개수는 그 필터만 뺀 나머지 조건으로
+            BitSet all = intersect(name, category, stock, price, created);
+            BitSet exceptCategory = intersect(name, stock, price, created);
+            BitSet exceptStock = intersect(name, category, price, created);
+            BitSet exceptPrice = intersect(name, category, stock, created);
+
+            List<CategoryCount> categories = new ArrayList<>();
+            byCategory.forEach((value, bits) -> {
+                long count = intersectionSize(bits, exceptCategory);
+                if (count > 0) {
+                    categories.add(new CategoryCount(value, count));
+                }
+            });
+            categories.sort(Comparator.comparingLong(CategoryCount::getCount).reversed()
+                    .thenComparing(CategoryCount::getCategory));
+
+            List<PriceRangeCount> priceRanges = new ArrayList<>(byPriceRange.length);
+            for (int i = 0; i < byPriceRange.length; i++) {
+                priceRanges.add(new PriceRangeCount(
+                        i == 0 ? BigDecimal.ZERO : priceBoundaries.get(i - 1),
+                        i < priceBoundaries.size() ? priceBoundaries.get(i) : null,
+                        intersectionSize(byPriceRange[i], exceptPrice)));
+            }
+
+            long inStockCount = intersectionSize(inStock, exceptStock);
+            return ProductFacetResponse.builder()
+                    .total(all.cardinality())
+                    .categories(categories)
+                    .priceRanges(priceRanges)
+                    .inStockCount(inStockCount)
+                    .outOfStockCount(exceptStock.cardinality() - inStockCount)
+                    .build();
+        }
+
+        Set<Long> retainMatching(Collection<Long> productIds, ProductSearchRequest request) {
+            BitSet matching = intersect(categoryFilter(request), stockFilter(request),
+                    priceFilter(request), createdFilter(request));
+            return productIds.stream()
+                    .filter(id -> {
+                        Integer ordinal = ordinals.get(id);
+                        return ordinal != null && matching.get(ordinal);
+                    })
+                    .collect(Collectors.toSet());
+        }
+
+        private BitSet ordinalsOf(Collection<Long> productIds) {
+            BitSet result = new BitSet(entries.size());
+            for (Long id : productIds) {
+                Integer ordinal = ordinals.get(id);
+                if (ordinal != null) {
+                    result.set(ordinal);
+                }
+            }
+            return result;
+        }
+
+        private BitSet categoryFilter(ProductSearchRequest request) {
+            if (request.getCategory() == null || request.getCategory().isBlank()) {
+                return null;
+            }
+            return byCategory.getOrDefault(request.getCategory().trim(), new BitSet());
+        }
+
+        private BitSet stockFilter(ProductSearchRequest request) {
+            return Boolean.TRUE.equals(request.getInStock()) ? inStock : null;
+        }
+
+        private BitSet priceFilter(ProductSearchRequest request) {
+            BigDecimal minPrice = request.getMinPrice();
+            BigDecimal maxPrice = request.getMaxPrice();
+            if (minPrice == null && maxPrice == null) {
+                return null;
+            }
+            return scan(i -> {
+                BigDecimal p = entries.get(i).price;
+                return p != null && (minPrice == null || p.compareTo(minPrice) >= 0)
+                        && (maxPrice == null || p.compareTo(maxPrice) <= 0);
+            });
+        }
+
+        private BitSet createdFilter(ProductSearchRequest request) {
+            LocalDateTime from = request.getCreatedFrom();
+            LocalDateTime to = request.getCreatedTo();
+            if (from == null && to == null) {
+                return null;
+            }
+            return scan(i -> {
+                LocalDateTime c = entries.get(i).createdAt;
+                return c != null && (from == null || !c.isBefore(from)) && (to == null || c.isBefore(to));
+            });
+        }
+
+        // 살아 있는 상품 중 조건에 맞는 번호
+        private BitSet scan(IntPredicate matches) {
+            BitSet result = new BitSet(entries.size());
+            for (int i = live.nextSetBit(0); i >= 0; i = live.nextSetBit(i + 1)) {
+                if (matches.test(i)) {
+                    result.set(i);
+                }
+            }
+            return result;
+        }
+
+        private BitSet intersect(BitSet... filters) {
+            BitSet result = (BitSet) live.clone();
+            for (BitSet filter : filters) {
+                if (filter != null) {
+                    result.and(filter);
+                }
+            }
+            return result;
+        }
+
+        private static long intersectionSize(BitSet a, BitSet b) {
+            BitSet both = (BitSet) a.clone();
+            both.and(b);
+            return both.cardinality();
+        }
+
+        // 가격이 속한 구간 (경계값은 위 구간에 포함)
+        private int priceRange(BigDecimal price) {
+            int range = 0;
+            while (range < priceBoundaries.size() && price.compareTo(priceBoundaries.get(range)) >= 0) {
+                range++;
+            }
+            return range;
+        }
+    }
+
+    private static class Entry {
+        private final String category;
+        private final BigDecimal price;
+        private final LocalDateTime createdAt;
+
+        Entry(ProductSummaryResponse product) {
+            this.category = product.getCategory();
+            this.price = product.getPrice();
+            this.createdAt = product.getCreatedAt();
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.backend.shopping.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.shopping.dto.request.ProductImportRecord;
+import com.backend.shopping.dto.response.ProductImportResponse;
+import com.backend.shopping.entity.ProductChangeType;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 대량 상품 등록 (CSV 또는 NDJSON).
+ * 요청 스레드가 본문을 한 행씩 읽어 검사하고, 검사를 통과한 행을 청크로 묶어 저장 스레드에 넘긴다.
+ * 저장 스레드는 청크마다 SKU로 기존 상품을 한 번에 조회한 뒤, 한 트랜잭션에서 새 상품은 배치 INSERT,
+ * 기존 상품은 배치 UPDATE 한다. 두 스레드 사이 큐는 크기가 정해져 있어 저장이 밀리면 읽기가 기다린다.
+ */
+@Service
+@Slf4j
+public class ProductImportService {
+
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO products (sku, name, description, price, stock, category, image_url, created_at, updated_at) "
+            + "VALUES (:sku, :name, :description, :price, :stock, :category, :imageUrl, :now, :now)";
+
+    // 삭제된 상품과 SKU가 같으면 되살림 (공급사 목록에 다시 올라온 상품)
+    private static final String UPDATE_PRODUCT_SQL =
+            "UPDATE products SET name = :name, description = :description, price = :price, stock = :stock, "
+            + "category = :category, image_url = :imageUrl, updated_at = :now, deleted_at = NULL WHERE id = :id";
+
+    private static final String SELECT_IDS_SQL = "SELECT id, sku FROM products WHERE sku IN (:skus)";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("sku", "name", "price", "stock");
+
+    // 응답에 담는 오류 최대 개수
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    // 진행 상황 로그 간격 (행)
+    private static final int PROGRESS_LOG_INTERVAL = 100_000;
+    // 큐가 찬 동안 저장 스레드 상태를 확인하는 간격
+    private static final long OFFER_WAIT_MILLIS = 200;
+    // 입력 끝 표시
+    private static final List<PendingProduct> END = List.of();
+    // 검사에 실패해 건너뛴 행 표시
+    private static final PendingProduct SKIPPED = new PendingProduct(0, null);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ProductChangeTracker changeTracker;
+    private final int chunkSize;
+    private final int queueChunks;
+    private final ExecutorService writer;
+    // 저장 스레드를 공유하므로 동시에 하나의 등록 작업만 허용
+    private final Semaphore importPermit = new Semaphore(1);
+
+    // 진행 중인 작업 (진행 상황 조회용)
+    private volatile ImportContext current;
+    private volatile ProductImportResponse lastResult;
+
+    private final Counter createdCounter;
+    private final Counter updatedCounter;
+    private final Counter failedCounter;
+
+    public ProductImportService(NamedParameterJdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                ProductChangeTracker changeTracker,
+                                MeterRegistry meterRegistry,
+                                @Value("${product-import.chunk-size:1000}") int chunkSize,
+                                @Value("${product-import.queue-chunks:4}") int queueChunks) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.changeTracker = changeTracker;
+        this.chunkSize = chunkSize;
+        this.queueChunks = Math.max(1, queueChunks);
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "product-import-writer");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.createdCounter = Counter.builder("product.import.records").tag("result", "created").register(meterRegistry);
+        this.updatedCounter = Counter.builder("product.import.records").tag("result", "updated").register(meterRegistry);
+        this.failedCounter = Counter.builder("product.import.records").tag("result", "failed").register(meterRegistry);
+    }
+
+    // contentType이 text/csv면 CSV(첫 행은 헤더), 아니면 NDJSON
+    public ProductImportResponse importProducts(InputStream body, String contentType) throws IOException {
+        if (!importPermit.tryAcquire()) {
+            throw new CustomException(ErrorCode.IMPORT_IN_PROGRESS);
+        }
+        try {
+            ImportContext context = new ImportContext();
+            current = context;
+            ProductImportResponse response = doImport(body, isCsv(contentType), context);
+            lastResult = response;
+            return response;
+        } finally {
+            current = null;
+            importPermit.release();
+        }
+    }
+
+    // 진행 중인 작업의 현재 상황, 없으면 마지막 작업 결과
+    public ProductImportResponse getProgress() {
+        ImportContext context = current;
+        if (context != null) {
+            return context.toResponse(true);
+        }
+        ProductImportResponse last = lastResult;
+        return last != null ? last : ProductImportResponse.builder().errors(List.of()).build();
+    }
+
+    private ProductImportResponse doImport(InputStream body, boolean csv, ImportContext context) throws IOException {
+        BlockingQueue<List<PendingProduct>> queue = new ArrayBlockingQueue<>(queueChunks);
+        Future<?> written = writer.submit(() -> drain(queue, context));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            List<PendingProduct> chunk = new ArrayList<>(chunkSize);
+            RowSource rows = csv ? csvRows(reader) : ndjsonRows(reader);
+            PendingProduct pending;
+            while ((pending = rows.next(context)) != null) {
+                if (pending == SKIPPED) {
+                    continue;
+                }
+                chunk.add(pending);
+                if (chunk.size() >= chunkSize) {
+                    enqueue(queue, chunk, written);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                enqueue(queue, chunk, written);
+            }
+            enqueue(queue, END, written);
+            written.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 상품 등록이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대량 상품 등록 저장 실패", e.getCause());
+        } finally {
+            // 읽기 중 오류로 끝났으면 저장 스레드도 멈춤 (이미 커밋된 청크는 그대로 둠)
+            written.cancel(true);
+        }
+
+        ProductImportResponse response = context.toResponse(false);
+        log.info("대량 상품 등록 완료: 전체 {}건, 등록 {}건, 갱신 {}건, 실패 {}건, {}ms ({}건/초)",
+                response.getTotalRecords(), response.getCreatedCount(), response.getUpdatedCount(),
+                response.getFailedCount(), response.getElapsedMillis(), Math.round(response.getRecordsPerSecond()));
+        return response;
+    }
+
+    // 큐가 차 있으면 저장 스레드가 따라올 때까지 기다림 (저장 스레드가 죽었으면 오류)
+    private void enqueue(BlockingQueue<List<PendingProduct>> queue, List<PendingProduct> chunk, Future<?> written)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(chunk, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (written.isDone()) {
+                written.get();
+                throw new IllegalStateException("대량 상품 등록 저장 스레드가 종료되었습니다");
+            }
+        }
+    }
+
+    private void drain(BlockingQueue<List<PendingProduct>> queue, ImportContext context) {
+        try {
+            List<PendingProduct> chunk;
+            while ((chunk = queue.take()) != END) {
+                processChunk(chunk, context);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RowSource ndjsonRows(BufferedReader reader) {
+        int[] lineNumber = {0};
+        return context -> {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber[0]++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                context.read();
+                ProductImportRecord record;
+                try {
+                    record = objectMapper.readValue(line, ProductImportRecord.class);
+                } catch (JsonProcessingException e) {
+                    context.fail(lineNumber[0], null, "JSON 형식이 올바르지 않습니다");
+                    return SKIPPED;
+                }
+                // "null" 줄은 파싱은 되지만 상품이 아님
+                if (record == null) {
+                    context.fail(lineNumber[0], null, "상품 JSON 객체가 아닙니다");
+                    return SKIPPED;
+                }
+                return validate(lineNumber[0], record, context);
+            }
+            return null;
+        };
+    }
+
+    private RowSource csvRows(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header;
+        try {
+            header = csv.readRecord();
+        } catch (CsvReader.UnclosedQuoteException e) {
+            throw new CustomException(ErrorCode.INVALID_IMPORT_HEADER);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                // BOM, 공백, 대소문자, 밑줄 차이는 무시 (image_url = imageUrl)
+                String name = header.get(i).replace("\uFEFF", "").trim().replace("_", "").toLowerCase(Locale.ROOT);
+                columns.putIfAbsent(name, i);
+            }
+        }
+        if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new CustomException(ErrorCode.INVALID_IMPORT_HEADER);
+        }
+        int columnCount = header.size();
+
+        return context -> {
+            List<String> fields;
+            while ((fields = readCsvRecord(csv, context)) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                context.read();
+                int line = csv.getRecordLine();
+                String sku = column(fields, columns, "sku");
+                if (fields.size() != columnCount) {
+                    context.fail(line, sku, "열 개수가 헤더와 맞지 않습니다");
+                    return SKIPPED;
+                }
+
+                ProductImportRecord record = new ProductImportRecord();
+                record.setSku(sku);
+                record.setName(column(fields, columns, "name"));
+                record.setDescription(column(fields, columns, "description"));
+                record.setCategory(column(fields, columns, "category"));
+                record.setImageUrl(column(fields, columns, "imageurl"));
+                try {
+                    String price = column(fields, columns, "price");
+                    record.setPrice(price == null ? null : new BigDecimal(price));
+                } catch (NumberFormatException e) {
+                    context.fail(line, sku, "가격 형식이 올바르지 않습니다");
+                    return SKIPPED;
+                }
+                try {
+                    String stock = column(fields, columns, "stock");
+                    record.setStock(stock == null ? null : Integer.valueOf(stock));
+                } catch (NumberFormatException e) {
+                    context.fail(line, sku, "재고 수량 형식이 올바르지 않습니다");
+                    return SKIPPED;
+                }
+                return validate(line, record, context);
+            }
+            return null;
+        };
+    }
+
+    // 따옴표가 닫히지 않은 행은 실패로 기록하고 끝으로 처리 (그 뒤는 모두 그 행의 필드로 읽혔음)
+    private static List<String> readCsvRecord(CsvReader csv, ImportContext context) throws IOException {
+        try {
+            return csv.readRecord();
+        } catch (CsvReader.UnclosedQuoteException e) {
+            context.read();
+            context.fail(csv.getRecordLine(), null, "닫히지 않은 따옴표가 있어 이후 내용을 읽을 수 없습니다");
+            return null;
+        }
+    }
+
+    // 빈 값은 null
+    private static String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // 유효성 검사 + 파일 내 SKU 중복 검사
+    private PendingProduct validate(int line, ProductImportRecord record, ImportContext context) {
+        Set<ConstraintViolation<ProductImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            context.fail(line, record.getSku(), violations.iterator().next().getMessage());
+            return SKIPPED;
+        }
+        if (!context.seenSkus.add(record.getSku())) {
+            context.fail(line, record.getSku(), "파일 안에 중복된 SKU입니다");
+            return SKIPPED;
+        }
+        return new PendingProduct(line, record);
+    }
+
+    private void processChunk(List<PendingProduct> chunk, ImportContext context) {
+        try {
+            upsert(chunk, context);
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 다른 요청이 같은 SKU를 등록한 경우 → 한 건씩 다시 시도해서 해당 건만 실패 처리
+            for (PendingProduct pending : chunk) {
+                try {
+                    upsert(List.of(pending), context);
+                } catch (DataAccessException ex) {
+                    context.fail(pending.line, pending.record.getSku(), "저장에 실패했습니다");
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("대량 상품 등록 청크 저장 실패: {}", e.getMessage());
+            chunk.forEach(p -> context.fail(p.line, p.record.getSku(), "저장에 실패했습니다"));
+        }
+    }
+
+    private void upsert(List<PendingProduct> chunk, ImportContext context) {
+        // 1. SKU로 기존 상품을 한 번에 조회
+        Map<String, Long> existing = findIds(chunk);
+        List<PendingProduct> inserts = new ArrayList<>();
+        List<PendingProduct> updates = new ArrayList<>();
+        for (PendingProduct pending : chunk) {
+            (existing.containsKey(pending.record.getSku()) ? updates : inserts).add(pending);
+        }
+
+        // 2. 새 상품 INSERT, 기존 상품 UPDATE를 한 트랜잭션에서 배치로 (변경 로그도 같은 트랜잭션)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, inserts.stream()
+                        .map(p -> parameters(p.record, now))
+                        .toArray(SqlParameterSource[]::new));
+                changeTracker.recordBatch(findIds(inserts).values(), ProductChangeType.CREATED);
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_PRODUCT_SQL, updates.stream()
+                        .map(p -> parameters(p.record, now).addValue("id", existing.get(p.record.getSku())))
+                        .toArray(SqlParameterSource[]::new));
+                changeTracker.recordBatch(updates.stream()
+                        .map(p -> existing.get(p.record.getSku()))
+                        .collect(Collectors.toList()), ProductChangeType.UPDATED);
+            }
+        });
+        context.saved(inserts.size(), updates.size());
+    }
+
+    private Map<String, Long> findIds(List<PendingProduct> products) {
+        List<String> skus = products.stream().map(p -> p.record.getSku()).collect(Collectors.toList());
+        return jdbcTemplate.query(SELECT_IDS_SQL, new MapSqlParameterSource("skus", skus),
+                        (rs, rowNum) -> Map.entry(rs.getString("sku"), rs.getLong("id"))).stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static MapSqlParameterSource parameters(ProductImportRecord record, Timestamp now) {
+        return new MapSqlParameterSource()
+                .addValue("sku", record.getSku())
+                .addValue("name", record.getName())
+                .addValue("description", record.getDescription())
+                .addValue("price", record.getPrice())
+                .addValue("stock", record.getStock())
+                .addValue("category", record.getCategory())
+                .addValue("imageUrl", record.getImageUrl())
+                .addValue("now", now);
+    }
+
+    private static boolean isCsv(String contentType) {
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.shutdownNow();
+    }
+
+    // 다음 검사 통과 행, 실패한 행이면 SKIPPED, 끝이면 null
+    @FunctionalInterface
+    private interface RowSource {
+        PendingProduct next(ImportContext context) throws IOException;
+    }
+
+    // 읽기(요청 스레드)와 저장(저장 스레드)이 함께 갱신하므로 동기화
+    private class ImportContext {
+        private final long startNanos = System.nanoTime();
+        // 읽기 스레드만 사용
+        private final Set<String> seenSkus = new HashSet<>();
+        private final List<ProductImportResponse.RecordError> errors = new ArrayList<>();
+        private int total;
+        private int created;
+        private int updated;
+        private int failed;
+
+        synchronized void read() {
+            total++;
+            if (total % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("대량 상품 등록 진행: {}건 읽음, 등록 {}건, 갱신 {}건, 실패 {}건", total, created, updated, failed);
+            }
+        }
+
+        synchronized void fail(int line, String sku, String reason) {
+            failed++;
+            failedCounter.increment();
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportResponse.RecordError(line, sku, reason));
+            }
+        }
+
+        synchronized void saved(int createdCount, int updatedCount) {
+            created += createdCount;
+            updated += updatedCount;
+            createdCounter.increment(createdCount);
+            updatedCounter.increment(updatedCount);
+        }
+
+        synchronized ProductImportResponse toResponse(boolean running) {
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            int saved = created + updated;
+            double perSecond = elapsedMillis > 0 ? saved * 1000.0 / elapsedMillis : saved;
+            // 오류는 줄 번호 순으로 (저장 단계 오류가 읽기 단계 오류보다 늦게 들어옴)
+            List<ProductImportResponse.RecordError> sorted = new ArrayList<>(errors);
+            sorted.sort((a, b) -> Integer.compare(a.getLine(), b.getLine()));
+            return ProductImportResponse.builder()
+                    .running(running)
+                    .totalRecords(total)
+                    .createdCount(created)
+                    .updatedCount(updated)
+                    .failedCount(failed)
+                    .elapsedMillis(elapsedMillis)
+                    .recordsPerSecond(perSecond)
+                    .errors(sorted)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+
+    private static class PendingProduct {
+        private final int line;
+        private final ProductImportRecord record;
+
+        PendingProduct(int line, ProductImportRecord record) {
+            this.line = line;
+            this.record = record;
+        }
+    }
+}
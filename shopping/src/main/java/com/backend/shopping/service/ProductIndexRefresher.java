@@ -0,0 +1,115 @@
+package com.backend.shopping.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 변경을 검색/필터/자동완성 색인에 반영하는 전용 스레드.
+ * 커밋 후 콜백은 쓰기 요청 스레드에서 커넥션과 EntityManager가 아직 묶인 채로 실행되므로, 거기서는 바뀐 ID만 쌓아 둔다.
+ * 이 스레드가 쌓인 ID를 모아 자기 읽기 전용 트랜잭션에서 읽고 반영한다.
+ * 반영은 이 스레드 하나에서만 하므로 같은 색인에 대한 조회/반영 순서가 뒤바뀌지 않는다.
+ */
+@Component
+@Slf4j
+public class ProductIndexRefresher {
+
+    // 한 트랜잭션에서 읽을 최대 상품 수
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    private final ProductSearchIndex searchIndex;
+    private final ProductFacetIndex facetIndex;
+    private final ProductSuggestIndex suggestIndex;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService refresher;
+
+    // 반영 대기 ID (this로 동기화), 필터 색인은 재고 변경도 반영
+    private Set<Long> pendingFacetIds = new LinkedHashSet<>();
+    private Set<Long> pendingTextIds = new LinkedHashSet<>();
+    private boolean scheduled;
+
+    public ProductIndexRefresher(ProductSearchIndex searchIndex,
+                                 ProductFacetIndex facetIndex,
+                                 ProductSuggestIndex suggestIndex,
+                                 PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.facetIndex = facetIndex;
+        this.suggestIndex = suggestIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.refresher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "product-index-refresher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // 모든 색인에 반영 (재고 외 변경)
+    public void refresh(Collection<Long> productIds) {
+        enqueue(productIds, true);
+    }
+
+    // 필터 색인에만 반영 (재고 변경은 검색/자동완성과 무관)
+    public void refreshFacets(Collection<Long> productIds) {
+        enqueue(productIds, false);
+    }
+
+    private synchronized void enqueue(Collection<Long> productIds, boolean text) {
+        pendingFacetIds.addAll(productIds);
+        if (text) {
+            pendingTextIds.addAll(productIds);
+        }
+        if (!scheduled) {
+            scheduled = true;
+            refresher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        List<Long> facetIds;
+        List<Long> textIds;
+        synchronized (this) {
+            facetIds = new ArrayList<>(pendingFacetIds);
+            textIds = new ArrayList<>(pendingTextIds);
+            pendingFacetIds = new LinkedHashSet<>();
+            pendingTextIds = new LinkedHashSet<>();
+            scheduled = false;
+        }
+        for (int from = 0; from < facetIds.size(); from += REFRESH_BATCH_SIZE) {
+            List<Long> chunk = facetIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, facetIds.size()));
+            apply(() -> facetIndex.refresh(chunk), chunk.size());
+        }
+        for (int from = 0; from < textIds.size(); from += REFRESH_BATCH_SIZE) {
+            List<Long> chunk = textIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, textIds.size()));
+            apply(() -> {
+                searchIndex.refresh(chunk);
+                suggestIndex.refresh(chunk);
+            }, chunk.size());
+        }
+    }
+
+    // 실패해도 다음 반영 작업은 계속 (해당 상품은 다음 변경이나 색인 재구축 때 반영됨)
+    private void apply(Runnable refresh, int size) {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> refresh.run());
+        } catch (RuntimeException e) {
+            log.warn("상품 색인 반영 실패: {}건", size, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
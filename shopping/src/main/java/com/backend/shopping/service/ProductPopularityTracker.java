@@ -0,0 +1,256 @@
+package com.backend.shopping.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.shopping.entity.ProductSalesBucket;
+import com.backend.shopping.repository.ProductSalesBucketRepository;
+import com.backend.shopping.repository.ProductSalesBucketRepository.SalesSum;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판매량 기반 인기 상품 순위.
+ * 주문 생성/취소가 커밋되면 상품별 카운터(LongAdder)에 더하기만 하고, 주기적으로
+ * 1) 모인 판매량을 시간 구간 테이블에 반영(스냅샷)하고 2) 윈도우 안의 구간을 모든 노드 합산으로 읽어
+ * 오래된 구간일수록 반감기에 따라 가중치를 줄인 점수로 전체/카테고리별 상위 K개를 다시 계산한다.
+ * 조회는 미리 계산된 목록을 그대로 반환한다 (DB 조회 없음).
+ * 자동완성처럼 점수로 직접 정렬하는 곳에는 고정 시점 기준 log 점수를 준다 (시간이 지나도 판매가 없으면 그대로).
+ */
+@Component
+@Slf4j
+public class ProductPopularityTracker {
+
+    // 순위 점수 기준 시점 (감쇠 가중치를 현재가 아닌 이 시점 기준으로 매김)
+    private static final LocalDateTime RANK_EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0);
+    // 순위 점수 자릿수 (계산할 때마다 부동소수점 오차로 점수가 바뀌지 않게)
+    private static final double RANK_PRECISION = 1e6;
+
+    private final ProductSalesBucketRepository bucketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration bucketSize;
+    private final Duration window;
+    private final double halfLifeMillis;
+    private final int topK;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 아직 테이블에 반영하지 않은 판매량 (상품 ID → 수량)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile Ranking ranking = new Ranking(Collections.emptyList(), Collections.emptyMap(), Collections.emptyMap());
+
+    private final Timer refreshTimer;
+
+    public ProductPopularityTracker(ProductSalesBucketRepository bucketRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${product.popularity.bucket-size:1h}") Duration bucketSize,
+                                    @Value("${product.popularity.window:7d}") Duration window,
+                                    @Value("${product.popularity.half-life:1d}") Duration halfLife,
+                                    @Value("${product.popularity.top-k:100}") int topK) {
+        this.bucketRepository = bucketRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bucketSize = bucketSize;
+        this.window = window;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.topK = topK;
+        this.refreshTimer = Timer.builder("product.popularity.refresh").register(meterRegistry);
+        Gauge.builder("product.popularity.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    // 주문 생성 시 판매량 반영 (커밋 후)
+    public void recordSales(Map<Long, Integer> quantities) {
+        afterCommit(quantities, 1);
+    }
+
+    // 주문 취소 시 판매량 차감 (커밋 후)
+    public void recordCancellation(Map<Long, Integer> quantities) {
+        afterCommit(quantities, -1);
+    }
+
+    // 인기 상품 ID (category가 null이면 전체), 아직 집계 전이면 빈 목록
+    public List<Long> getTopProducts(String category, int limit) {
+        Ranking current = ranking;
+        List<Long> ids = category == null
+                ? current.global
+                : current.byCategory.getOrDefault(category, Collections.emptyList());
+        return ids.size() <= limit ? ids : ids.subList(0, Math.max(0, limit));
+    }
+
+    /**
+     * 윈도우 안에서 팔린 상품의 순위 점수 (팔리지 않았거나 취소가 더 많은 상품은 없음).
+     * log2(Σ 구간 판매량 × 2^((구간 중간 - 기준 시점) / 반감기))라서 값의 순서는 감쇠 점수와 같고,
+     * 판매량이 그대로면 다시 계산해도 값이 바뀌지 않는다 (감쇠는 모든 상품에 똑같이 적용되므로 순서에 영향 없음).
+     */
+    public Map<Long, Double> getRankScores() {
+        return ranking.rankScores;
+    }
+
+    @Scheduled(fixedDelayString = "${product.popularity.refresh-interval:30000}")
+    public synchronized void refresh() {
+        refreshTimer.record(() -> {
+            flush();
+            recompute(LocalDateTime.now());
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${product.popularity.cleanup-interval:3600000}")
+    public void cleanup() {
+        int deleted = bucketRepository.deleteOlderThan(LocalDateTime.now().minus(window).minus(bucketSize));
+        if (deleted > 0) {
+            log.info("오래된 판매량 구간 정리: {}건", deleted);
+        }
+    }
+
+    private void afterCommit(Map<Long, Integer> quantities, int sign) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(quantities, sign);
+                }
+            });
+        } else {
+            add(quantities, sign);
+        }
+    }
+
+    private void add(Map<Long, Integer> quantities, int sign) {
+        quantities.forEach((productId, quantity) ->
+                pending.computeIfAbsent(productId, id -> new LongAdder()).add((long) sign * quantity));
+    }
+
+    // 모인 판매량을 현재 구간의 이 노드 행에 더함 (실패하면 다음 주기에 다시 시도)
+    void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((productId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(productId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime bucketStart = bucketStart(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach((productId, delta) -> {
+                if (bucketRepository.addQuantity(productId, bucketStart, nodeId, delta) == 0) {
+                    bucketRepository.save(ProductSalesBucket.builder()
+                            .productId(productId)
+                            .bucketStart(bucketStart)
+                            .nodeId(nodeId)
+                            .quantity(delta)
+                            .build());
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.warn("판매량 스냅샷 저장 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+            restore(deltas);
+        }
+    }
+
+    private void restore(Map<Long, Long> deltas) {
+        deltas.forEach((productId, delta) ->
+                pending.computeIfAbsent(productId, id -> new LongAdder()).add(delta));
+    }
+
+    // 윈도우 안의 구간별 판매량에 시간 감쇠 가중치를 곱해 점수 계산 후 상위 K개
+    void recompute(LocalDateTime now) {
+        Map<Long, Double> scores = new HashMap<>();
+        // 순위 점수용 (현재 구간도 경과 시간을 0으로 자르지 않음)
+        Map<Long, Double> rankSums = new HashMap<>();
+        Map<Long, String> categories = new HashMap<>();
+        for (SalesSum sum : bucketRepository.sumByProductAndBucket(now.minus(window))) {
+            // 구간 중간 시각 기준 경과 시간
+            long midAgeMillis = Duration.between(sum.getBucketStart(), now).toMillis() - bucketSize.toMillis() / 2;
+            double weight = Math.pow(0.5, Math.max(0, midAgeMillis) / halfLifeMillis);
+            scores.merge(sum.getProductId(), sum.getQuantity() * weight, Double::sum);
+            rankSums.merge(sum.getProductId(), sum.getQuantity() * Math.pow(0.5, midAgeMillis / halfLifeMillis), Double::sum);
+            if (sum.getCategory() != null) {
+                categories.put(sum.getProductId(), sum.getCategory());
+            }
+        }
+
+        Map<String, Map<Long, Double>> scoresByCategory = new HashMap<>();
+        categories.forEach((productId, category) -> scoresByCategory
+                .computeIfAbsent(category, c -> new HashMap<>())
+                .put(productId, scores.get(productId)));
+
+        Map<String, List<Long>> byCategory = new HashMap<>();
+        scoresByCategory.forEach((category, categoryScores) -> byCategory.put(category, top(categoryScores)));
+        ranking = new Ranking(top(scores), byCategory, Collections.unmodifiableMap(rankScores(rankSums, now)));
+    }
+
+    // log2(현재 기준 가중 합) + 기준 시점부터 지난 반감기 수 = 기준 시점 기준 가중 합의 log2
+    private Map<Long, Double> rankScores(Map<Long, Double> rankSums, LocalDateTime now) {
+        double halfLivesSinceEpoch = Duration.between(RANK_EPOCH, now).toMillis() / halfLifeMillis;
+        Map<Long, Double> rankScores = new HashMap<>();
+        rankSums.forEach((productId, sum) -> {
+            if (sum > 0) {
+                double score = Math.log(sum) / Math.log(2) + halfLivesSinceEpoch;
+                rankScores.put(productId, Math.round(score * RANK_PRECISION) / RANK_PRECISION);
+            }
+        });
+        return rankScores;
+    }
+
+    private List<Long> top(Map<Long, Double> scores) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+        List<Long> ids = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ids.add(heap.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return Collections.unmodifiableList(ids);
+    }
+
+    private LocalDateTime bucketStart(LocalDateTime time) {
+        long bucketMillis = bucketSize.toMillis();
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        long sinceDay = Duration.between(day, time).toMillis();
+        return day.plus(Duration.ofMillis(sinceDay - sinceDay % bucketMillis));
+    }
+
+    // 계산이 끝난 순위 (통째로 교체)
+    private static class Ranking {
+        private final List<Long> global;
+        private final Map<String, List<Long>> byCategory;
+        private final Map<Long, Double> rankScores;
+
+        Ranking(List<Long> global, Map<String, List<Long>> byCategory, Map<Long, Double> rankScores) {
+            this.global = global;
+            this.byCategory = byCategory;
+            this.rankScores = rankScores;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.backend.shopping.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제된 상품의 장바구니 항목 정리.
+ * 상품 삭제 요청은 삭제 표시만 하고 끝나며, 이 작업이 주기적으로 장바구니 항목을 청크 단위 DELETE 문으로 지운다.
+ * 문장마다 자동 커밋되므로 긴 트랜잭션이나 큰 잠금이 없다. 주문 항목(주문 내역)은 건드리지 않는다.
+ * 정리 전에 상품이 되살아나면(대량 등록) 조건에서 빠지므로 남은 항목은 지우지 않는다.
+ */
+@Component
+@Slf4j
+public class ProductPurgeJob {
+
+    private static final String DELETE_CART_ITEMS_SQL =
+            "DELETE FROM cart_items WHERE id IN ("
+            + "SELECT ci.id FROM cart_items ci JOIN products p ON p.id = ci.product_id "
+            + "WHERE p.deleted_at IS NOT NULL LIMIT :limit)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final Counter purgedCounter;
+
+    public ProductPurgeJob(NamedParameterJdbcTemplate jdbcTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${product.purge.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.purgedCounter = Counter.builder("product.purge.cart-items").register(meterRegistry);
+    }
+
+    // 지운 장바구니 항목 수 반환
+    @Scheduled(fixedDelayString = "${product.purge.interval:60000}")
+    public synchronized long purge() {
+        long startNanos = System.nanoTime();
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", chunkSize);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_CART_ITEMS_SQL, params);
+            total += deleted;
+            purgedCounter.increment(deleted);
+        } while (deleted == chunkSize);
+
+        if (total > 0) {
+            log.info("삭제된 상품의 장바구니 항목 정리: {}건, {}ms", total, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+        return total;
+    }
+}
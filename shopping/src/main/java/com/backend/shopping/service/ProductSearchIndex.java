@@ -0,0 +1,420 @@
+package com.backend.shopping.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.backend.shopping.entity.Product;
+import com.backend.shopping.repository.ProductRepository;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 이름/카테고리/설명 역색인 (메모리).
+ * 단어 → 상품별 가중 빈도 역색인과, 부분 문자열 검색을 위한 n-gram(1·2글자) → 단어 색인을 둔다.
+ * 검색어 단어마다 n-gram으로 후보 단어를 찾고, BM25로 점수를 매겨 페이지 크기만큼의 상품 ID만 돌려준다.
+ * 시작 시 전체를 색인하고, 이후에는 상품 변경 로그에 따라 해당 상품만 다시 색인한다.
+ */
+@Component
+@Slf4j
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 필드 가중치 (상품명 일치가 가장 중요)
+    private static final float NAME_WEIGHT = 3f;
+    private static final float CATEGORY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    // 검색어와 단어가 정확히 같으면 부분 일치보다 우대
+    private static final double EXACT_TERM_BOOST = 1.5;
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 변경 반영은 조회부터 적용까지 한 번에 하나씩 (먼저 읽은 옛 상태가 나중에 적용되지 않도록)
+    private final Object refreshLock = new Object();
+
+    private volatile IndexData data = new IndexData();
+    private volatile boolean ready;
+    // 전체 재색인 도중 바뀐 상품 (재색인이 끝난 뒤 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            IndexData fresh = new IndexData();
+            Page<Product> page;
+            int pageNumber = 0;
+            do {
+                page = productRepository.findAll(PageRequest.of(pageNumber++, BUILD_BATCH_SIZE, Sort.by("id")));
+                page.forEach(fresh::add);
+            } while (page.hasNext());
+
+            lock.writeLock().lock();
+            try {
+                data = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("상품 검색 색인 완료: {}건, 단어 {}개, {}ms",
+                    fresh.documents.size(), fresh.postings.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuilding = false;
+        }
+        if (!changedDuringRebuild.isEmpty()) {
+            refresh(new ArrayList<>(changedDuringRebuild));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 변경된 상품만 다시 색인 (삭제된 상품은 색인에서 제거)
+    public void refresh(Collection<Long> productIds) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(productIds);
+        }
+        synchronized (refreshLock) {
+            List<Product> products = productRepository.findAllById(productIds);
+            lock.writeLock().lock();
+            try {
+                IndexData current = data;
+                productIds.forEach(current::remove);
+                products.forEach(current::add);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 검색어로 상품 ID를 관련도 순으로 조회.
+     * 색인이 아직 준비되지 않았으면 empty (호출 측에서 DB 검색으로 대체).
+     */
+    public Optional<SearchResult> search(String query, int page, int size) {
+        return search(query, page, size, UnaryOperator.identity());
+    }
+
+    /**
+     * 검색어로 찾은 상품 중 filter가 남긴 상품만 관련도 순으로 조회 (검색어 + 다른 조건 목록 조회).
+     * 색인이 아직 준비되지 않았으면 empty.
+     */
+    public Optional<SearchResult> search(String query, int page, int size, UnaryOperator<Set<Long>> filter) {
+        return scores(query).map(scores -> {
+            if (!scores.isEmpty()) {
+                scores.keySet().retainAll(filter.apply(scores.keySet()));
+            }
+            return topK(scores, page, size);
+        });
+    }
+
+    /**
+     * 검색어로 찾은 상품 중 filter가 남긴 상품을 관련도 순으로 after 다음부터 최대 size건 (커서 페이징).
+     * after가 null이면 처음부터. 색인이 아직 준비되지 않았으면 empty.
+     */
+    public Optional<List<ScoredId>> searchAfter(String query, ScoredId after, int size, UnaryOperator<Set<Long>> filter) {
+        return scores(query).map(scores -> {
+            if (after != null) {
+                scores.entrySet().removeIf(entry -> !isAfter(entry, after));
+            }
+            if (!scores.isEmpty()) {
+                scores.keySet().retainAll(filter.apply(scores.keySet()));
+            }
+            return top(scores, Math.min(size, scores.size())).stream()
+                    .map(entry -> new ScoredId(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    // 관련도 순서(점수 내림차순, 같으면 ID 내림차순)에서 after보다 뒤인지
+    private static boolean isAfter(Map.Entry<Long, Double> entry, ScoredId after) {
+        int c = Double.compare(entry.getValue(), after.getScore());
+        return c != 0 ? c < 0 : entry.getKey() < after.getId();
+    }
+
+    /**
+     * 검색어의 모든 단어가 포함된 상품 ID (순서 없음, 필터별 개수 계산용).
+     * 목록 조회와 같은 기준으로 찾는다. 색인이 아직 준비되지 않았으면 empty.
+     */
+    public Optional<Set<Long>> matchingIds(String query) {
+        return scores(query).map(Map::keySet);
+    }
+
+    private Optional<Map<Long, Double>> scores(String query) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTokens.isEmpty()) {
+            return Optional.of(new HashMap<>());
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(score(data, queryTokens));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모든 검색어 단어가 (부분 문자열로) 포함된 상품만, 단어별 BM25 점수 합
+    private Map<Long, Double> score(IndexData index, List<String> queryTokens) {
+        Map<Long, Double> scores = null;
+        int docCount = index.documents.size();
+        double avgLength = docCount == 0 ? 1 : index.totalLength / docCount;
+
+        for (String token : queryTokens) {
+            Map<Long, Double> tokenScores = new HashMap<>();
+            for (String term : index.matchingTerms(token)) {
+                Map<Long, Float> posting = index.postings.get(term);
+                int df = posting.size();
+                double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+                double boost = term.equals(token) ? EXACT_TERM_BOOST : 1.0;
+                for (Map.Entry<Long, Float> entry : posting.entrySet()) {
+                    if (scores != null && !scores.containsKey(entry.getKey())) {
+                        continue;
+                    }
+                    double tf = entry.getValue();
+                    double length = index.documents.get(entry.getKey()).length;
+                    double s = boost * idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / avgLength));
+                    // 한 검색어가 여러 단어에 걸리면 가장 높은 점수만
+                    tokenScores.merge(entry.getKey(), s, Math::max);
+                }
+            }
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                Map<Long, Double> previous = scores;
+                tokenScores.replaceAll((id, s) -> s + previous.get(id));
+                scores = tokenScores;
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    // 필요한 페이지까지만 부분 정렬 (점수 내림차순, 같으면 최신 상품 우선)
+    private SearchResult topK(Map<Long, Double> scores, int page, int size) {
+        int k = (int) Math.min((long) (page + 1) * size, scores.size());
+        if (k <= 0 || (long) page * size >= scores.size()) {
+            return new SearchResult(Collections.emptyList(), scores.size());
+        }
+        List<Long> ranked = top(scores, k).stream().map(Map.Entry::getKey).collect(Collectors.toList());
+        return new SearchResult(ranked.subList(page * size, ranked.size()), scores.size());
+    }
+
+    // 점수 상위 k개 (점수 내림차순, 같으면 ID 내림차순)
+    private static List<Map.Entry<Long, Double>> top(Map<Long, Double> scores, int k) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(k + 1, (a, b) -> {
+            int c = Double.compare(a.getValue(), b.getValue());
+            return c != 0 ? c : Long.compare(a.getKey(), b.getKey());
+        });
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    @Getter
+    public static class SearchResult {
+        private final List<Long> productIds;
+        private final long total;
+
+        SearchResult(List<Long> productIds, long total) {
+            this.productIds = productIds;
+            this.total = total;
+        }
+    }
+
+    // 관련도 순 커서 페이징용 (상품 ID + 점수)
+    @Getter
+    public static class ScoredId {
+        private final long id;
+        private final double score;
+
+        ScoredId(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    private static class Document {
+        private final Map<String, Float> termFrequencies;
+        private final float length;
+
+        Document(Map<String, Float> termFrequencies, float length) {
+            this.termFrequencies = termFrequencies;
+            this.length = length;
+        }
+    }
+
+    // 색인 자료구조 (전체 재색인 시 새로 만들어 교체)
+    private static class IndexData {
+        private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+        private final Map<String, Set<String>> gramToTerms = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private double totalLength;
+
+        void add(Product product) {
+            // 삭제된 상품은 넣지 않음 (갱신 시 remove 후 add 하므로 빠짐)
+            if (product.isDeleted()) {
+                return;
+            }
+            Map<String, Float> frequencies = new HashMap<>();
+            float length = 0;
+            length += addField(frequencies, product.getName(), NAME_WEIGHT);
+            length += addField(frequencies, product.getCategory(), CATEGORY_WEIGHT);
+            length += addField(frequencies, product.getDescription(), DESCRIPTION_WEIGHT);
+
+            documents.put(product.getId(), new Document(frequencies, length));
+            totalLength += length;
+            frequencies.forEach((term, tf) -> {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting == null) {
+                    posting = new HashMap<>();
+                    postings.put(term, posting);
+                    for (String gram : indexGrams(term)) {
+                        gramToTerms.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                    }
+                }
+                posting.put(product.getId(), tf);
+            });
+        }
+
+        void remove(Long productId) {
+            Document document = documents.remove(productId);
+            if (document == null) {
+                return;
+            }
+            totalLength -= document.length;
+            for (String term : document.termFrequencies.keySet()) {
+                Map<Long, Float> posting = postings.get(term);
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                    for (String gram : indexGrams(term)) {
+                        Set<String> terms = gramToTerms.get(gram);
+                        terms.remove(term);
+                        if (terms.isEmpty()) {
+                            gramToTerms.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+
+        // 검색어 단어를 부분 문자열로 포함하는 색인 단어들
+        Set<String> matchingTerms(String token) {
+            List<String> queryGrams = queryGrams(token);
+            Set<String> smallest = null;
+            for (String gram : queryGrams) {
+                Set<String> terms = gramToTerms.get(gram);
+                if (terms == null) {
+                    return Collections.emptySet();
+                }
+                if (smallest == null || terms.size() < smallest.size()) {
+                    smallest = terms;
+                }
+            }
+            if (smallest == null) {
+                return Collections.emptySet();
+            }
+            // n-gram이 모두 있어도 순서가 다를 수 있으므로 실제 포함 여부 확인
+            Set<String> matched = new HashSet<>();
+            for (String term : smallest) {
+                if (term.contains(token)) {
+                    matched.add(term);
+                }
+            }
+            return matched;
+        }
+
+        private static float addField(Map<String, Float> frequencies, String text, float weight) {
+            List<String> tokens = tokenize(text);
+            for (String token : tokens) {
+                frequencies.merge(token, weight, Float::sum);
+            }
+            return tokens.size() * weight;
+        }
+
+        // 색인 단어는 1-gram, 2-gram 모두 등록 (한 글자 검색어 대응)
+        private static Set<String> indexGrams(String term) {
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i < term.length(); i++) {
+                grams.add(term.substring(i, i + 1));
+                if (i + 1 < term.length()) {
+                    grams.add(term.substring(i, i + 2));
+                }
+            }
+            return grams;
+        }
+
+        // 한 글자 검색어는 1-gram, 그 외에는 2-gram
+        private static List<String> queryGrams(String token) {
+            if (token.length() == 1) {
+                return List.of(token);
+            }
+            List<String> grams = new ArrayList<>(token.length() - 1);
+            for (int i = 0; i < token.length() - 1; i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+            return grams;
+        }
+    }
+}
@@ -1,19 +1,43 @@
 package com.backend.shopping.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.backend.shopping.dto.request.ProductBatchRequest;
 import com.backend.shopping.dto.request.ProductRequest;
 import com.backend.shopping.dto.request.ProductSearchRequest;
+import com.backend.shopping.dto.request.ProductSortField;
+import com.backend.shopping.dto.response.CursorResponse;
+import com.backend.shopping.dto.response.ProductBatchResponse;
+import com.backend.shopping.dto.response.ProductFacetResponse;
 import com.backend.shopping.dto.response.ProductResponse;
+import com.backend.shopping.dto.response.ProductSuggestResponse;
+import com.backend.shopping.dto.response.ProductSummaryResponse;
 import com.backend.shopping.entity.Product;
+import com.backend.shopping.entity.ProductChangeType;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
 import com.backend.shopping.repository.ProductRepository;
+import com.backend.shopping.repository.ProductSpecifications;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,7 +46,22 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class ProductService {
     
+    private static final int MAX_CURSOR_SIZE = 100;
+    // 인기/많이 본/급상승 상품 최대 개수
+    private static final int MAX_RANKING_SIZE = 100;
+    // 상품명 검색 커서의 정렬 기준 (검색 색인 관련도 순)
+    private static final String RELEVANCE_SORT = "relevance";
+    // 급상승 계산 시 직전 조회수 최소값 (조회수가 적은 상품이 튀지 않도록)
+    private static final long TRENDING_MIN_BASELINE = 10;
+    
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final ProductChangeTracker productChangeTracker;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductPopularityTracker popularityTracker;
+    private final ProductViewTracker productViewTracker;
     
     // 상품 생성 (관리자만)
     @Transactional
@@ -37,13 +76,14 @@ public class ProductService {
                 .build();
         
         Product savedProduct = productRepository.save(product);
+        productChangeTracker.record(savedProduct.getId(), ProductChangeType.CREATED);
         return convertToResponse(savedProduct);
     }
     
     // 상품 수정 (관리자만)
     @Transactional
     public ProductResponse updateProduct(Long id, ProductRequest request) {
-        Product product = productRepository.findById(id)
+        Product product = productRepository.findActiveById(id)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
         
         product.setName(request.getName());
@@ -54,73 +94,307 @@ public class ProductService {
         product.setImageUrl(request.getImageUrl());
         
         Product updatedProduct = productRepository.save(product);
+        productChangeTracker.record(id, ProductChangeType.UPDATED);
         return convertToResponse(updatedProduct);
     }
     
     // 상품 삭제 (관리자만)
+    // 삭제 표시만 하고 바로 반환, 장바구니 항목 정리는 ProductPurgeJob이 나중에 (주문 내역은 그대로)
     @Transactional
     public void deleteProduct(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
-        
-        productRepository.delete(product);
+        if (productRepository.softDelete(id, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("상품을 찾을 수 없습니다");
+        }
+        productChangeTracker.record(id, ProductChangeType.DELETED);
     }
     
-    // 상품 단건 조회
+    // 상품 단건 조회 + 조회수 기록
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductResponse getProduct(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
-        
-        return convertToResponse(product);
+        ProductResponse response = findProduct(id);
+        productViewTracker.record(id);
+        return response;
+    }
+    
+    // 상품 단건 조회 (캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductResponse findProduct(Long id) {
+        ProductResponse response = productCache.getProduct(id,
+                () -> productRepository.findActiveById(id).map(ProductService::convertToResponse).orElse(null));
+        if (response == null) {
+            throw new RuntimeException("상품을 찾을 수 없습니다");
+        }
+        return response;
+    }
+    
+    // 조회수 기록 (응답 본문 캐시에서 바로 응답할 때)
+    public void recordView(Long id) {
+        productViewTracker.record(id);
     }
     
     // 상품 목록 조회 (검색, 필터링, 페이징)
-    public Page<ProductResponse> getProducts(ProductSearchRequest searchRequest) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<ProductSummaryResponse> getProducts(ProductSearchRequest searchRequest) {
+        String cacheKey = "products:" + queryKey(searchRequest) + "|" + searchRequest.getPage();
+        return productCache.getQuery(cacheKey, () -> findProducts(searchRequest));
+    }
+    
+    // 상품 목록 조회 (커서 기반, 전체 건수/OFFSET 없음)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CursorResponse<ProductSummaryResponse> scrollProducts(ProductSearchRequest searchRequest, String cursor) {
+        String cacheKey = "products-scroll:" + queryKey(searchRequest) + "|" + cursor;
+        return productCache.getQuery(cacheKey, () -> findProductsAfter(searchRequest, cursor));
+    }
+    
+    private CursorResponse<ProductSummaryResponse> findProductsAfter(ProductSearchRequest searchRequest, String cursor) {
+        ProductSortField sortField = ProductSortField.from(searchRequest.getSortBy());
+        int size = Math.max(1, Math.min(searchRequest.getSize(), MAX_CURSOR_SIZE));
+        SeekCursor seek = hasText(cursor) ? SeekCursor.decode(cursor) : null;
+        
+        // 상품명 검색은 목록 조회와 같이 검색 색인에서 관련도 순으로 (색인 준비 전에 받은 커서는 DB로 이어서 조회)
+        if (hasText(searchRequest.getName()) && (seek == null || RELEVANCE_SORT.equals(seek.getSortBy()))) {
+            Optional<List<ProductSearchIndex.ScoredId>> ranked = scrollByName(searchRequest, seek, size + 1);
+            if (ranked.isPresent()) {
+                return toCursorResponse(ranked.get(), size);
+            }
+            if (seek != null) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+        
+        Specification<Product> spec = filterSpecification(searchRequest);
+        if (seek != null) {
+            seek.checkMatches(sortField.getProperty(), searchRequest.getSortDirection());
+            spec = spec.and(seek.<Product>after(sortField.getProperty(), sortField.getType()));
+        }
+        
+        List<ProductSummaryResponse> rows = productRepository.findSummaries(spec, searchRequest.getSort(), size + 1);
+        return CursorResponse.of(rows, size, last -> SeekCursor.of(sortField.getProperty(),
+                searchRequest.getSortDirection(), sortField.getGetter().apply(last), last.getId()).encode());
+    }
+    
+    // 색인이 준비되지 않았으면 empty
+    private Optional<List<ProductSearchIndex.ScoredId>> scrollByName(ProductSearchRequest searchRequest,
+                                                                    SeekCursor seek, int limit) {
+        ProductSearchIndex.ScoredId after = seek == null
+                ? null
+                : new ProductSearchIndex.ScoredId(seek.getId(), (Double) seek.value(Double.class));
+        if (!hasFilters(searchRequest)) {
+            return productSearchIndex.searchAfter(searchRequest.getName(), after, limit, UnaryOperator.identity());
+        }
+        if (!productFacetIndex.isReady()) {
+            return Optional.empty();
+        }
+        return productSearchIndex.searchAfter(searchRequest.getName(), after, limit,
+                ids -> productFacetIndex.retainMatching(ids, searchRequest));
+    }
+    
+    // size + 1건을 찾은 결과로 응답 생성, 커서는 마지막 상품의 관련도 점수와 ID
+    private CursorResponse<ProductSummaryResponse> toCursorResponse(List<ProductSearchIndex.ScoredId> ranked, int size) {
+        boolean hasNext = ranked.size() > size;
+        List<ProductSearchIndex.ScoredId> page = hasNext ? ranked.subList(0, size) : ranked;
+        List<ProductSummaryResponse> content = findAllInOrder(page.stream()
+                .map(ProductSearchIndex.ScoredId::getId)
+                .collect(Collectors.toList()));
+        ProductSearchIndex.ScoredId last = hasNext ? page.get(page.size() - 1) : null;
+        return CursorResponse.<ProductSummaryResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(last == null ? null
+                        : SeekCursor.of(RELEVANCE_SORT, Sort.Direction.DESC, last.getScore(), last.getId()).encode())
+                .build();
+    }
+    
+    // 페이지 번호를 뺀 조회 조건 (캐시 키)
+    private String queryKey(ProductSearchRequest searchRequest) {
+        return searchRequest.getName() + "|" + searchRequest.getCategory()
+                + "|" + searchRequest.getInStock() + "|" + searchRequest.getSize()
+                + "|" + searchRequest.getSortBy() + "|" + searchRequest.getSortDirection()
+                + "|" + searchRequest.getMinPrice() + "|" + searchRequest.getMaxPrice()
+                + "|" + searchRequest.getCreatedFrom() + "|" + searchRequest.getCreatedTo();
+    }
+    
+    private Page<ProductSummaryResponse> findProducts(ProductSearchRequest searchRequest) {
         Pageable pageable = PageRequest.of(
                 searchRequest.getPage(), 
                 searchRequest.getSize(), 
                 searchRequest.getSort()
         );
         
-        Page<Product> products;
+        // 상품명 검색은 검색 색인 사용 (관련도 순), 다른 조건은 필터 색인으로 거름 (필터별 개수와 같은 기준)
+        if (hasText(searchRequest.getName())) {
+            ProductSearchIndex.SearchResult result = searchByName(searchRequest).orElse(null);
+            if (result != null) {
+                return new PageImpl<>(findAllInOrder(result.getProductIds()), pageable, result.getTotal());
+            }
+        }
         
-        // 검색 조건에 따른 쿼리 실행
-        if (searchRequest.getName() != null && !searchRequest.getName().trim().isEmpty()) {
-            // 상품명 검색
-            products = productRepository.findByNameContainingIgnoreCase(
-                    searchRequest.getName().trim(), pageable);
-        } else if (searchRequest.getCategory() != null && !searchRequest.getCategory().trim().isEmpty()) {
-            // 카테고리 필터
-            products = productRepository.findByCategory(searchRequest.getCategory(), pageable);
-        } else if (searchRequest.getInStock() != null && searchRequest.getInStock()) {
-            // 재고 있는 상품만
-            products = productRepository.findAvailableProducts(pageable);
-        } else {
-            // 전체 상품
-            products = productRepository.findAll(pageable);
+        // 나머지(또는 색인 준비 전)는 지정된 조건을 모두 AND로 묶어 한 번에 조회 (목록에 필요한 컬럼만)
+        return productRepository.findSummaries(filterSpecification(searchRequest), pageable);
+    }
+    
+    // 색인이 준비되지 않았으면 empty
+    private Optional<ProductSearchIndex.SearchResult> searchByName(ProductSearchRequest searchRequest) {
+        if (!hasFilters(searchRequest)) {
+            return productSearchIndex.search(
+                    searchRequest.getName(), searchRequest.getPage(), searchRequest.getSize());
         }
+        if (!productFacetIndex.isReady()) {
+            return Optional.empty();
+        }
+        return productSearchIndex.search(searchRequest.getName(), searchRequest.getPage(), searchRequest.getSize(),
+                ids -> productFacetIndex.retainMatching(ids, searchRequest));
+    }
+    
+    private Specification<Product> filterSpecification(ProductSearchRequest searchRequest) {
+        return Specification.allOf(
+                nameSpecification(searchRequest.getName()),
+                ProductSpecifications.categoryEquals(searchRequest.getCategory()),
+                ProductSpecifications.inStock(searchRequest.getInStock()),
+                ProductSpecifications.priceBetween(searchRequest.getMinPrice(), searchRequest.getMaxPrice()),
+                ProductSpecifications.createdBetween(searchRequest.getCreatedFrom(), searchRequest.getCreatedTo()));
+    }
+    
+    // 상품명 조건은 색인 준비 전에만 DB로 조회하므로 상품명 부분 일치 (색인이 준비되면 색인으로 조회)
+    private Specification<Product> nameSpecification(String name) {
+        return hasText(name) ? ProductSpecifications.nameContains(name) : null;
+    }
+    
+    // 상품명 외의 필터가 있는지
+    private boolean hasFilters(ProductSearchRequest searchRequest) {
+        return hasText(searchRequest.getCategory())
+                || Boolean.TRUE.equals(searchRequest.getInStock())
+                || searchRequest.getMinPrice() != null
+                || searchRequest.getMaxPrice() != null
+                || searchRequest.getCreatedFrom() != null
+                || searchRequest.getCreatedTo() != null;
+    }
+    
+    private boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+    
+    /**
+     * 여러 상품 조회 + 재고 확인.
+     * 캐시에 있는 상품은 캐시에서, 나머지는 WHERE id IN 한 번으로 읽는다.
+     * 없거나 삭제된 상품은 전체를 실패시키지 않고 missingIds로 알려준다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductBatchResponse getProducts(List<ProductBatchRequest.Item> items) {
+        List<Long> ids = items.stream()
+                .map(ProductBatchRequest.Item::getId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, ProductResponse> found = productCache.getProducts(ids, missing ->
+                productRepository.findAllById(missing).stream()
+                        .filter(product -> !product.isDeleted())
+                        .collect(Collectors.toMap(Product::getId, ProductService::convertToResponse)));
         
-        return products.map(this::convertToResponse);
+        List<ProductBatchResponse.Item> results = new ArrayList<>();
+        for (ProductBatchRequest.Item item : items) {
+            ProductResponse product = found.get(item.getId());
+            if (product != null) {
+                int quantity = item.getQuantity() != null ? item.getQuantity() : 1;
+                results.add(new ProductBatchResponse.Item(product, quantity, product.getStock() >= quantity));
+            }
+        }
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toList());
+        return ProductBatchResponse.builder()
+                .items(results)
+                .missingIds(missingIds)
+                .build();
+    }
+    
+    // 주어진 ID 순서대로 요약 조회 (그 사이 삭제된 상품은 제외)
+    private List<ProductSummaryResponse> findAllInOrder(List<Long> ids) {
+        Map<Long, ProductSummaryResponse> found = productRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(ProductSummaryResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
     
     // 카테고리 목록 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<String> getCategories() {
-        return productRepository.findDistinctCategories();
+        return productCache.getQuery("categories", productRepository::findDistinctCategories);
     }
     
-    // 인기 상품 조회 (재고 많은 순으로 임시 구현)
-    public List<ProductResponse> getPopularProducts(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return productRepository.findAvailableProducts(pageable)
-                .getContent()
-                .stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    // 검색 조건별 필터 개수 (카테고리/가격대/재고, 메모리 색인에서 계산)
+    public ProductFacetResponse getFacets(ProductSearchRequest searchRequest) {
+        // 상품명 조건은 목록 조회와 같이 검색 색인 기준
+        Set<Long> nameMatches = null;
+        if (hasText(searchRequest.getName())) {
+            nameMatches = productSearchIndex.matchingIds(searchRequest.getName())
+                    .orElseThrow(() -> new CustomException(ErrorCode.FACETS_NOT_READY));
+        }
+        return productFacetIndex.count(searchRequest, nameMatches)
+                .orElseThrow(() -> new CustomException(ErrorCode.FACETS_NOT_READY));
+    }
+    
+    // 검색어 자동완성 (색인 준비 전이면 빈 결과)
+    public ProductSuggestResponse suggest(String query, int limit) {
+        return productSuggestIndex.suggest(query, limit);
+    }
+    
+    // 카탈로그 버전 (목록/카테고리 응답의 HTTP 검증자)
+    public CatalogVersion getCatalogVersion() {
+        return productChangeTracker.getCatalogVersion();
+    }
+    
+    // 인기 상품 조회 (전체)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ProductSummaryResponse> getPopularProducts(int limit) {
+        return getPopularProducts(limit, null);
+    }
+    
+    // 인기 상품 조회 (판매량 순위, category가 없으면 전체)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ProductSummaryResponse> getPopularProducts(int limit, String category) {
+        int size = rankingSize(limit);
+        String normalizedCategory = hasText(category) ? category.trim() : null;
+        List<Long> ids = popularityTracker.getTopProducts(normalizedCategory, size);
+        if (!ids.isEmpty()) {
+            // 순위는 미리 계산돼 있으므로 상품 요약만 조회 (캐시)
+            return productCache.getQuery("summaries:" + ids, () -> findAllInOrder(ids));
+        }
+        
+        // 아직 판매 집계가 없으면 재고 있는 상품 중 최신순
+        return productCache.getQuery("popular:" + size + "|" + normalizedCategory, () ->
+                productRepository.findSummaries(Specification.allOf(
+                                ProductSpecifications.categoryEquals(normalizedCategory),
+                                ProductSpecifications.inStock(true)),
+                        Sort.by(Sort.Direction.DESC, "createdAt", "id"), size));
+    }
+    
+    // 많이 본 상품 조회 (최근 window 동안 조회수 순)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ProductSummaryResponse> getMostViewedProducts(Duration window, int limit) {
+        int size = rankingSize(limit);
+        return productCache.getQuery("most-viewed:" + window + "|" + size,
+                () -> findAllInOrder(productViewTracker.getMostViewed(window, size)));
+    }
+    
+    // 급상승 상품 조회 (최근 window 조회수가 직전 window 대비 많이 늘어난 순)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ProductSummaryResponse> getTrendingProducts(Duration window, int limit) {
+        int size = rankingSize(limit);
+        return productCache.getQuery("trending:" + window + "|" + size,
+                () -> findAllInOrder(productViewTracker.getTrending(window, size, TRENDING_MIN_BASELINE)));
+    }
+    
+    // 요청한 개수를 1~MAX_RANKING_SIZE로 제한 (음수는 오류, 너무 크면 카탈로그 전체를 읽음)
+    private int rankingSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RANKING_SIZE));
     }
     
     // 재고 확인
     public boolean isInStock(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findActiveById(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
         
         return product.getStock() >= quantity;
@@ -129,7 +403,7 @@ public class ProductService {
     // 재고 차감 (주문 시 사용)
     @Transactional
     public void reduceStock(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findActiveById(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다"));
         
         if (product.getStock() < quantity) {
@@ -138,6 +412,7 @@ public class ProductService {
         
         product.setStock(product.getStock() - quantity);
         productRepository.save(product);
+        productChangeTracker.record(productId, ProductChangeType.STOCK);
     }
     
     // 재고 복구 (주문 취소 시 사용)
@@ -148,12 +423,15 @@ public class ProductService {
         
         product.setStock(product.getStock() + quantity);
         productRepository.save(product);
+        productChangeTracker.record(productId, ProductChangeType.STOCK);
     }
     
     // Entity -> Response DTO 변환
-    private ProductResponse convertToResponse(Product product) {
+    // 내보내기(ProductExportService)에서도 사용
+    static ProductResponse convertToResponse(Product product) {
         return ProductResponse.builder()
                 .id(product.getId())
+                .sku(product.getSku())
                 .name(product.getName())
                 .description(product.getDescription())
                 .price(product.getPrice())
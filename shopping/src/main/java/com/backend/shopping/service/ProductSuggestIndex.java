@@ -0,0 +1,313 @@
+package com.backend.shopping.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.backend.shopping.dto.response.ProductSuggestResponse;
+import com.backend.shopping.dto.response.ProductSuggestResponse.ProductSuggestion;
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 자동완성 색인 (메모리, 압축 트라이).
+ * 상품명과 카테고리를 단어 시작 위치마다 잘라서 자모로 분해한 키와 초성 키로 넣는다.
+ * 그래서 "나잌"(입력 중), "ㄴㅇㅋ"(초성), "에어"(이름 중간 단어) 모두 "나이키 에어맥스"에 걸린다.
+ * 상품은 인기 점수, 카테고리는 상품 수 순으로 트라이 노드마다 상위 목록을 들고 있어서 조회 시 정렬이 없다.
+ * 시작 시 전체를 읽고, 이후에는 상품 변경 로그에 따라 해당 상품만 다시 반영한다.
+ */
+@Component
+@Slf4j
+public class ProductSuggestIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+    // 이름 중간 단어로도 찾을 수 있게 넣는 단어 수 (긴 이름의 키가 너무 늘지 않도록)
+    private static final int MAX_WORDS = 5;
+    // 키로 쓰는 최대 글자 수 (그보다 긴 접두어는 드묾)
+    private static final int MAX_KEY_CHARS = 30;
+    // 초성 키 앞에 붙여서 자모 키와 섞이지 않게 함
+    private static final char CHOSUNG_MARKER = '\u0001';
+
+    private final ProductRepository productRepository;
+    private final ProductPopularityTracker popularityTracker;
+    private final int topK;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 변경 반영은 조회부터 적용까지 한 번에 하나씩 (먼저 읽은 옛 상태가 나중에 적용되지 않도록)
+    private final Object refreshLock = new Object();
+
+    private volatile SuggestData data;
+    private volatile boolean ready;
+    // 전체 재색인 도중 바뀐 상품 (재색인이 끝난 뒤 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public ProductSuggestIndex(ProductRepository productRepository,
+                               ProductPopularityTracker popularityTracker,
+                               @Value("${product.suggest.top-k:20}") int topK) {
+        this.productRepository = productRepository;
+        this.popularityTracker = popularityTracker;
+        this.topK = topK;
+        this.data = new SuggestData(topK);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            SuggestData fresh = new SuggestData(topK);
+            Map<Long, Double> scores = popularityTracker.getRankScores();
+            // ID 순 seek 페이징 (OFFSET 없음)
+            long lastId = 0;
+            List<ProductSummaryResponse> batch;
+            do {
+                long after = lastId;
+                batch = productRepository.findSummaries(
+                        (root, query, cb) -> cb.greaterThan(root.<Long>get("id"), after),
+                        Sort.by("id"), BUILD_BATCH_SIZE);
+                batch.forEach(product -> fresh.put(product, scores.getOrDefault(product.getId(), 0.0)));
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == BUILD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                data = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("자동완성 색인 완료: 상품 {}건, 카테고리 {}개, {}ms",
+                    fresh.products.size(), fresh.categories.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuilding = false;
+        }
+        if (!changedDuringRebuild.isEmpty()) {
+            refresh(List.copyOf(changedDuringRebuild));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 변경된 상품만 다시 반영 (삭제된 상품은 제거)
+    public void refresh(Collection<Long> productIds) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(productIds);
+        }
+        synchronized (refreshLock) {
+            List<ProductSummaryResponse> products = productRepository.findSummariesByIds(productIds);
+            Map<Long, Double> scores = popularityTracker.getRankScores();
+            lock.writeLock().lock();
+            try {
+                SuggestData current = data;
+                productIds.forEach(current::remove);
+                products.forEach(product -> current.put(product, scores.getOrDefault(product.getId(), 0.0)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 인기 점수가 바뀐 상품만 다시 정렬 (인기 순위 재계산 주기에 맞춤).
+     * 순위 점수는 판매량이 그대로면 바뀌지 않으므로, 바뀐 상품은 읽기 잠금에서 먼저 골라 두고
+     * 쓰기 잠금(조회 차단)은 바뀐 상품이 있을 때 그 상품만 다시 넣는 동안만 잡는다.
+     */
+    @Scheduled(fixedDelayString = "${product.suggest.score-refresh-interval:30000}")
+    public void refreshScores() {
+        if (!ready) {
+            return;
+        }
+        Map<Long, Double> scores = popularityTracker.getRankScores();
+        Map<Long, Double> changed;
+        lock.readLock().lock();
+        try {
+            changed = data.changedScores(scores);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            data.rescore(changed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력어로 시작하는 카테고리와 상품 (각각 최대 limit개).
+     * 자음만 입력하면 초성으로 찾는다. 색인이 아직 준비되지 않았으면 빈 결과.
+     */
+    public ProductSuggestResponse suggest(String query, int limit) {
+        String normalized = normalize(query);
+        if (!ready || normalized.isEmpty()) {
+            return new ProductSuggestResponse(List.of(), List.of());
+        }
+        String key = Hangul.isChosungQuery(normalized)
+                ? CHOSUNG_MARKER + normalized
+                : Hangul.decompose(normalized);
+        int size = Math.min(limit, topK);
+        lock.readLock().lock();
+        try {
+            return data.search(key, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 소문자, 앞뒤 공백 제거, 연속 공백은 하나로
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 단어 시작 위치마다 자른 뒷부분의 자모 키와 초성 키
+    static List<String> keys(String text) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        int start = 0;
+        for (int word = 0; word < MAX_WORDS && start < normalized.length(); word++) {
+            String suffix = normalized.substring(start, Math.min(normalized.length(), start + MAX_KEY_CHARS));
+            keys.add(Hangul.decompose(suffix));
+            keys.add(CHOSUNG_MARKER + Hangul.chosung(suffix));
+            int space = normalized.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        return keys;
+    }
+
+    // 색인 자료구조 (전체 재색인 시 새로 만들어 교체)
+    private static class SuggestData {
+        private final SuggestTrie productTrie;
+        private final SuggestTrie categoryTrie;
+        private final Map<Long, String> products = new HashMap<>();
+        private final Map<Long, String> categoryByProduct = new HashMap<>();
+        // 카테고리는 트라이에 번호로 넣고, 점수는 상품 수
+        private final Map<String, Long> categoryIds = new HashMap<>();
+        private final Map<Long, String> categories = new HashMap<>();
+        private final Map<String, Integer> categorySizes = new HashMap<>();
+        private long nextCategoryId = 1;
+        // 마지막으로 반영한 인기 점수가 있는 상품
+        private Set<Long> scored = new HashSet<>();
+
+        SuggestData(int topK) {
+            this.productTrie = new SuggestTrie(topK);
+            this.categoryTrie = new SuggestTrie(topK);
+        }
+
+        void put(ProductSummaryResponse product, double score) {
+            remove(product.getId());
+            if (product.getName() == null) {
+                return;
+            }
+            productTrie.put(product.getId(), keys(product.getName()), score);
+            products.put(product.getId(), product.getName());
+            if (score != 0.0) {
+                scored.add(product.getId());
+            }
+            String category = product.getCategory();
+            if (category != null && !category.isBlank()) {
+                categoryByProduct.put(product.getId(), category);
+                int size = categorySizes.merge(category, 1, Integer::sum);
+                Long categoryId = categoryIds.get(category);
+                if (categoryId == null) {
+                    categoryId = nextCategoryId++;
+                    categoryIds.put(category, categoryId);
+                    categories.put(categoryId, category);
+                    categoryTrie.put(categoryId, keys(category), size);
+                } else {
+                    categoryTrie.rescore(categoryId, size);
+                }
+            }
+        }
+
+        void remove(Long productId) {
+            if (products.remove(productId) == null) {
+                return;
+            }
+            productTrie.remove(productId);
+            scored.remove(productId);
+            String category = categoryByProduct.remove(productId);
+            if (category != null) {
+                Integer size = categorySizes.merge(category, -1, Integer::sum);
+                Long categoryId = categoryIds.get(category);
+                if (size <= 0) {
+                    categorySizes.remove(category);
+                    categoryIds.remove(category);
+                    categories.remove(categoryId);
+                    categoryTrie.remove(categoryId);
+                } else {
+                    categoryTrie.rescore(categoryId, size);
+                }
+            }
+        }
+
+        // 점수가 생기거나 바뀌거나 없어진(0) 상품과 새 점수
+        Map<Long, Double> changedScores(Map<Long, Double> scores) {
+            Map<Long, Double> changed = new HashMap<>();
+            scores.forEach((id, score) -> {
+                Double current = productTrie.score(id);
+                if (current != null && current != score.doubleValue()) {
+                    changed.put(id, score);
+                }
+            });
+            for (Long id : scored) {
+                if (!scores.containsKey(id)) {
+                    changed.put(id, 0.0);
+                }
+            }
+            return changed;
+        }
+
+        void rescore(Map<Long, Double> changed) {
+            changed.forEach((id, score) -> {
+                productTrie.rescore(id, score);
+                if (score != 0.0) {
+                    scored.add(id);
+                } else {
+                    scored.remove(id);
+                }
+            });
+        }
+
+        ProductSuggestResponse search(String key, int limit) {
+            List<String> matchedCategories = new ArrayList<>();
+            for (Long id : categoryTrie.search(key, limit)) {
+                matchedCategories.add(categories.get(id));
+            }
+            List<ProductSuggestion> matchedProducts = new ArrayList<>();
+            for (Long id : productTrie.search(key, limit)) {
+                matchedProducts.add(new ProductSuggestion(id, products.get(id)));
+            }
+            return new ProductSuggestResponse(matchedCategories, matchedProducts);
+        }
+    }
+}
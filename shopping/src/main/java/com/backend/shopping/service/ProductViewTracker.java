@@ -0,0 +1,277 @@
+package com.backend.shopping.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.shopping.entity.ProductViewStat;
+import com.backend.shopping.repository.ProductViewStatRepository;
+import com.backend.shopping.repository.ProductViewStatRepository.ViewSum;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 조회수 수집 (write-behind).
+ * 조회 시에는 스레드별로 나눈 고정 크기 카운터 테이블(상품 ID → 조회수, 개방 주소법)에 더하기만 하고 객체를 만들지 않는다.
+ * 주기적으로 테이블을 예비 테이블과 교체한 뒤 모인 조회수를 시간 구간별로 product_view_stats에 더한다.
+ * 교체 전 테이블을 집은 요청은 테이블별 진행 중 카운터로 추적하고, 모두 끝난 뒤에 비운다.
+ * 정상 종료 시에는 남은 조회수를 저장하므로, 비정상 종료 시에도 잃는 조회수는 한 주기분 이하다.
+ */
+@Component
+@Slf4j
+public class ProductViewTracker {
+
+    // 빈 슬롯을 찾을 때 최대 탐색 횟수 (넘으면 버림)
+    private static final int MAX_PROBES = 32;
+
+    private final ProductViewStatRepository viewStatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration bucketSize;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile CounterTable[] current;
+    private CounterTable[] spare;
+
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    public ProductViewTracker(ProductViewStatRepository viewStatRepository,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${product.views.bucket-size:5m}") Duration bucketSize,
+                              @Value("${product.views.retention:30d}") Duration retention,
+                              @Value("${product.views.stripes:8}") int stripes,
+                              @Value("${product.views.capacity-per-stripe:16384}") int capacityPerStripe) {
+        this.viewStatRepository = viewStatRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bucketSize = bucketSize;
+        this.retention = retention;
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes));
+        this.current = newTables(stripeCount, capacityPerStripe);
+        this.spare = newTables(stripeCount, capacityPerStripe);
+        this.droppedCounter = Counter.builder("product.views.dropped").register(meterRegistry);
+        this.flushTimer = Timer.builder("product.views.flush").register(meterRegistry);
+    }
+
+    private static CounterTable[] newTables(int stripes, int capacity) {
+        CounterTable[] tables = new CounterTable[stripes];
+        for (int i = 0; i < stripes; i++) {
+            tables[i] = new CounterTable(capacity);
+        }
+        return tables;
+    }
+
+    // 조회 1건 기록 (할당/락 없음)
+    public void record(long productId) {
+        int stripe = (int) Thread.currentThread().getId();
+        CounterTable table;
+        while (true) {
+            CounterTable[] tables = current;
+            table = tables[stripe & (tables.length - 1)];
+            table.enter();
+            // 진행 중으로 표시한 뒤에도 교체 전이면 flush가 이 더하기를 기다린다
+            if (tables == current) {
+                break;
+            }
+            table.exit();
+        }
+        try {
+            if (!table.add(productId, 1)) {
+                droppedCounter.increment();
+            }
+        } finally {
+            table.exit();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.views.flush-interval:5000}")
+    public synchronized void flush() {
+        flushTimer.record(() -> {
+            CounterTable[] retired = current;
+            current = spare;
+
+            // 교체 전 테이블을 집은 요청이 모두 끝난 뒤에 비움 (비우는 동안 더하는 스레드 없음)
+            Map<Long, Long> views = new HashMap<>();
+            for (CounterTable table : retired) {
+                table.awaitQuiescence();
+                table.drainTo(views);
+            }
+            spare = retired;
+            if (!views.isEmpty()) {
+                save(views);
+            }
+        });
+    }
+
+    // 종료 시 남은 조회수 저장
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${product.views.cleanup-interval:3600000}")
+    public void cleanup() {
+        int deleted = viewStatRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("오래된 조회수 구간 정리: {}건", deleted);
+        }
+    }
+
+    // 기간 내 조회수 많은 상품 ID
+    public List<Long> getMostViewed(Duration window, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return viewStatRepository.findMostViewed(now.minus(window), now, PageRequest.of(0, limit)).stream()
+                .map(ViewSum::getProductId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 급상승 상품 ID.
+     * 최근 window 동안 많이 조회된 후보 중에서 직전 window 대비 증가율이 높은 순.
+     * 조회수가 적은 상품이 우연히 튀지 않도록 직전 조회수에 최소값을 둔다.
+     */
+    public List<Long> getTrending(Duration window, int limit, long minBaseline) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime recentFrom = now.minus(window);
+        List<ViewSum> recent = viewStatRepository.findMostViewed(recentFrom, now, PageRequest.of(0, limit * 5));
+        if (recent.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Long> previous = viewStatRepository.sumViews(
+                        recent.stream().map(ViewSum::getProductId).collect(Collectors.toList()),
+                        recentFrom.minus(window), recentFrom).stream()
+                .collect(Collectors.toMap(ViewSum::getProductId, ViewSum::getViews));
+
+        List<ViewSum> ranked = new ArrayList<>(recent);
+        ranked.sort(Comparator.comparingDouble((ViewSum v) ->
+                        (double) v.getViews() / Math.max(minBaseline, previous.getOrDefault(v.getProductId(), 0L)))
+                .reversed()
+                .thenComparing(ViewSum::getViews, Comparator.reverseOrder()));
+        return ranked.stream().limit(limit).map(ViewSum::getProductId).collect(Collectors.toList());
+    }
+
+    // 현재 구간의 이 노드 행에 더함 (실패하면 다시 카운터에 넣어 다음 주기에 저장)
+    private void save(Map<Long, Long> views) {
+        LocalDateTime bucketStart = bucketStart(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> views.forEach((productId, count) -> {
+                if (viewStatRepository.addViews(productId, bucketStart, nodeId, count) == 0) {
+                    viewStatRepository.save(ProductViewStat.builder()
+                            .productId(productId)
+                            .bucketStart(bucketStart)
+                            .nodeId(nodeId)
+                            .views(count)
+                            .build());
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.warn("조회수 저장 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+            CounterTable[] tables = current;
+            views.forEach((productId, count) -> {
+                if (!tables[0].add(productId, count)) {
+                    droppedCounter.increment(count);
+                }
+            });
+        }
+    }
+
+    private LocalDateTime bucketStart(LocalDateTime time) {
+        long bucketMillis = bucketSize.toMillis();
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        long sinceDay = Duration.between(day, time).toMillis();
+        return day.plus(Duration.ofMillis(sinceDay - sinceDay % bucketMillis));
+    }
+
+    /**
+     * 고정 크기 카운터 테이블 (개방 주소법, 선형 탐색).
+     * 키 0은 빈 슬롯 표시로 사용한다 (상품 ID는 1부터).
+     * drainTo는 더하는 스레드가 없을 때만 호출해야 한다 (enter/exit로 추적).
+     */
+    static final class CounterTable {
+        private final AtomicLongArray keys;
+        private final AtomicLongArray counts;
+        private final int mask;
+        // 이 테이블에 더하는 중인 요청 수
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        CounterTable(int capacity) {
+            int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+            this.keys = new AtomicLongArray(size);
+            this.counts = new AtomicLongArray(size);
+            this.mask = size - 1;
+        }
+
+        // 테이블이 꽉 차서 자리를 못 찾으면 false
+        boolean add(long key, long delta) {
+            int slot = (int) (mix(key) & mask);
+            for (int probe = 0; probe < MAX_PROBES && probe <= mask; probe++) {
+                long existing = keys.get(slot);
+                if (existing == 0 && (keys.compareAndSet(slot, 0, key) || keys.get(slot) == key)) {
+                    counts.getAndAdd(slot, delta);
+                    return true;
+                }
+                if (existing == key) {
+                    counts.getAndAdd(slot, delta);
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        void enter() {
+            inFlight.incrementAndGet();
+        }
+
+        void exit() {
+            inFlight.decrementAndGet();
+        }
+
+        // 더하는 중인 요청이 모두 끝날 때까지 대기 (더하기 한 번은 짧으므로 양보하며 반복)
+        void awaitQuiescence() {
+            while (inFlight.get() != 0) {
+                Thread.yield();
+            }
+        }
+
+        // 모인 값을 out에 더하고 테이블을 비움
+        void drainTo(Map<Long, Long> out) {
+            for (int i = 0; i <= mask; i++) {
+                long key = keys.get(i);
+                if (key == 0) {
+                    continue;
+                }
+                long count = counts.getAndSet(i, 0);
+                keys.set(i, 0);
+                if (count != 0) {
+                    out.merge(key, count, Long::sum);
+                }
+            }
+        }
+
+        private static long mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 32);
+        }
+    }
+}
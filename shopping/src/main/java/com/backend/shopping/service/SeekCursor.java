@@ -0,0 +1,109 @@
+package com.backend.shopping.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Getter;
+
+/**
+ * 커서 페이징용 커서 (마지막 행의 정렬 값 + id).
+ * 클라이언트에는 "정렬기준|방향|id|값"을 Base64(URL-safe)로 인코딩한 불투명 문자열로 준다.
+ * 다음 페이지는 OFFSET 없이 (정렬 값, id)가 마지막 행보다 뒤인 행부터 읽는다.
+ */
+@Getter
+final class SeekCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Long id;
+    private final String value;
+
+    private SeekCursor(String sortBy, Sort.Direction direction, Long id, String value) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.id = id;
+        this.value = value;
+    }
+
+    static SeekCursor of(String sortBy, Sort.Direction direction, Object value, Long id) {
+        String formatted = value instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(value);
+        return new SeekCursor(sortBy, direction, id, formatted);
+    }
+
+    static SeekCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new SeekCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서를 만든 정렬 조건과 지금 요청의 정렬 조건이 다르면 이어서 읽을 수 없음
+    void checkMatches(String sortBy, Sort.Direction direction) {
+        if (!this.sortBy.equals(sortBy) || this.direction != direction) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    Object value(Class<?> type) {
+        try {
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            }
+            if (type == Integer.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == Long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == Double.class) {
+                return Double.valueOf(value);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    // (정렬 값, id)가 커서보다 뒤인 행: value > v OR (value = v AND id > lastId), 내림차순이면 반대
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <T> Specification<T> after(String property, Class<?> type) {
+        Comparable sortValue = (Comparable) value(type);
+        boolean ascending = direction.isAscending();
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            Predicate idAfter = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            if ("id".equals(property)) {
+                return idAfter;
+            }
+            Path<Comparable> path = root.get(property);
+            Predicate valueAfter = ascending ? cb.greaterThan(path, sortValue) : cb.lessThan(path, sortValue);
+            return cb.or(valueAfter, cb.and(cb.equal(path, sortValue), idAfter));
+        };
+    }
+}
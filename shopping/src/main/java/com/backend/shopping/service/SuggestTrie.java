@@ -0,0 +1,289 @@
+package com.backend.shopping.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성용 압축 트라이 (radix tree).
+ * 간선에 문자열을 두어 노드 수를 줄이고, 노드마다 하위 항목 중 점수 상위 K개를 미리 들고 있어서
+ * 조회는 접두어 길이만큼 내려가서 목록을 그대로 돌려주면 끝난다.
+ * 항목이 추가되면 경로의 상위 목록에 끼워 넣고, 상위 목록에 있던 항목이 빠지면 그 노드만 표시해 두었다가
+ * 다음 조회 때 자식들의 목록으로 다시 계산한다.
+ * 쓰기는 외부에서 배타적으로, 읽기는 동시에 해도 된다 (재계산은 노드 단위로 동기화).
+ */
+class SuggestTrie {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final int topK;
+    private final Node root = new Node("");
+    // 항목 점수 (같으면 ID가 큰 최신 항목 우선)
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final Map<Long, Collection<String>> keysById = new HashMap<>();
+    private final Comparator<Long> ranking;
+
+    SuggestTrie(int topK) {
+        this.topK = topK;
+        this.ranking = Comparator.<Long>comparingDouble(id -> scores.getOrDefault(id, 0.0)).reversed()
+                .thenComparing(Comparator.reverseOrder());
+    }
+
+    int size() {
+        return keysById.size();
+    }
+
+    Double score(long id) {
+        return scores.get(id);
+    }
+
+    // 항목 추가/교체 (같은 항목의 이전 키는 지움)
+    void put(long id, Collection<String> keys, double score) {
+        remove(id);
+        Set<String> unique = new LinkedHashSet<>(keys);
+        unique.remove("");
+        if (unique.isEmpty()) {
+            return;
+        }
+        scores.put(id, score);
+        keysById.put(id, List.copyOf(unique));
+        for (String key : unique) {
+            insert(key, id);
+        }
+    }
+
+    // 점수만 바꿈 (키는 그대로 다시 넣어 경로의 목록을 갱신)
+    void rescore(long id, double score) {
+        Collection<String> keys = keysById.get(id);
+        if (keys != null && scores.get(id) != score) {
+            put(id, keys, score);
+        }
+    }
+
+    void remove(long id) {
+        Collection<String> keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            delete(key, id);
+        }
+        scores.remove(id);
+    }
+
+    // 접두어로 시작하는 키를 가진 항목, 점수 순 최대 limit개
+    List<Long> search(String prefix, int limit) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return List.of();
+            }
+            int length = Math.min(child.label.length(), prefix.length() - i);
+            if (!child.label.regionMatches(0, prefix, i, length)) {
+                return List.of();
+            }
+            i += length;
+            node = child;
+        }
+        long[] top = ensure(node);
+        List<Long> result = new ArrayList<>(Math.min(limit, top.length));
+        for (int j = 0; j < top.length && j < limit; j++) {
+            result.add(top[j]);
+        }
+        return result;
+    }
+
+    private void insert(String key, long id) {
+        Node node = root;
+        offer(node, id);
+        int i = 0;
+        while (i < key.length()) {
+            char c = key.charAt(i);
+            Node child = node.child(c);
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.putChild(c, child);
+                offer(child, id);
+                node = child;
+                break;
+            }
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 중간 노드를 만든다 (하위 항목이 같으므로 목록도 그대로)
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.putChild(child.label.charAt(0), child);
+                middle.top = child.top;
+                middle.dirty = child.dirty;
+                node.putChild(c, middle);
+                child = middle;
+            }
+            offer(child, id);
+            node = child;
+            i += common;
+        }
+        node.terminals.add(id);
+    }
+
+    private void delete(String key, long id) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            node = node.child(key.charAt(i));
+            path.add(node);
+            i += node.label.length();
+        }
+        node.terminals.remove(id);
+        for (Node onPath : path) {
+            withdraw(onPath, id);
+        }
+
+        // 빈 잎은 떼어내고, 자식 하나만 남은 중간 노드는 자식과 합침
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node current = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (current.terminals.isEmpty() && current.children == null) {
+                parent.removeChild(current.label.charAt(0));
+            } else if (current.terminals.isEmpty() && current.children.size() == 1) {
+                Node only = current.children.values().iterator().next();
+                only.label = current.label + only.label;
+                parent.putChild(only.label.charAt(0), only);
+                break;
+            } else {
+                break;
+            }
+        }
+    }
+
+    // 상위 목록에 끼워 넣음 (다시 계산할 노드는 건너뜀)
+    private void offer(Node node, long id) {
+        if (node.dirty) {
+            return;
+        }
+        long[] top = node.top;
+        for (long existing : top) {
+            if (existing == id) {
+                return;
+            }
+        }
+        int position = 0;
+        while (position < top.length && ranking.compare(top[position], id) < 0) {
+            position++;
+        }
+        if (position >= topK) {
+            return;
+        }
+        int size = Math.min(top.length + 1, topK);
+        long[] updated = new long[size];
+        System.arraycopy(top, 0, updated, 0, position);
+        updated[position] = id;
+        System.arraycopy(top, position, updated, position + 1, size - position - 1);
+        node.top = updated;
+    }
+
+    // 목록에서 빠짐. 목록이 가득 차 있었으면 밖에 있던 항목이 들어와야 하므로 다시 계산하도록 표시
+    private void withdraw(Node node, long id) {
+        if (node.dirty) {
+            return;
+        }
+        long[] top = node.top;
+        int index = -1;
+        for (int j = 0; j < top.length; j++) {
+            if (top[j] == id) {
+                index = j;
+                break;
+            }
+        }
+        if (index < 0) {
+            return;
+        }
+        if (top.length >= topK) {
+            node.dirty = true;
+            return;
+        }
+        long[] updated = new long[top.length - 1];
+        System.arraycopy(top, 0, updated, 0, index);
+        System.arraycopy(top, index + 1, updated, index, top.length - index - 1);
+        node.top = updated;
+    }
+
+    // 표시된 노드는 자신의 항목과 자식들의 목록을 합쳐 다시 계산
+    private long[] ensure(Node node) {
+        if (!node.dirty) {
+            return node.top;
+        }
+        synchronized (node) {
+            if (node.dirty) {
+                Set<Long> candidates = new LinkedHashSet<>(node.terminals);
+                if (node.children != null) {
+                    for (Node child : node.children.values()) {
+                        for (long id : ensure(child)) {
+                            candidates.add(id);
+                        }
+                    }
+                }
+                node.top = candidates.stream()
+                        .sorted(ranking)
+                        .limit(topK)
+                        .mapToLong(Long::longValue)
+                        .toArray();
+                node.dirty = false;
+            }
+            return node.top;
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+        private String label;
+        private Map<Character, Node> children;
+        private final Set<Long> terminals = new LinkedHashSet<>(1);
+        private volatile long[] top = EMPTY;
+        private volatile boolean dirty;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            return children != null ? children.get(c) : null;
+        }
+
+        void putChild(char c, Node child) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            children.put(c, child);
+        }
+
+        void removeChild(char c) {
+            children.remove(c);
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return label + Arrays.toString(top);
+        }
+    }
+}
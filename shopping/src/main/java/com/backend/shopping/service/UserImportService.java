@@ -0,0 +1,326 @@
+package com.backend.shopping.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.shopping.dto.request.UserImportRecord;
+import com.backend.shopping.dto.response.UserImportResponse;
+import com.backend.shopping.entity.Role;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+import com.backend.shopping.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 대량 회원 등록 (NDJSON).
+ * 요청 본문을 한 줄씩 읽어 청크 단위로 처리한다.
+ * 청크마다 이메일 중복을 IN 쿼리 한 번으로 확인하고, 비밀번호 해시는 전용 풀에서 병렬로 수행하고,
+ * 사용자/장바구니는 JDBC 배치로 저장한다.
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (email, password, name, phone, address, role, token_version, created_at, updated_at) "
+            + "VALUES (:email, :password, :name, :phone, :address, :role, 0, :now, :now)";
+
+    // 방금 넣은 사용자들의 장바구니를 한 번에 생성
+    private static final String INSERT_CARTS_SQL =
+            "INSERT INTO carts (user_id, created_at) "
+            + "SELECT u.id, :now FROM users u WHERE u.email IN (:emails)";
+
+    // 응답에 담는 오류 최대 개수
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UserRepository userRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final ExecutorService hashExecutor;
+    // 해시 풀을 공유하므로 동시에 하나의 등록 작업만 허용
+    private final Semaphore importPermit = new Semaphore(1);
+
+    private final Counter importedCounter;
+    private final Counter failedCounter;
+
+    public UserImportService(UserRepository userRepository,
+                             NamedParameterJdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             PasswordEncoder passwordEncoder,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             MeterRegistry meterRegistry,
+                             @Value("${user-import.chunk-size:500}") int chunkSize,
+                             @Value("${user-import.hashing-threads:0}") int hashingThreads) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+
+        // 0이면 코어 수만큼 (로그인용 해시 풀과는 별도)
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "user-import-hash-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.importedCounter = Counter.builder("user.import.records").tag("result", "imported").register(meterRegistry);
+        this.failedCounter = Counter.builder("user.import.records").tag("result", "failed").register(meterRegistry);
+    }
+
+    public UserImportResponse importUsers(InputStream body) throws IOException {
+        if (!importPermit.tryAcquire()) {
+            throw new CustomException(ErrorCode.IMPORT_IN_PROGRESS);
+        }
+        try {
+            return doImport(body);
+        } finally {
+            importPermit.release();
+        }
+    }
+
+    private UserImportResponse doImport(InputStream body) throws IOException {
+        long startNanos = System.nanoTime();
+        ImportContext context = new ImportContext();
+        List<PendingUser> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                context.total++;
+
+                PendingUser pending = parse(lineNumber, line, context);
+                if (pending == null) {
+                    continue;
+                }
+                chunk.add(pending);
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, context);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        processChunk(chunk, context);
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        double perSecond = elapsedMillis > 0 ? context.imported * 1000.0 / elapsedMillis : context.imported;
+        log.info("대량 회원 등록 완료: 전체 {}건, 성공 {}건, 실패 {}건, {}ms ({}건/초)",
+                context.total, context.imported, context.failed, elapsedMillis, Math.round(perSecond));
+
+        return UserImportResponse.builder()
+                .totalRecords(context.total)
+                .importedCount(context.imported)
+                .failedCount(context.failed)
+                .elapsedMillis(elapsedMillis)
+                .recordsPerSecond(perSecond)
+                .errors(context.errors)
+                .errorsTruncated(context.failed > context.errors.size())
+                .build();
+    }
+
+    // JSON 파싱 + 유효성 검사 + 파일 내 중복 검사, 실패 시 null
+    private PendingUser parse(int lineNumber, String line, ImportContext context) {
+        UserImportRecord record;
+        try {
+            record = objectMapper.readValue(line, UserImportRecord.class);
+        } catch (JsonProcessingException e) {
+            context.fail(lineNumber, null, "JSON 형식이 올바르지 않습니다");
+            return null;
+        }
+        // "null" 줄은 파싱은 되지만 회원이 아님
+        if (record == null) {
+            context.fail(lineNumber, null, "회원 JSON 객체가 아닙니다");
+            return null;
+        }
+
+        Set<ConstraintViolation<UserImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            context.fail(lineNumber, record.getEmail(), violations.iterator().next().getMessage());
+            return null;
+        }
+
+        Role role;
+        try {
+            role = record.getRole() == null ? Role.USER : Role.valueOf(record.getRole().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            context.fail(lineNumber, record.getEmail(), "알 수 없는 역할입니다: " + record.getRole());
+            return null;
+        }
+
+        if (!context.seenEmails.add(record.getEmail())) {
+            context.fail(lineNumber, record.getEmail(), "파일 안에 중복된 이메일입니다");
+            return null;
+        }
+        return new PendingUser(lineNumber, record, role);
+    }
+
+    private void processChunk(List<PendingUser> chunk, ImportContext context) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 1. 이미 가입된 이메일을 한 번에 조회
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                chunk.stream().map(p -> p.record.getEmail()).collect(Collectors.toList())));
+        List<PendingUser> toInsert = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            if (existing.contains(pending.record.getEmail())) {
+                context.fail(pending.line, pending.record.getEmail(), ErrorCode.DUPLICATE_EMAIL.getMessage());
+            } else {
+                toInsert.add(pending);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        // 2. 비밀번호 해시 병렬 수행 (트랜잭션 밖에서)
+        List<CompletableFuture<String>> hashes = toInsert.stream()
+                .map(p -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(p.record.getPassword()), hashExecutor))
+                .collect(Collectors.toList());
+        try {
+            for (int i = 0; i < toInsert.size(); i++) {
+                toInsert.get(i).encodedPassword = hashes.get(i).join();
+            }
+        } catch (CompletionException e) {
+            log.warn("대량 등록 비밀번호 해시 실패: {}", e.getMessage());
+            toInsert.forEach(p -> context.fail(p.line, p.record.getEmail(), "비밀번호 처리에 실패했습니다"));
+            return;
+        }
+
+        // 3. 사용자 + 장바구니 배치 저장
+        try {
+            insert(toInsert);
+            context.succeed(toInsert.size());
+        } catch (DataIntegrityViolationException e) {
+            // 검사 이후 다른 요청이 같은 이메일로 가입한 경우 → 한 건씩 다시 시도해서 해당 건만 실패 처리
+            for (PendingUser pending : toInsert) {
+                insertOne(pending, context);
+            }
+        } catch (DataAccessException e) {
+            log.warn("대량 등록 청크 저장 실패: {}", e.getMessage());
+            toInsert.forEach(p -> context.fail(p.line, p.record.getEmail(), "저장에 실패했습니다"));
+        }
+    }
+
+    private void insertOne(PendingUser pending, ImportContext context) {
+        try {
+            insert(List.of(pending));
+            context.succeed(1);
+        } catch (DataIntegrityViolationException e) {
+            context.fail(pending.line, pending.record.getEmail(), ErrorCode.DUPLICATE_EMAIL.getMessage());
+        } catch (DataAccessException e) {
+            context.fail(pending.line, pending.record.getEmail(), "저장에 실패했습니다");
+        }
+    }
+
+    private void insert(List<PendingUser> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] batch = users.stream()
+                .map(p -> new MapSqlParameterSource()
+                        .addValue("email", p.record.getEmail())
+                        .addValue("password", p.encodedPassword)
+                        .addValue("name", p.record.getName())
+                        .addValue("phone", p.record.getPhone())
+                        .addValue("address", p.record.getAddress())
+                        .addValue("role", p.role.name())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        List<String> emails = users.stream().map(p -> p.record.getEmail()).collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_USER_SQL, batch);
+            jdbcTemplate.update(INSERT_CARTS_SQL, new MapSqlParameterSource()
+                    .addValue("now", now)
+                    .addValue("emails", emails));
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private class ImportContext {
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<UserImportResponse.RecordError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        void fail(int line, String email, String reason) {
+            failed++;
+            failedCounter.increment();
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new UserImportResponse.RecordError(line, email, reason));
+            }
+        }
+
+        void succeed(int count) {
+            imported += count;
+            importedCounter.increment(count);
+        }
+    }
+
+    private static class PendingUser {
+        private final int line;
+        private final UserImportRecord record;
+        private final Role role;
+        private String encodedPassword;
+
+        PendingUser(int line, UserImportRecord record, Role role) {
+            this.line = line;
+            this.record = record;
+            this.role = role;
+        }
+    }
+}
@@ -5,8 +5,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.shopping.controller.UserController.UpdateProfileRequest;
+import com.backend.shopping.entity.Role;
 import com.backend.shopping.entity.User;
 import com.backend.shopping.repository.UserRepository;
+import com.backend.shopping.security.TokenVersionRegistry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +19,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     /**
      * 사용자 이름으로 사용자 정보 조회
@@ -26,12 +29,21 @@ public class UserService {
         return userRepository.findByEmail(username)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
     }
+    
+    /**
+     * 사용자 ID로 사용자 정보 조회
+     */
+    @Transactional(readOnly = true)
+    public User getUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
+    }
 
     /**
      * 사용자 프로필 업데이트
      */
-    public User updateProfile(String username, UpdateProfileRequest request) {
-        User user = getUserByUsername(username);
+    public User updateProfile(Long userId, UpdateProfileRequest request) {
+        User user = getUser(userId);
         
         user.setEmail(request.getEmail());
         user.setName(request.getName());
@@ -44,8 +56,28 @@ public class UserService {
     /**
      * 사용자 삭제
      */
-    public void deleteUser(String username) {
-        User user = getUserByUsername(username);
+    public void deleteUser(Long userId) {
+        User user = getUser(userId);
+        // 탈퇴한 사용자의 기존 토큰은 모두 무효화
+        tokenVersionRegistry.invalidateAll(user.getId());
         userRepository.delete(user);
     }
+    
+    /**
+     * 사용자 역할 변경 (관리자)
+     */
+    public User changeRole(Long userId, Role role) {
+        User user = getUser(userId);
+        if (user.getRole() == role) {
+            return user;
+        }
+        
+        // 토큰 버전을 올려서 이전 역할이 담긴 토큰 무효화
+        long newVersion = user.getTokenVersion() + 1;
+        user.setRole(role);
+        user.setTokenVersion(newVersion);
+        tokenVersionRegistry.invalidate(user.getId(), newVersion);
+        
+        return userRepository.save(user);
+    }
 }
@@ -0,0 +1,85 @@
+package com.backend.shopping.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * IDENTITY ID 기준 증분 폴링 위치.
+ * ID는 발급 순서대로 커밋되지 않으므로 "마지막으로 본 ID 이후"만 조회하면, 큰 ID보다 늦게 커밋된 작은 ID는 영영 건너뛴다.
+ * 그래서 폴링 결과에서 빠진 ID(gap)를 기억해 두고 나타날 때까지 다시 조회한다.
+ * 롤백 등으로 끝내 쓰이지 않는 ID도 있으므로 gap은 제한 시간이 지나면 버린다.
+ * gap이 최대 개수를 넘으면 가장 작은(오래된) ID부터 버린다 (늦게 커밋될 가능성은 최근 ID가 더 높음).
+ * 스레드 안전하지 않다 (폴링 메서드에서 동기화해서 사용).
+ */
+@Slf4j
+public class IdPollCursor {
+
+    private final long gapTimeoutMillis;
+    private final int maxGaps;
+
+    private volatile long lastSeenId;
+    // 빠진 ID → 처음 발견한 시각
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    public IdPollCursor(long lastSeenId, long gapTimeoutMillis, int maxGaps) {
+        this.lastSeenId = lastSeenId;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.maxGaps = maxGaps;
+    }
+
+    public long getLastSeenId() {
+        return lastSeenId;
+    }
+
+    // 시작 위치 지정 (그 이전 ID는 보지 않음)
+    public void reset(long id) {
+        lastSeenId = id;
+        gaps.clear();
+    }
+
+    // 증분 조회로 읽은 ID 반영 (ID 오름차순으로 호출), 건너뛴 ID는 gap으로 기억
+    public void advance(long id, long now) {
+        long from = Math.max(lastSeenId + 1, id - maxGaps);
+        if (from > lastSeenId + 1) {
+            log.debug("폴링 gap이 너무 많아 {}~{} 구간은 재확인하지 않음", lastSeenId + 1, from - 1);
+        }
+        for (long gap = from; gap < id; gap++) {
+            gaps.put(gap, now);
+        }
+        Iterator<Long> eldest = gaps.keySet().iterator();
+        while (gaps.size() > maxGaps) {
+            eldest.next();
+            eldest.remove();
+        }
+        lastSeenId = id;
+    }
+
+    // 다시 조회할 gap (제한 시간이 지난 것은 버림)
+    public List<Long> pendingGaps(long now) {
+        List<Long> pending = new ArrayList<>(gaps.size());
+        Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Long> gap = it.next();
+            if (now - gap.getValue() > gapTimeoutMillis) {
+                it.remove();
+            } else {
+                pending.add(gap.getKey());
+            }
+        }
+        return pending;
+    }
+
+    // gap 재조회로 읽은 ID
+    public void fill(long id) {
+        gaps.remove(id);
+    }
+
+    public int gapCount() {
+        return gaps.size();
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.shopping.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConnectionHoldTimeDataSourceTest {
+
+    @Test
+    @DisplayName("커넥션을 반납하면 보유 시간이 한 번만 기록된다")
+    void close_RecordsHoldTimeOnce() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        given(target.getConnection()).willReturn(connection);
+        ConnectionHoldTimeDataSource dataSource = new ConnectionHoldTimeDataSource(target,
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+                        .getBeanProvider(MeterRegistry.class),
+                1_000L);
+
+        // when
+        Connection tracked = dataSource.getConnection();
+        tracked.close();
+        tracked.close();
+
+        // then
+        Timer timer = meterRegistry.find("db.connection.hold").tag("method", "other").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        verify(connection, times(2)).close();
+        assertThat(tracked).isNotSameAs(connection);
+        assertThat(tracked.equals(tracked)).isTrue();
+    }
+}
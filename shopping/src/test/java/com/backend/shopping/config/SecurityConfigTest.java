@@ -0,0 +1,59 @@
+package com.backend.shopping.config;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.backend.shopping.security.JwtTokenVerifier;
+
+@SpringBootTest(properties = "product.warmup.enabled=false")
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    private static final String BEARER = "Bearer some.jwt.token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JwtTokenVerifier tokenVerifier;
+
+    @Test
+    @DisplayName("상품 조회 체인 요청은 Authorization 헤더가 있어도 토큰을 검증하지 않는다")
+    void catalogRead_SkipsJwtVerification() throws Exception {
+        // when
+        mockMvc.perform(get("/api/products/categories").header(HttpHeaders.AUTHORIZATION, BEARER))
+                .andExpect(status().isOk());
+
+        // then
+        verify(tokenVerifier, never()).verify(anyString());
+    }
+
+    @Test
+    @DisplayName("일반 체인 요청은 토큰을 한 번만 검증한다")
+    void authenticatedRequest_VerifiesJwtOnce() throws Exception {
+        // given
+        given(tokenVerifier.verify(anyString())).willReturn(Optional.empty());
+
+        // when
+        mockMvc.perform(get("/api/cart").header(HttpHeaders.AUTHORIZATION, BEARER));
+
+        // then
+        verify(tokenVerifier, times(1)).verify(anyString());
+    }
+}
@@ -0,0 +1,150 @@
+package com.backend.shopping.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.backend.shopping.dto.response.ProductResponse;
+import com.backend.shopping.service.CatalogVersion;
+import com.backend.shopping.service.ProductBodyCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CatalogHttpCachingTest {
+
+    private final CatalogHttpCaching caching = new CatalogHttpCaching(
+            new ObjectMapper().findAndRegisterModules(), Duration.ofSeconds(30), Duration.ofSeconds(10));
+
+    private final ProductResponse product = ProductResponse.builder()
+            .id(1L)
+            .name("테스트 상품")
+            .description("설명 ".repeat(50))
+            .updatedAt(LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_000))
+            .build();
+
+    @Test
+    @DisplayName("검증자 없는 첫 요청은 ETag, Last-Modified, Cache-Control과 JSON 본문을 보낸다")
+    void firstRequest_WritesBodyWithValidators() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        caching.write(web(request(null, null), response), caching.productBody(product));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"p1-");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL))
+                .contains("max-age=30", "public", "stale-while-revalidate=10");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("\"name\":\"테스트 상품\"");
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 클라이언트에는 미리 압축한 본문과 약한 ETag를 보낸다")
+    void acceptGzip_WritesCompressedBody() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        caching.write(web(request(null, "gzip, deflate, br"), response), caching.productBody(product));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("W/\"p1-");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"name\":\"테스트 상품\"");
+        }
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304, 상품이 수정되면 다시 200")
+    void productEtag_MatchesUntilUpdated() throws IOException {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        caching.write(web(request(null, null), first), caching.productBody(product));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletResponse unchanged = new MockHttpServletResponse();
+        caching.write(web(request(etag, null), unchanged), caching.productBody(product));
+        MockHttpServletResponse gzipUnchanged = new MockHttpServletResponse();
+        caching.write(web(request("W/" + etag, "gzip"), gzipUnchanged), caching.productBody(product));
+        // 같은 밀리초 안의 수정
+        product.setUpdatedAt(product.getUpdatedAt().plusNanos(1_000));
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+        caching.write(web(request(etag, null), changed), caching.productBody(product));
+
+        // then
+        assertThat(unchanged.getStatus()).isEqualTo(304);
+        assertThat(unchanged.getContentAsByteArray()).isEmpty();
+        assertThat(unchanged.getHeader(HttpHeaders.CACHE_CONTROL)).isNotNull();
+        assertThat(gzipUnchanged.getStatus()).isEqualTo(304);
+        assertThat(changed.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 목록 ETag도 바뀐다")
+    void catalogEtag_ChangesWithVersion() {
+        // given
+        CatalogVersion version = new CatalogVersion(10L, 1_700_000_000_000L);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        caching.notModified(web(request(null, null), first), version);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        assertThat(caching.notModified(web(request(etag, null), new MockHttpServletResponse()), version)).isTrue();
+        assertThat(caching.notModified(web(request(etag, null), new MockHttpServletResponse()),
+                new CatalogVersion(11L, 1_700_000_001_000L))).isFalse();
+        assertThat(caching.notModified(web(request(etag, null), new MockHttpServletResponse()),
+                new CatalogVersion(10L, 1_700_000_000_001L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 해석: q=0이면 거절, 명시한 gzip이 *보다 우선")
+    void acceptsGzip() {
+        assertThat(CatalogHttpCaching.acceptsGzip(null)).isFalse();
+        assertThat(CatalogHttpCaching.acceptsGzip("identity")).isFalse();
+        assertThat(CatalogHttpCaching.acceptsGzip("GZIP")).isTrue();
+        assertThat(CatalogHttpCaching.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(CatalogHttpCaching.acceptsGzip("*;q=0.5")).isTrue();
+        assertThat(CatalogHttpCaching.acceptsGzip("*, gzip;q=0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("압축해도 작아지지 않는 본문은 원본만 보관한다")
+    void tinyBody_HasNoGzipVariant() {
+        ProductBodyCache.Body body = ProductBodyCache.Body.of("{}".getBytes(StandardCharsets.UTF_8), "\"c1\"", 0L);
+
+        assertThat(body.hasGzip()).isFalse();
+        assertThat(body.content(true).remaining()).isEqualTo(2);
+    }
+
+    private ServletWebRequest web(MockHttpServletRequest request, MockHttpServletResponse response) {
+        return new ServletWebRequest(request, response);
+    }
+
+    private MockHttpServletRequest request(String ifNoneMatch, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+}
@@ -1,7 +1,10 @@
 package com.backend.shopping.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -9,6 +12,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -19,22 +23,41 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.unit.DataSize;
 
 import com.backend.shopping.dto.request.ProductRequest;
+import com.backend.shopping.dto.request.ProductSearchRequest;
 import com.backend.shopping.dto.response.ProductResponse;
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.service.CatalogVersion;
+import com.backend.shopping.service.ProductBodyCache;
 import com.backend.shopping.service.ProductService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @Disabled("임시 비활성화 중")
 @WebMvcTest(ProductController.class)
+@Import({CatalogHttpCaching.class, ProductControllerTest.BodyCacheConfig.class})
 class ProductControllerTest {
     
+    @TestConfiguration
+    static class BodyCacheConfig {
+        @Bean
+        ProductBodyCache productBodyCache() {
+            return new ProductBodyCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ofMinutes(1), Duration.ofMinutes(1));
+        }
+    }
+    
     @Autowired
     private MockMvc mockMvc;
     
@@ -45,6 +68,7 @@ class ProductControllerTest {
     private ObjectMapper objectMapper;
     
     private ProductResponse testProductResponse;
+    private ProductSummaryResponse testProductSummary;
     private ProductRequest testProductRequest;
     
     @BeforeEach
@@ -61,6 +85,16 @@ class ProductControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
         
+        testProductSummary = ProductSummaryResponse.builder()
+                .id(1L)
+                .name("테스트 상품")
+                .price(new BigDecimal("10000"))
+                .stock(100)
+                .category("Electronics")
+                .imageUrl("http://example.com/image.jpg")
+                .createdAt(LocalDateTime.now())
+                .build();
+        
         testProductRequest = new ProductRequest();
         testProductRequest.setName("테스트 상품");
         testProductRequest.setDescription("테스트 상품 설명");
@@ -105,7 +139,7 @@ class ProductControllerTest {
     @DisplayName("상품 단건 조회")
     void getProduct() throws Exception {
         // given
-        given(productService.getProduct(1L)).willReturn(testProductResponse);
+        given(productService.findProduct(1L)).willReturn(testProductResponse);
         
         // when & then
         mockMvc.perform(get("/api/products/1"))
@@ -119,10 +153,11 @@ class ProductControllerTest {
     @DisplayName("상품 목록 조회")
     void getProducts() throws Exception {
         // given
-        List<ProductResponse> products = Arrays.asList(testProductResponse);
-        Page<ProductResponse> productPage = new PageImpl<>(products);
+        List<ProductSummaryResponse> products = Arrays.asList(testProductSummary);
+        Page<ProductSummaryResponse> productPage = new PageImpl<>(products);
         
-        given(productService.getProducts(any())).willReturn(productPage);
+        given(productService.getCatalogVersion()).willReturn(new CatalogVersion(1L, System.currentTimeMillis()));
+        given(productService.getProducts(any(ProductSearchRequest.class))).willReturn(productPage);
         
         // when & then
         mockMvc.perform(get("/api/products")
@@ -134,11 +169,31 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data.content[0].name").value("테스트 상품"));
     }
     
+    @Test
+    @DisplayName("둘러보기 페이지는 크기를 100으로 자르고 카테고리 앞뒤 공백을 무시해 같은 캐시를 쓴다")
+    void getProducts_BrowseNormalized() throws Exception {
+        // given
+        given(productService.getCatalogVersion()).willReturn(new CatalogVersion(1L, System.currentTimeMillis()));
+        given(productService.getProducts(any(ProductSearchRequest.class)))
+                .willReturn(new PageImpl<>(Arrays.asList(testProductSummary)));
+        
+        // when
+        mockMvc.perform(get("/api/products").param("category", " 신발 ").param("size", "1000"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/products").param("category", "신발").param("size", "100"))
+                .andExpect(status().isOk());
+        
+        // then
+        verify(productService, times(1)).getProducts(argThat((ProductSearchRequest r) ->
+                "신발".equals(r.getCategory()) && r.getSize() == 100));
+    }
+    
     @Test
     @DisplayName("카테고리 목록 조회")
     void getCategories() throws Exception {
         // given
         List<String> categories = Arrays.asList("Electronics", "Fashion", "Books");
+        given(productService.getCatalogVersion()).willReturn(new CatalogVersion(1L, System.currentTimeMillis()));
         given(productService.getCategories()).willReturn(categories);
         
         // when & then
@@ -154,8 +209,8 @@ class ProductControllerTest {
     @DisplayName("인기 상품 조회")
     void getPopularProducts() throws Exception {
         // given
-        List<ProductResponse> popularProducts = Arrays.asList(testProductResponse);
-        given(productService.getPopularProducts(10)).willReturn(popularProducts);
+        List<ProductSummaryResponse> popularProducts = Arrays.asList(testProductSummary);
+        given(productService.getPopularProducts(10, null)).willReturn(popularProducts);
         
         // when & then
         mockMvc.perform(get("/api/products/popular")
@@ -0,0 +1,100 @@
+package com.backend.shopping.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.backend.shopping.entity.Product;
+
+/**
+ * 검색 조건 조합별 쿼리 모양 테스트.
+ * 조건 값을 SQL에 그대로 넣도록(inline) 설정한 뒤, 생성된 SQL을 H2 EXPLAIN으로 확인해 테이블 전체 스캔이 없는지 본다.
+ * 상품명만으로 하는 검색은 ProductSearchIndex가 처리하므로 여기서는 다른 조건과 함께 쓰는 경우만 본다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.backend.shopping.repository.ProductSpecificationsTest$LastSql"
+})
+class ProductSpecificationsTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 마지막으로 실행된 SQL 기록
+    public static class LastSql implements StatementInspector {
+        private static volatile String sql;
+
+        @Override
+        public String inspect(String sql) {
+            LastSql.sql = sql;
+            return sql;
+        }
+    }
+
+    private String explain(Specification<Product> spec) {
+        productRepository.findAll(spec);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + LastSql.sql, String.class));
+    }
+
+    @Test
+    @DisplayName("카테고리 조건은 카테고리 인덱스를 사용한다")
+    void category_UsesIndex() {
+        String plan = explain(ProductSpecifications.categoryEquals("전자제품"));
+
+        assertThat(plan).containsIgnoringCase("IDX_PRODUCTS_CATEGORY_CREATED_AT").doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("재고/가격/등록일 조건은 각각 인덱스를 사용한다")
+    void singleRangeFilters_UseIndex() {
+        assertThat(explain(ProductSpecifications.inStock(true)))
+                .containsIgnoringCase("IDX_PRODUCTS_STOCK").doesNotContain("tableScan");
+        assertThat(explain(ProductSpecifications.priceBetween(new BigDecimal("1000"), new BigDecimal("5000"))))
+                .containsIgnoringCase("IDX_PRODUCTS_PRICE").doesNotContain("tableScan");
+        assertThat(explain(ProductSpecifications.createdBetween(LocalDateTime.now().minusDays(7), null)))
+                .containsIgnoringCase("IDX_PRODUCTS_CREATED_AT").doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("여러 조건을 함께 지정해도 한 번의 쿼리로 인덱스를 사용한다")
+    void combinedFilters_UseIndex() {
+        assertThat(explain(Specification.allOf(
+                ProductSpecifications.nameContains("폰"),
+                ProductSpecifications.categoryEquals("전자제품"))))
+                .doesNotContain("tableScan");
+        assertThat(explain(Specification.allOf(
+                ProductSpecifications.categoryEquals("전자제품"),
+                ProductSpecifications.priceBetween(null, new BigDecimal("5000")))))
+                .doesNotContain("tableScan");
+        assertThat(explain(Specification.allOf(
+                ProductSpecifications.nameContains("폰"),
+                ProductSpecifications.inStock(true),
+                ProductSpecifications.priceBetween(new BigDecimal("1000"), null),
+                ProductSpecifications.createdBetween(LocalDateTime.now().minusDays(30), LocalDateTime.now()))))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("값이 없는 조건은 무시되고 LIKE 특수문자는 이스케이프된다")
+    void emptyConditionsIgnored() {
+        assertThat(ProductSpecifications.categoryEquals(" ")).isNull();
+        assertThat(ProductSpecifications.inStock(false)).isNull();
+        assertThat(ProductSpecifications.priceBetween(null, null)).isNull();
+
+        productRepository.findAll(ProductSpecifications.nameContains("100%_할인"));
+        assertThat(LastSql.sql).contains("100\\%\\_할인");
+    }
+}
@@ -0,0 +1,101 @@
+package com.backend.shopping.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.backend.shopping.entity.Role;
+import com.backend.shopping.entity.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtTokenVerifierTest {
+
+    private static final String SECRET =
+            "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtTokenVerifier tokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 60_000L, 120_000L);
+        tokenVerifier = new JwtTokenVerifier(tokenProvider, new SimpleMeterRegistry(), 2);
+    }
+
+    private String issueToken(String email) {
+        User user = User.builder()
+                .id(1L)
+                .email(email)
+                .name("테스트유저")
+                .role(Role.USER)
+                .build();
+        return tokenProvider.generateToken(user);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 두 번째 요청부터 캐시에서 검증된다")
+    void verify_CachesVerifiedToken() {
+        // given
+        String token = issueToken("test@test.com");
+
+        // when
+        Optional<TokenClaims> first = tokenVerifier.verify(token);
+        Optional<TokenClaims> second = tokenVerifier.verify(token);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getSubject()).isEqualTo("test@test.com");
+        assertThat(tokenVerifier.getMissCount()).isEqualTo(1);
+        assertThat(tokenVerifier.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰에 사용자 ID, 역할, 토큰 버전이 담긴다")
+    void verify_ContainsPrincipalClaims() {
+        // given
+        String token = issueToken("test@test.com");
+
+        // when
+        TokenClaims claims = tokenVerifier.verify(token).orElseThrow();
+
+        // then
+        assertThat(claims.getUserId()).isEqualTo(1L);
+        assertThat(claims.getRole()).isEqualTo("USER");
+        assertThat(claims.getTokenVersion()).isZero();
+        assertThat(claims.getTokenId()).isNotBlank();
+        assertThat(claims.isAccessToken()).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명이 잘못된 토큰은 거부되고 캐시에 저장되지 않는다")
+    void verify_InvalidSignature() {
+        // given
+        String token = issueToken("test@test.com");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // when
+        Optional<TokenClaims> result = tokenVerifier.verify(tampered);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(tokenVerifier.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 크기는 최대 개수를 넘지 않는다")
+    void verify_BoundedCache() {
+        // when
+        tokenVerifier.verify(issueToken("a@test.com"));
+        tokenVerifier.verify(issueToken("b@test.com"));
+        tokenVerifier.verify(issueToken("c@test.com"));
+
+        // then
+        assertThat(tokenVerifier.size()).isLessThanOrEqualTo(2);
+    }
+}
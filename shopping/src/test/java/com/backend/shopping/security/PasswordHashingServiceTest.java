@@ -0,0 +1,116 @@
+package com.backend.shopping.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService hashingService;
+
+    @AfterEach
+    void tearDown() {
+        if (hashingService != null) {
+            hashingService.shutdown();
+        }
+    }
+
+    private PasswordHashingService create(PasswordEncoder encoder, int poolSize, int queueCapacity, double rehashRate) {
+        hashingService = new PasswordHashingService(encoder, new SimpleMeterRegistry(),
+                poolSize, queueCapacity, 5000L, rehashRate);
+        return hashingService;
+    }
+
+    @Test
+    @DisplayName("해시한 비밀번호는 검증에 성공하고, 사용자가 없으면 항상 실패한다")
+    void encodeAndMatches() {
+        // given
+        PasswordHashingService service = create(new BCryptPasswordEncoder(4), 1, 4, 0.0);
+
+        // when
+        String encoded = service.encode("password123");
+
+        // then
+        assertThat(service.matches("password123", encoded)).isTrue();
+        assertThat(service.matches("wrong", encoded)).isFalse();
+        assertThat(service.matches("password123", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해시 풀과 대기열이 가득 차면 AUTH_BUSY로 즉시 거절한다")
+    void encode_RejectsWhenSaturated() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if ("block".contentEquals(rawPassword)) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHashingService service = create(blockingEncoder, 1, 1, 0.0);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            // 작업 스레드 1개 점유 + 대기열 1칸 채움
+            callers.submit(() -> service.encode("block"));
+            started.await(5, TimeUnit.SECONDS);
+            callers.submit(() -> service.encode("queued"));
+            Thread.sleep(100);
+
+            // when & then
+            assertThatThrownBy(() -> service.encode("rejected"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.AUTH_BUSY);
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("cost가 낮은 해시는 로그인 시 현재 cost로 재해시된다")
+    void rehashIfNeeded_UpgradesWeakHash() throws Exception {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        PasswordHashingService service = create(new BCryptPasswordEncoder(5), 1, 4, 1.0);
+        AtomicReference<String> rehashed = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        service.rehashIfNeeded("password123", weakHash, newHash -> {
+            rehashed.set(newHash);
+            done.countDown();
+        });
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(rehashed.get()).startsWith("$2a$05$");
+        assertThat(service.matches("password123", rehashed.get())).isTrue();
+    }
+}
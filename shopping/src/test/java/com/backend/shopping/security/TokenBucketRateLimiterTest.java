@@ -0,0 +1,67 @@
+package com.backend.shopping.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("버킷 크기만큼은 바로 허용하고, 그 이후는 대기 시간과 함께 거절한다")
+    void tryAcquire_AllowsBurstThenRejects() {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 1.0, 100, 4);
+        long now = 10 * SECOND;
+
+        // when & then
+        assertThat(limiter.tryAcquire("ip:1", now)).isEqualTo(2);
+        assertThat(limiter.tryAcquire("ip:1", now)).isEqualTo(1);
+        assertThat(limiter.tryAcquire("ip:1", now)).isZero();
+        long rejected = limiter.tryAcquire("ip:1", now);
+        assertThat(rejected).isNegative();
+        assertThat(-rejected).isEqualTo(SECOND);
+
+        // 다른 클라이언트는 영향 없음
+        assertThat(limiter.tryAcquire("ip:2", now)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 충전량만큼 다시 허용된다")
+    void tryAcquire_RefillsOverTime() {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 2.0, 100, 4);
+        long now = 10 * SECOND;
+        limiter.tryAcquire("u:1", now);
+        limiter.tryAcquire("u:1", now);
+
+        // when
+        long afterHalfSecond = limiter.tryAcquire("u:1", now + SECOND / 2);
+
+        // then
+        assertThat(afterHalfSecond).isZero();
+        assertThat(limiter.tryAcquire("u:1", now + SECOND / 2)).isNegative();
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷은 정리되고, 전체 항목 수는 최대 개수를 넘지 않는다")
+    void evictIdle_AndBoundedSize() {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 1.0, 8, 2);
+        long now = 10 * SECOND;
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire("ip:" + i, now);
+        }
+
+        // then
+        int size = limiter.size();
+        assertThat(size).isLessThanOrEqualTo(8);
+        assertThat(limiter.evictIdle(now)).isZero();
+        assertThat(limiter.evictIdle(now + 10 * SECOND)).isEqualTo(size);
+        assertThat(limiter.size()).isZero();
+    }
+}
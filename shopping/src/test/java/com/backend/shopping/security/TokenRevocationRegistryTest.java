@@ -0,0 +1,152 @@
+package com.backend.shopping.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backend.shopping.entity.RevokedToken;
+import com.backend.shopping.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationRegistryTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry(revokedTokenRepository, new SimpleMeterRegistry(), 60_000L, 100, 60_000L);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기된 것으로 판단한다")
+    void revoke_MarksOnlyRevokedToken() {
+        // given
+        long expiration = System.currentTimeMillis() + 30_000L;
+
+        // when
+        registry.revoke("token-1", 1L, expiration);
+
+        // then
+        assertThat(registry.isRevoked("token-1", expiration)).isTrue();
+        assertThat(registry.isRevoked("token-2", expiration)).isFalse();
+        assertThat(registry.isRevoked(null, expiration)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 토큰은 폴링으로 반영된다")
+    void poll_AppliesRemoteRevocations() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+        RevokedToken remote = RevokedToken.builder()
+                .id(10L)
+                .tokenId("remote-token")
+                .userId(2L)
+                .expiresAt(expiresAt)
+                .build();
+        given(revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(remote));
+
+        // when
+        registry.poll();
+
+        // then
+        long expiration = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertThat(registry.isRevoked("remote-token", expiration)).isTrue();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 폐기하면 커밋된 뒤에 반영하고, 롤백되면 반영하지 않는다")
+    void revoke_AppliesAfterCommit() {
+        // given
+        long expiration = System.currentTimeMillis() + 30_000L;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            registry.revoke("committed", 1L, expiration);
+            registry.revoke("rolled-back", 1L, expiration);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(registry.isRevoked("committed", expiration)).isFalse();
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            assertThat(registry.isRevoked("committed", expiration)).isTrue();
+            assertThat(registry.isRevoked("rolled-back", expiration)).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 지나친 ID로 늦게 커밋된 폐기 기록도 다음 폴링에서 반영된다")
+    void poll_AppliesLateCommittedRevocations() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+        RevokedToken early = RevokedToken.builder().id(1L).tokenId("early").userId(2L).expiresAt(expiresAt).build();
+        RevokedToken late = RevokedToken.builder().id(2L).tokenId("late").userId(2L).expiresAt(expiresAt).build();
+        RevokedToken next = RevokedToken.builder().id(3L).tokenId("next").userId(2L).expiresAt(expiresAt).build();
+        given(revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(early, next), List.of());
+        registry.poll();
+        given(revokedTokenRepository.findAllById(List.of(2L))).willReturn(List.of(late));
+
+        // when
+        registry.poll();
+
+        // then
+        long expiration = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertThat(registry.isRevoked("late", expiration)).isTrue();
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 보관하지 않는다")
+    void revoke_IgnoresExpiredToken() {
+        // given
+        long expired = System.currentTimeMillis() - 1_000L;
+
+        // when
+        registry.revoke("old-token", 1L, expired);
+
+        // then
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Bloom 필터는 넣은 값을 항상 포함한다고 판단한다")
+    void bloomFilter_NoFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            filter.put("token-" + i);
+        }
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("token-" + i)).isTrue();
+        }
+    }
+}
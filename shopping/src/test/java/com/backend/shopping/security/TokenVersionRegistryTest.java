@@ -0,0 +1,79 @@
+package com.backend.shopping.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backend.shopping.entity.TokenInvalidation;
+import com.backend.shopping.repository.TokenInvalidationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionRegistryTest {
+
+    @Mock
+    private TokenInvalidationRepository invalidationRepository;
+
+    private TokenVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenVersionRegistry(invalidationRepository, 900_000L, 1_209_600_000L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋된 뒤에 반영하고, 롤백되면 반영하지 않는다")
+    void invalidate_AppliesAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            registry.invalidate(1L, 2L);
+            registry.invalidateAll(2L);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(registry.isCurrent(1L, 1L)).isTrue();
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            assertThat(registry.isCurrent(1L, 1L)).isFalse();
+            assertThat(registry.isCurrent(1L, 2L)).isTrue();
+            assertThat(registry.isCurrent(2L, 1L)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 지나친 ID로 늦게 커밋된 무효화 기록도 다음 폴링에서 반영된다")
+    void poll_AppliesLateCommittedInvalidations() {
+        // given
+        TokenInvalidation early = TokenInvalidation.builder().id(1L).userId(1L).minTokenVersion(2L).build();
+        TokenInvalidation late = TokenInvalidation.builder().id(2L).userId(2L).minTokenVersion(Long.MAX_VALUE).build();
+        TokenInvalidation next = TokenInvalidation.builder().id(3L).userId(3L).minTokenVersion(5L).build();
+        given(invalidationRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(early, next), List.of());
+        registry.poll();
+        given(invalidationRepository.findAllById(List.of(2L))).willReturn(List.of(late));
+
+        // when
+        registry.poll();
+
+        // then
+        assertThat(registry.isCurrent(1L, 1L)).isFalse();
+        assertThat(registry.isCurrent(2L, 1L)).isFalse();
+        assertThat(registry.isCurrent(3L, 5L)).isTrue();
+    }
+}
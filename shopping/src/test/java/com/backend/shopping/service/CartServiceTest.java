@@ -21,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.backend.shopping.dto.request.CartItemRequest;
+import com.backend.shopping.dto.response.CartItemResponse;
 import com.backend.shopping.dto.response.CartResponse;
 import com.backend.shopping.entity.Cart;
 import com.backend.shopping.entity.CartItem;
@@ -54,6 +55,7 @@ class CartServiceTest {
     private Cart testCart;
     private Product testProduct;
     private CartItem testCartItem;
+    private CartItemResponse testCartItemResponse;
     private CartItemRequest testRequest;
     
     @BeforeEach
@@ -87,6 +89,9 @@ class CartServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
         
+        testCartItemResponse = new CartItemResponse(1L, 1L, "테스트 상품", null,
+                new BigDecimal("10000"), 100, 2, LocalDateTime.now());
+        
         testRequest = new CartItemRequest();
         testRequest.setProductId(1L);
         testRequest.setQuantity(3);
@@ -96,13 +101,13 @@ class CartServiceTest {
     @DisplayName("장바구니에 새 상품 추가 성공")
     void addItemToCart_NewItem_Success() {
         // given
-        given(authService.getCurrentUser()).willReturn(testUser);
-        given(cartRepository.findByUser(testUser)).willReturn(Optional.of(testCart));
-        given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(authService.getCurrentUserId()).willReturn(1L);
+        given(cartRepository.findByUserId(1L)).willReturn(Optional.of(testCart));
+        given(productRepository.findActiveById(1L)).willReturn(Optional.of(testProduct));
         given(cartItemRepository.findByCartAndProduct(testCart, testProduct))
                 .willReturn(Optional.empty());
         given(cartItemRepository.save(any(CartItem.class))).willReturn(testCartItem);
-        given(cartItemRepository.findByCart(testCart)).willReturn(Arrays.asList(testCartItem));
+        given(cartItemRepository.findItemResponsesByCartId(1L)).willReturn(Arrays.asList(testCartItemResponse));
         
         // when
         CartResponse response = cartService.addItemToCart(testRequest);
@@ -119,13 +124,13 @@ class CartServiceTest {
     @DisplayName("장바구니에 기존 상품 추가 - 수량 증가")
     void addItemToCart_ExistingItem_QuantityIncrease() {
         // given
-        given(authService.getCurrentUser()).willReturn(testUser);
-        given(cartRepository.findByUser(testUser)).willReturn(Optional.of(testCart));
-        given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(authService.getCurrentUserId()).willReturn(1L);
+        given(cartRepository.findByUserId(1L)).willReturn(Optional.of(testCart));
+        given(productRepository.findActiveById(1L)).willReturn(Optional.of(testProduct));
         given(cartItemRepository.findByCartAndProduct(testCart, testProduct))
                 .willReturn(Optional.of(testCartItem));
         given(cartItemRepository.save(any(CartItem.class))).willReturn(testCartItem);
-        given(cartItemRepository.findByCart(testCart)).willReturn(Arrays.asList(testCartItem));
+        given(cartItemRepository.findItemResponsesByCartId(1L)).willReturn(Arrays.asList(testCartItemResponse));
         
         // when
         CartResponse response = cartService.addItemToCart(testRequest);
@@ -143,9 +148,9 @@ class CartServiceTest {
         // given
         testProduct.setStock(1); // 재고를 1개로 설정
         
-        given(authService.getCurrentUser()).willReturn(testUser);
-        given(cartRepository.findByUser(testUser)).willReturn(Optional.of(testCart));
-        given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(authService.getCurrentUserId()).willReturn(1L);
+        given(cartRepository.findByUserId(1L)).willReturn(Optional.of(testCart));
+        given(productRepository.findActiveById(1L)).willReturn(Optional.of(testProduct));
         
         // when & then
         assertThatThrownBy(() -> cartService.addItemToCart(testRequest))
@@ -157,11 +162,11 @@ class CartServiceTest {
     @DisplayName("장바구니 아이템 수량 수정 성공")
     void updateCartItem_Success() {
         // given
-        given(authService.getCurrentUser()).willReturn(testUser);
-        given(cartRepository.findByUser(testUser)).willReturn(Optional.of(testCart));
+        given(authService.getCurrentUserId()).willReturn(1L);
+        given(cartRepository.findByUserId(1L)).willReturn(Optional.of(testCart));
         given(cartItemRepository.findById(1L)).willReturn(Optional.of(testCartItem));
         given(cartItemRepository.save(any(CartItem.class))).willReturn(testCartItem);
-        given(cartItemRepository.findByCart(testCart)).willReturn(Arrays.asList(testCartItem));
+        given(cartItemRepository.findItemResponsesByCartId(1L)).willReturn(Arrays.asList(testCartItemResponse));
         
         // when
         CartResponse response = cartService.updateCartItem(1L, 5);
@@ -183,8 +188,14 @@ class CartServiceTest {
                 .role(Role.USER)
                 .build();
         
-        given(authService.getCurrentUser()).willReturn(otherUser);
-        given(cartRepository.findByUser(otherUser)).willReturn(Optional.of(testCart));
+        Cart otherCart = Cart.builder()
+                .id(2L)
+                .user(otherUser)
+                .createdAt(LocalDateTime.now())
+                .build();
+        
+        given(authService.getCurrentUserId()).willReturn(2L);
+        given(cartRepository.findByUserId(2L)).willReturn(Optional.of(otherCart));
         given(cartItemRepository.findById(1L)).willReturn(Optional.of(testCartItem));
         
         // when & then
@@ -197,10 +208,10 @@ class CartServiceTest {
     @DisplayName("장바구니 아이템 제거 성공")
     void removeItemFromCart_Success() {
         // given
-        given(authService.getCurrentUser()).willReturn(testUser);
-        given(cartRepository.findByUser(testUser)).willReturn(Optional.of(testCart));
+        given(authService.getCurrentUserId()).willReturn(1L);
+        given(cartRepository.findByUserId(1L)).willReturn(Optional.of(testCart));
         given(cartItemRepository.findById(1L)).willReturn(Optional.of(testCartItem));
-        given(cartItemRepository.findByCart(testCart)).willReturn(Arrays.asList());
+        given(cartItemRepository.findItemResponsesByCartId(1L)).willReturn(Arrays.asList());
         
         // when
         CartResponse response = cartService.removeItemFromCart(1L);
@@ -214,8 +225,8 @@ class CartServiceTest {
     @DisplayName("장바구니 전체 비우기 성공")
     void clearCart_Success() {
         // given
-        given(authService.getCurrentUser()).willReturn(testUser);
-        given(cartRepository.findByUser(testUser)).willReturn(Optional.of(testCart));
+        given(authService.getCurrentUserId()).willReturn(1L);
+        given(cartRepository.findByUserId(1L)).willReturn(Optional.of(testCart));
         
         // when
         cartService.clearCart();
@@ -228,9 +239,9 @@ class CartServiceTest {
     @DisplayName("내 장바구니 조회 성공")
     void getMyCart_Success() {
         // given
-        given(authService.getCurrentUser()).willReturn(testUser);
-        given(cartRepository.findByUser(testUser)).willReturn(Optional.of(testCart));
-        given(cartItemRepository.findByCart(testCart)).willReturn(Arrays.asList(testCartItem));
+        given(authService.getCurrentUserId()).willReturn(1L);
+        given(cartRepository.findByUserId(1L)).willReturn(Optional.of(testCart));
+        given(cartItemRepository.findItemResponsesByCartId(1L)).willReturn(Arrays.asList(testCartItemResponse));
         
         // when
         CartResponse response = cartService.getMyCart();
@@ -247,9 +258,8 @@ class CartServiceTest {
     @DisplayName("장바구니 아이템 수 조회")
     void getCartItemCount_Success() {
         // given
-        given(authService.getCurrentUser()).willReturn(testUser);
-        given(cartRepository.findByUser(testUser)).willReturn(Optional.of(testCart));
-        given(cartItemRepository.findByCart(testCart)).willReturn(Arrays.asList(testCartItem));
+        given(authService.getCurrentUserId()).willReturn(1L);
+        given(cartItemRepository.sumQuantityByUserId(1L)).willReturn(2L);
         
         // when
         Integer count = cartService.getCartItemCount();
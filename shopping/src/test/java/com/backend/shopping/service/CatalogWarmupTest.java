@@ -0,0 +1,159 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import com.backend.shopping.dto.request.ProductSearchRequest;
+import com.backend.shopping.dto.response.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CatalogWarmupTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductPopularityTracker popularityTracker;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private ProductFacetIndex facetIndex;
+
+    @Mock
+    private ProductSuggestIndex suggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(searchIndex.isReady()).willReturn(true);
+        given(facetIndex.isReady()).willReturn(true);
+        given(suggestIndex.isReady()).willReturn(true);
+        given(productService.findProduct(1L)).willReturn(product(1L, "나이키 에어맥스", "신발"));
+        given(productService.findProduct(2L)).willReturn(product(2L, "아디다스 가젤", "신발"));
+        given(productService.findProduct(3L)).willReturn(product(3L, "에코백", "가방"));
+    }
+
+    private CatalogWarmup warmup(boolean enabled, List<Long> productIds, List<String> categories) {
+        return new CatalogWarmup(productService, popularityTracker, searchIndex, facetIndex, suggestIndex,
+                new ObjectMapper().findAndRegisterModules(), enabled, 10, 10, productIds, categories, 2,
+                Duration.ofMinutes(1));
+    }
+
+    private ProductResponse product(Long id, String name, String category) {
+        return ProductResponse.builder().id(id).name(name).category(category).stock(1).build();
+    }
+
+    @Test
+    @DisplayName("예열이 끝나기 전에는 OUT_OF_SERVICE, 끝나면 UP이다")
+    void health_OutOfServiceUntilDone() {
+        // given
+        CatalogWarmup catalogWarmup = warmup(true, List.of(), List.of());
+        given(popularityTracker.getTopProducts(null, 10)).willReturn(List.of(1L, 2L, 3L));
+
+        // when
+        Health before = catalogWarmup.health();
+        catalogWarmup.run();
+        Health after = catalogWarmup.health();
+
+        // then
+        assertThat(before.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(after.getStatus()).isEqualTo(Status.UP);
+        assertThat(after.getDetails())
+                .containsEntry("phase", "done")
+                .containsEntry("products", "3/3")
+                .containsEntry("categories", "2/2")
+                .containsEntry("rounds", "2/2");
+    }
+
+    @Test
+    @DisplayName("설정한 상품과 인기 상품을 읽고, 인기 상품이 많이 속한 카테고리 순으로 목록을 읽는다")
+    void run_PrimesConfiguredAndPopular() {
+        // given
+        CatalogWarmup catalogWarmup = warmup(true, List.of(3L), List.of());
+        given(popularityTracker.getTopProducts(null, 10)).willReturn(List.of(1L, 2L));
+
+        // when
+        catalogWarmup.run();
+
+        // then
+        verify(popularityTracker).refresh();
+        // 예열 1번 + 반복 2번
+        verify(productService, times(3)).findProduct(3L);
+        verify(productService, times(3)).findProduct(1L);
+        verify(productService, times(3)).getProducts(argThat((ProductSearchRequest r) -> "신발".equals(r.getCategory())));
+        verify(productService, times(4)).getFacets(any(ProductSearchRequest.class));
+        verify(productService, times(6)).suggest(anyString(), anyInt());
+        verify(productService, never()).getProduct(any());
+    }
+
+    @Test
+    @DisplayName("판매 이력이 없으면 카테고리 목록으로 예열한다")
+    void run_FallsBackToCategoryList() {
+        // given
+        CatalogWarmup catalogWarmup = warmup(true, List.of(), List.of());
+        given(popularityTracker.getTopProducts(null, 10)).willReturn(List.of());
+        given(productService.getCategories()).willReturn(List.of("가방"));
+
+        // when
+        catalogWarmup.run();
+
+        // then
+        verify(productService, times(3)).getProducts(argThat((ProductSearchRequest r) -> "가방".equals(r.getCategory())));
+        assertThat(catalogWarmup.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("예열 중 오류가 나도 준비 완료로 바뀌고 오류를 알려준다")
+    void run_FailureStillCompletes() {
+        // given
+        CatalogWarmup catalogWarmup = warmup(true, List.of(), List.of());
+        given(popularityTracker.getTopProducts(null, 10)).willThrow(new IllegalStateException("DB 연결 실패"));
+
+        // when
+        catalogWarmup.run();
+
+        // then
+        Health health = catalogWarmup.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("error", "DB 연결 실패");
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 바로 UP이다")
+    void start_Disabled() {
+        // given
+        CatalogWarmup catalogWarmup = warmup(false, List.of(), List.of());
+
+        // when
+        catalogWarmup.start();
+
+        // then
+        assertThat(catalogWarmup.isDone()).isTrue();
+        assertThat(catalogWarmup.health().getStatus()).isEqualTo(Status.UP);
+        verify(popularityTracker, never()).refresh();
+    }
+}
@@ -0,0 +1,134 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import com.backend.shopping.dto.request.ProductBulkUpdateRequest.Operation;
+import com.backend.shopping.dto.response.ProductBulkUpdateResponse;
+import com.backend.shopping.dto.response.ProductBulkUpdateResponse.Status;
+import com.backend.shopping.entity.ProductChangeType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ProductBulkUpdateServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ProductChangeTracker changeTracker;
+
+    private LocalValidatorFactoryBean validator;
+    private ProductBulkUpdateService productBulkUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        productBulkUpdateService = new ProductBulkUpdateService(jdbcTemplate, transactionTemplate, validator,
+                changeTracker, new SimpleMeterRegistry(), 3);
+
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validator.close();
+    }
+
+    @Test
+    @DisplayName("청크마다 배치 UPDATE 하고, 항목별 결과를 요청 순서대로 돌려준다")
+    void update_ReturnsPerOperationResults() {
+        // given
+        List<Operation> operations = List.of(
+                Operation.builder().id(1L).price(new BigDecimal("9900")).build(),
+                Operation.builder().id(2L).stockDelta(-5).build(),
+                Operation.builder().id(3L).stock(10).stockDelta(1).build(),
+                Operation.builder().id(4L).stock(7).build(),
+                Operation.builder().id(99L).price(new BigDecimal("100")).build());
+        // 청크 크기 3 → [1, 2, 4], [99] (3은 검사 실패), 2는 재고 부족, 99는 없음
+        given(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .willReturn(new int[] {1, 0, 1}, new int[] {0});
+        given(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .willReturn(List.of(2L), List.of());
+
+        // when
+        ProductBulkUpdateResponse response = productBulkUpdateService.update(operations);
+
+        // then
+        assertThat(response.getRequestedCount()).isEqualTo(5);
+        assertThat(response.getUpdatedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getResults())
+                .extracting(ProductBulkUpdateResponse.Result::getStatus)
+                .containsExactly(Status.UPDATED, Status.INSUFFICIENT_STOCK, Status.INVALID, Status.UPDATED,
+                        Status.NOT_FOUND);
+
+        ArgumentCaptor<SqlParameterSource[]> batches = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        SqlParameterSource[] first = batches.getAllValues().get(0);
+        assertThat(first).hasSize(3);
+        assertThat(first[0].getValue("stock")).isNull();
+        assertThat(first[1].getValue("stockDelta")).isEqualTo(-5);
+        assertThat(first[2].getValue("stockDelta")).isEqualTo(0);
+
+        // 가격이 바뀐 상품과 재고만 바뀐 상품을 나눠 기록
+        verify(changeTracker).recordBatch(Set.of(1L), ProductChangeType.UPDATED);
+        verify(changeTracker).recordBatch(Set.of(4L), ProductChangeType.STOCK);
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 그 청크 항목은 모두 FAILED")
+    void update_ChunkFailure_MarksChunkFailed() {
+        // given
+        willThrow(new DataAccessResourceFailureException("connection lost"))
+                .given(jdbcTemplate).batchUpdate(anyString(), any(SqlParameterSource[].class));
+
+        // when
+        ProductBulkUpdateResponse response = productBulkUpdateService.update(List.of(
+                Operation.builder().id(1L).stock(3).build(),
+                Operation.builder().id(2L).build()));
+
+        // then
+        assertThat(response.getResults())
+                .extracting(ProductBulkUpdateResponse.Result::getStatus)
+                .containsExactly(Status.FAILED, Status.INVALID);
+        verify(changeTracker, never()).recordBatch(any(), any());
+    }
+}
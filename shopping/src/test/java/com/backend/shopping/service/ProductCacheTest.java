@@ -0,0 +1,150 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.backend.shopping.dto.response.ProductResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductCacheTest {
+
+    private ProductCache productCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        productCache = new ProductCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    private ProductResponse load(Long id) {
+        loads.incrementAndGet();
+        return ProductResponse.builder().id(id).name("상품" + id).build();
+    }
+
+    @Test
+    @DisplayName("같은 상품은 한 번만 조회하고, 무효화하면 다시 조회한다")
+    void getProduct_CachesUntilInvalidated() {
+        // when
+        productCache.getProduct(1L, () -> load(1L));
+        productCache.getProduct(1L, () -> load(1L));
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+
+        // when
+        productCache.invalidate(List.of(1L));
+        productCache.getProduct(1L, () -> load(1L));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌면 목록 캐시도 비워진다")
+    void invalidate_ClearsQueries() {
+        // given
+        productCache.getQuery("categories", () -> {
+            loads.incrementAndGet();
+            return List.of("Electronics");
+        });
+
+        // when
+        productCache.invalidate(List.of(99L));
+        List<String> categories = productCache.getQuery("categories", () -> {
+            loads.incrementAndGet();
+            return List.of("Electronics", "Books");
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(categories).containsExactly("Electronics", "Books");
+    }
+
+    @Test
+    @DisplayName("재고만 바뀌면 그 상품만 비우고 목록 캐시는 그대로 둔다")
+    void invalidateProducts_KeepsQueries() {
+        // given
+        productCache.getProduct(1L, () -> load(1L));
+        productCache.getQuery("categories", () -> {
+            loads.incrementAndGet();
+            return List.of("Electronics");
+        });
+
+        // when
+        productCache.invalidateProducts(List.of(1L));
+        productCache.getProduct(1L, () -> load(1L));
+        List<String> categories = productCache.getQuery("categories", () -> {
+            loads.incrementAndGet();
+            return List.of("Electronics", "Books");
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(categories).containsExactly("Electronics");
+    }
+
+    @Test
+    @DisplayName("여러 건 조회는 캐시에 없는 상품만 한 번에 조회하고, 찾지 못한 상품은 결과에서 빠진다")
+    void getProducts_LoadsOnlyMissing() {
+        // given
+        productCache.getProduct(1L, () -> load(1L));
+        List<List<Long>> requested = new ArrayList<>();
+
+        // when
+        Map<Long, ProductResponse> found = productCache.getProducts(List.of(1L, 2L, 3L), missing -> {
+            requested.add(missing);
+            return missing.stream()
+                    .filter(id -> id != 3L)
+                    .collect(Collectors.toMap(id -> id, this::load));
+        });
+        productCache.getProduct(2L, () -> load(2L));
+
+        // then
+        assertThat(found).containsOnlyKeys(1L, 2L);
+        assertThat(requested).containsExactly(List.of(2L, 3L));
+        // 1L 한 번, 2L 한 번 (여러 건 조회 결과가 캐시됨)
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 건 조회 도중 무효화되면 조회 결과를 캐시하지 않는다")
+    void getProducts_SkipsCachingWhenInvalidated() {
+        // when
+        productCache.getProducts(List.of(1L), missing -> {
+            Map<Long, ProductResponse> loaded = Map.of(1L, load(1L));
+            productCache.invalidate(List.of(1L));
+            return loaded;
+        });
+        productCache.getProduct(1L, () -> load(1L));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 캐시하지 않는다")
+    void getProduct_DoesNotCacheMissing() {
+        // when
+        ProductResponse first = productCache.getProduct(5L, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        productCache.getProduct(5L, () -> load(5L));
+
+        // then
+        assertThat(first).isNull();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
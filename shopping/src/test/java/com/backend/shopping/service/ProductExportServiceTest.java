@@ -0,0 +1,109 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.backend.shopping.entity.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExportServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TypedQuery<Product> query;
+
+    private ProductExportService productExportService;
+
+    private final Product first = Product.builder()
+            .id(1L)
+            .sku("SKU-1")
+            .name("상품, \"특가\"")
+            .price(new BigDecimal("1000.00"))
+            .stock(3)
+            .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+            .build();
+
+    private final Product second = Product.builder()
+            .id(2L)
+            .name("상품2")
+            .description("여러\n줄")
+            .price(new BigDecimal("500"))
+            .stock(0)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        productExportService = new ProductExportService(entityManager, transactionManager,
+                new ObjectMapper().findAndRegisterModules(), 100);
+        given(transactionManager.getTransaction(any())).willReturn(mock(TransactionStatus.class));
+        given(entityManager.createQuery(anyString(), eq(Product.class))).willReturn(query);
+        given(query.setHint(anyString(), any())).willReturn(query);
+        given(query.getResultStream()).willReturn(Stream.of(first, second));
+    }
+
+    @Test
+    @DisplayName("NDJSON: 상품마다 한 줄씩 쓰고, 쓴 상품은 영속성 컨텍스트에서 떼어낸다")
+    void exportNdjson_WritesOneLinePerProduct() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = productExportService.export(ProductExportService.Format.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"sku\":\"SKU-1\"");
+        assertThat(lines[1]).contains("\"description\":\"여러\\n줄\"");
+        verify(query).setHint(HibernateHints.HINT_FETCH_SIZE, 100);
+        verify(entityManager, times(2)).detach(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 다음에 상품 행을 쓰고, 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싼다")
+    void exportCsv_QuotesSpecialCharacters() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        productExportService.export(ProductExportService.Format.CSV, out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,sku,name,description,price,stock,category,imageUrl,createdAt,updatedAt\n"
+                + "1,SKU-1,\"상품, \"\"특가\"\"\",,1000.00,3,,,2025-01-01T00:00,\n"
+                + "2,,상품2,\"여러\n줄\",500,0,,,,\n");
+    }
+}
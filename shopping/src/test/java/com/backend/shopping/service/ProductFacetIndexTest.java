@@ -0,0 +1,177 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.backend.shopping.dto.request.ProductSearchRequest;
+import com.backend.shopping.dto.response.ProductFacetResponse;
+import com.backend.shopping.dto.response.ProductFacetResponse.CategoryCount;
+import com.backend.shopping.dto.response.ProductFacetResponse.PriceRangeCount;
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.repository.ProductRepository;
+
+class ProductFacetIndexTest {
+
+    private ProductRepository productRepository;
+    private ProductFacetIndex facetIndex;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        given(productRepository.findSummaries(any(Specification.class), any(Sort.class), anyInt())).willReturn(List.of(
+                product(1L, "갤럭시 스마트폰", "전자제품", "900000", 3),
+                product(2L, "스마트폰 케이스", "액세서리", "15000", 0),
+                product(3L, "무선 이어폰", "전자제품", "45000", 10),
+                product(4L, "충전기", "액세서리", "9000", 5)));
+        facetIndex = new ProductFacetIndex(productRepository,
+                List.of(new BigDecimal("50000"), new BigDecimal("10000")));
+    }
+
+    private ProductSummaryResponse product(Long id, String name, String category, String price, int stock) {
+        return ProductSummaryResponse.builder()
+                .id(id)
+                .name(name)
+                .category(category)
+                .price(new BigDecimal(price))
+                .stock(stock)
+                .createdAt(LocalDateTime.of(2025, 1, id.intValue(), 0, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("색인이 만들어지기 전에는 empty를 반환한다")
+    void count_NotReady() {
+        assertThat(facetIndex.count(new ProductSearchRequest(), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 전체 상품으로 카테고리/가격대/재고 개수를 센다")
+    void count_NoFilters() {
+        // given
+        facetIndex.rebuild();
+
+        // when
+        ProductFacetResponse facets = facetIndex.count(new ProductSearchRequest(), null).orElseThrow();
+
+        // then
+        assertThat(facets.getTotal()).isEqualTo(4);
+        assertThat(facets.getCategories()).extracting(CategoryCount::getCategory, CategoryCount::getCount)
+                .containsExactly(tuple("액세서리", 2L),
+                        tuple("전자제품", 2L));
+        // 경계는 정렬되어 [0, 10000), [10000, 50000), [50000, ∞)
+        assertThat(facets.getPriceRanges()).extracting(PriceRangeCount::getMaxPrice)
+                .containsExactly(new BigDecimal("10000"), new BigDecimal("50000"), null);
+        assertThat(facets.getPriceRanges()).extracting(PriceRangeCount::getCount).containsExactly(1L, 2L, 1L);
+        assertThat(facets.getInStockCount()).isEqualTo(3);
+        assertThat(facets.getOutOfStockCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("각 필터의 개수는 그 필터만 뺀 나머지 조건으로 센다")
+    void count_ExcludesOwnFilter() {
+        // given
+        facetIndex.rebuild();
+        ProductSearchRequest request = new ProductSearchRequest();
+        request.setCategory("전자제품");
+        request.setInStock(true);
+        request.setName("폰");
+
+        // when (상품명 조건은 검색 색인에서 찾은 상품)
+        ProductFacetResponse facets = facetIndex.count(request, Set.of(1L, 2L, 3L)).orElseThrow();
+
+        // then
+        assertThat(facets.getTotal()).isEqualTo(2);
+        // 카테고리 개수: 상품명 '폰' + 재고 있음 → 전자제품 2 (케이스는 재고 없음)
+        assertThat(facets.getCategories()).extracting(CategoryCount::getCategory).containsExactly("전자제품");
+        // 재고 개수: 상품명 '폰' + 전자제품 → 둘 다 재고 있음
+        assertThat(facets.getInStockCount()).isEqualTo(2);
+        assertThat(facets.getOutOfStockCount()).isZero();
+        assertThat(facets.getPriceRanges()).extracting(PriceRangeCount::getCount).containsExactly(0L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("상품명 외 조건으로 상품을 거르면 같은 조건의 필터별 개수와 일치한다")
+    void retainMatching_MatchesFacetTotal() {
+        // given
+        facetIndex.rebuild();
+        ProductSearchRequest request = new ProductSearchRequest();
+        request.setName("폰");
+        request.setCategory("전자제품");
+        request.setMaxPrice(new BigDecimal("100000"));
+        Set<Long> nameMatches = Set.of(1L, 2L, 3L);
+
+        // when
+        Set<Long> retained = facetIndex.retainMatching(nameMatches, request);
+
+        // then
+        assertThat(retained).containsExactly(3L);
+        assertThat(facetIndex.count(request, nameMatches).orElseThrow().getTotal()).isEqualTo(retained.size());
+    }
+
+    @Test
+    @DisplayName("변경된 상품만 다시 반영하고, 삭제된 상품은 빠진다")
+    void refresh_UpdatesChangedProducts() {
+        // given
+        facetIndex.rebuild();
+        given(productRepository.findSummariesByIds(anyCollection())).willReturn(List.of(
+                product(2L, "스마트폰 케이스", "액세서리", "15000", 7)));
+
+        // when
+        facetIndex.refresh(List.of(2L, 4L));
+
+        // then
+        ProductFacetResponse facets = facetIndex.count(new ProductSearchRequest(), null).orElseThrow();
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getInStockCount()).isEqualTo(3);
+        assertThat(facets.getCategories()).extracting(CategoryCount::getCount).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("동시에 반영하면 나중에 읽은 상태가 마지막에 적용된다")
+    void refresh_ConcurrentAppliesLatest() throws Exception {
+        // given: 첫 반영은 재고 0인 옛 상태를 읽은 채로 멈춰 있음
+        facetIndex.rebuild();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(productRepository.findSummariesByIds(anyCollection()))
+                .willAnswer(invocation -> {
+                    reading.countDown();
+                    release.await(1, TimeUnit.SECONDS);
+                    return List.of(product(2L, "스마트폰 케이스", "액세서리", "15000", 0));
+                })
+                .willReturn(List.of(product(2L, "스마트폰 케이스", "액세서리", "15000", 7)));
+        Thread stale = new Thread(() -> facetIndex.refresh(List.of(2L)));
+        stale.start();
+        reading.await(1, TimeUnit.SECONDS);
+
+        // when
+        Thread latest = new Thread(() -> facetIndex.refresh(List.of(2L)));
+        latest.start();
+        Thread.sleep(100);
+        release.countDown();
+        stale.join();
+        latest.join();
+
+        // then
+        assertThat(facetIndex.count(new ProductSearchRequest(), null).orElseThrow().getInStockCount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,219 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import com.backend.shopping.dto.response.ProductImportResponse;
+import com.backend.shopping.entity.ProductChangeType;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductImportServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ProductChangeTracker changeTracker;
+
+    private LocalValidatorFactoryBean validator;
+    private ProductImportService productImportService;
+
+    // SKU → ID (이미 등록된 상품)
+    private final Map<String, Long> stored = new ConcurrentHashMap<>(Map.of("EXIST-1", 100L));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        productImportService = new ProductImportService(jdbcTemplate, transactionTemplate, new ObjectMapper(),
+                validator, changeTracker, new SimpleMeterRegistry(), 2, 1);
+
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        // SKU 조회는 저장된 상품만 돌려줌
+        given(jdbcTemplate.query(startsWith("SELECT id, sku"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .willAnswer(invocation -> {
+                    SqlParameterSource params = invocation.getArgument(1);
+                    List<Map.Entry<String, Long>> rows = new ArrayList<>();
+                    for (String sku : (Collection<String>) params.getValue("skus")) {
+                        if (stored.containsKey(sku)) {
+                            rows.add(Map.entry(sku, stored.get(sku)));
+                        }
+                    }
+                    return rows;
+                });
+        // INSERT하면 ID를 붙여 저장된 것으로 간주
+        given(jdbcTemplate.batchUpdate(startsWith("INSERT"), any(SqlParameterSource[].class)))
+                .willAnswer(invocation -> {
+                    SqlParameterSource[] batch = invocation.getArgument(1);
+                    for (SqlParameterSource row : batch) {
+                        stored.put((String) row.getValue("sku"), 200L + stored.size());
+                    }
+                    return new int[batch.length];
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        productImportService.shutdown();
+        validator.close();
+    }
+
+    private ByteArrayInputStream body(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("NDJSON: 새 SKU는 배치 INSERT, 기존 SKU는 배치 UPDATE, 잘못된 줄은 줄 번호와 함께 보고된다")
+    void importNdjson_UpsertsBySku() throws Exception {
+        // when
+        ProductImportResponse response = productImportService.importProducts(body(
+                "{\"sku\":\"NEW-1\",\"name\":\"상품1\",\"price\":1000,\"stock\":5}",
+                "{\"sku\":\"EXIST-1\",\"name\":\"상품2\",\"price\":2000,\"stock\":3,\"category\":\"도서\"}",
+                "not-json",
+                "{\"sku\":\"NEW-1\",\"name\":\"중복\",\"price\":1000,\"stock\":5}",
+                "",
+                "{\"sku\":\"NEW-2\",\"name\":\"상품3\",\"price\":0,\"stock\":1}",
+                "{\"sku\":\"NEW-3\",\"name\":\"상품4\",\"price\":500,\"stock\":0}"), "application/x-ndjson");
+
+        // then
+        assertThat(response.isRunning()).isFalse();
+        assertThat(response.getTotalRecords()).isEqualTo(6);
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getErrors())
+                .extracting(ProductImportResponse.RecordError::getLine)
+                .containsExactly(3, 4, 6);
+
+        // 청크 크기 2 → [NEW-1, EXIST-1], [NEW-3]
+        ArgumentCaptor<SqlParameterSource[]> updates = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT"), any(SqlParameterSource[].class));
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE"), updates.capture());
+        assertThat(updates.getValue()).hasSize(1);
+        assertThat(updates.getValue()[0].getValue("id")).isEqualTo(100L);
+        assertThat(updates.getValue()[0].getValue("category")).isEqualTo("도서");
+        verify(changeTracker).recordBatch(List.of(100L), ProductChangeType.UPDATED);
+        verify(changeTracker, times(2)).recordBatch(anyCollection(), eq(ProductChangeType.CREATED));
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 이름으로 열을 찾고, 따옴표 안 쉼표와 숫자 형식 오류를 처리한다")
+    void importCsv_MapsColumnsByHeader() throws Exception {
+        // when
+        ProductImportResponse response = productImportService.importProducts(body(
+                "\uFEFFSKU,price,Name,stock,image_url",
+                "NEW-1,1500.50,\"상품, 설명 포함\",10,http://img/1.png",
+                "NEW-2,abc,상품2,1,",
+                "NEW-3,100,상품3",
+                "EXIST-1,900,상품4,7,"), "text/csv; charset=UTF-8");
+
+        // then
+        assertThat(response.getTotalRecords()).isEqualTo(4);
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(response.getErrors())
+                .extracting(ProductImportResponse.RecordError::getSku)
+                .containsExactly("NEW-2", "NEW-3");
+
+        ArgumentCaptor<SqlParameterSource[]> inserts = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), inserts.capture());
+        assertThat(inserts.getValue()[0].getValue("name")).isEqualTo("상품, 설명 포함");
+        assertThat(inserts.getValue()[0].getValue("price")).isEqualTo(new BigDecimal("1500.50"));
+        assertThat(inserts.getValue()[0].getValue("imageUrl")).isEqualTo("http://img/1.png");
+    }
+
+    @Test
+    @DisplayName("NDJSON: null 줄은 해당 줄만 실패하고 나머지는 등록한다")
+    void importNdjson_NullLine_ReportedAsRowError() throws Exception {
+        // when
+        ProductImportResponse response = productImportService.importProducts(body(
+                "null",
+                "{\"sku\":\"NEW-1\",\"name\":\"상품1\",\"price\":1000,\"stock\":5}"), "application/x-ndjson");
+
+        // then
+        assertThat(response.getTotalRecords()).isEqualTo(2);
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getErrors())
+                .extracting(ProductImportResponse.RecordError::getLine)
+                .containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("CSV: 따옴표가 닫히지 않은 행은 실패로 보고하고 앞의 행은 등록한다")
+    void importCsv_UnclosedQuote_ReportedAsRowError() throws Exception {
+        // when
+        ProductImportResponse response = productImportService.importProducts(body(
+                "sku,name,price,stock",
+                "NEW-1,상품1,1000,5",
+                "NEW-2,\"상품2,1000,5",
+                "NEW-3,상품3,1000,5"), "text/csv");
+
+        // then
+        assertThat(response.getTotalRecords()).isEqualTo(2);
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getErrors())
+                .extracting(ProductImportResponse.RecordError::getLine)
+                .containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 필수 열이 없으면 저장 없이 실패한다")
+    void importCsv_MissingColumns_Fails() {
+        assertThatThrownBy(() -> productImportService.importProducts(body("sku,name", "A,상품"), "text/csv"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_IMPORT_HEADER);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+}
@@ -0,0 +1,82 @@
+package com.backend.shopping.service;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ProductIndexRefresherTest {
+
+    private ProductSearchIndex searchIndex;
+    private ProductFacetIndex facetIndex;
+    private ProductSuggestIndex suggestIndex;
+    private ProductIndexRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = mock(ProductSearchIndex.class);
+        facetIndex = mock(ProductFacetIndex.class);
+        suggestIndex = mock(ProductSuggestIndex.class);
+        refresher = new ProductIndexRefresher(searchIndex, facetIndex, suggestIndex,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.shutdown();
+    }
+
+    @Test
+    @DisplayName("재고 변경은 필터 색인에만, 그 외 변경은 모든 색인에 반영한다")
+    void refresh_ByChangeKind() {
+        // when
+        refresher.refreshFacets(List.of(1L));
+
+        // then
+        verify(facetIndex, timeout(1000)).refresh(List.of(1L));
+        verify(searchIndex, never()).refresh(anyCollection());
+
+        // when
+        refresher.refresh(List.of(2L));
+
+        // then
+        verify(facetIndex, timeout(1000)).refresh(List.of(2L));
+        verify(searchIndex, timeout(1000)).refresh(List.of(2L));
+        verify(suggestIndex, timeout(1000)).refresh(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("반영 중에 쌓인 ID는 모아서 다음 한 번에 반영한다")
+    void refresh_CoalescesWhileBusy() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).given(facetIndex).refresh(List.of(1L));
+        refresher.refreshFacets(List.of(1L));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        refresher.refreshFacets(List.of(2L));
+        refresher.refreshFacets(List.of(3L, 2L));
+        release.countDown();
+
+        // then
+        verify(facetIndex, timeout(1000)).refresh(List.of(2L, 3L));
+    }
+}
@@ -0,0 +1,121 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.shopping.entity.ProductSalesBucket;
+import com.backend.shopping.repository.ProductSalesBucketRepository;
+import com.backend.shopping.repository.ProductSalesBucketRepository.SalesSum;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductPopularityTrackerTest {
+
+    private ProductSalesBucketRepository bucketRepository;
+    private ProductPopularityTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        bucketRepository = mock(ProductSalesBucketRepository.class);
+        tracker = new ProductPopularityTracker(bucketRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(),
+                Duration.ofHours(1), Duration.ofDays(7), Duration.ofDays(1), 100);
+    }
+
+    private SalesSum sum(Long productId, String category, LocalDateTime bucketStart, long quantity) {
+        return new SalesSum() {
+            public Long getProductId() { return productId; }
+            public String getCategory() { return category; }
+            public LocalDateTime getBucketStart() { return bucketStart; }
+            public Long getQuantity() { return quantity; }
+        };
+    }
+
+    @Test
+    @DisplayName("판매/취소 수량을 합쳐 한 번에 저장하고, 행이 없으면 새로 만든다")
+    void flush_AddsNetQuantity() {
+        // given
+        given(bucketRepository.addQuantity(eq(1L), any(), anyString(), anyLong())).willReturn(0);
+        given(bucketRepository.addQuantity(eq(2L), any(), anyString(), anyLong())).willReturn(1);
+        tracker.recordSales(Map.of(1L, 3, 2L, 1));
+        tracker.recordSales(Map.of(1L, 2));
+        tracker.recordCancellation(Map.of(2L, 1, 3L, 0));
+
+        // when
+        tracker.flush();
+
+        // then
+        ArgumentCaptor<ProductSalesBucket> saved = ArgumentCaptor.forClass(ProductSalesBucket.class);
+        verify(bucketRepository).addQuantity(eq(1L), any(), anyString(), eq(5L));
+        verify(bucketRepository, never()).addQuantity(eq(2L), any(), anyString(), anyLong());
+        verify(bucketRepository).save(saved.capture());
+        assertThat(saved.getValue().getProductId()).isEqualTo(1L);
+        assertThat(saved.getValue().getQuantity()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("오래된 판매는 가중치가 줄어 최근 판매가 더 높은 순위가 된다")
+    void recompute_DecaysOldSales() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 3, 10, 12, 0);
+        given(bucketRepository.sumByProductAndBucket(now.minusDays(7))).willReturn(List.of(
+                sum(1L, "전자제품", now.minusHours(1), 10),
+                sum(2L, "도서", now.minusDays(3), 30),
+                sum(3L, "전자제품", now.minusHours(2), 5),
+                sum(4L, "도서", now.minusHours(1), 0)));
+
+        // when
+        tracker.recompute(now);
+
+        // then
+        assertThat(tracker.getTopProducts(null, 10)).containsExactly(1L, 3L, 2L);
+        assertThat(tracker.getTopProducts(null, 2)).containsExactly(1L, 3L);
+        assertThat(tracker.getTopProducts("전자제품", 10)).containsExactly(1L, 3L);
+        assertThat(tracker.getTopProducts("도서", 10)).containsExactly(2L);
+        assertThat(tracker.getTopProducts("의류", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("판매량이 그대로면 다시 계산해도 순위 점수가 바뀌지 않는다")
+    void recompute_RankScoresStable() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 3, 10, 12, 0);
+        LocalDateTime later = now.plusMinutes(10);
+        List<SalesSum> sums = List.of(
+                sum(1L, "전자제품", LocalDateTime.of(2025, 3, 10, 10, 0), 10),
+                sum(2L, "도서", LocalDateTime.of(2025, 3, 7, 12, 0), 30),
+                sum(3L, "도서", LocalDateTime.of(2025, 3, 10, 11, 0), -2));
+        given(bucketRepository.sumByProductAndBucket(now.minusDays(7))).willReturn(sums);
+        given(bucketRepository.sumByProductAndBucket(later.minusDays(7))).willReturn(sums);
+
+        // when
+        tracker.recompute(now);
+        Map<Long, Double> before = tracker.getRankScores();
+        tracker.recompute(later);
+        Map<Long, Double> after = tracker.getRankScores();
+
+        // then
+        assertThat(after).isEqualTo(before).containsOnlyKeys(1L, 2L);
+        assertThat(after.get(1L)).isGreaterThan(after.get(2L));
+    }
+}
@@ -0,0 +1,64 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPurgeJobTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductPurgeJob productPurgeJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productPurgeJob = new ProductPurgeJob(jdbcTemplate, meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차는 동안 반복해서 지우고, 덜 찬 청크에서 멈춘다")
+    void purge_DeletesInChunks() {
+        // given
+        given(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).willReturn(100, 100, 37);
+
+        // when
+        long purged = productPurgeJob.purge();
+
+        // then
+        assertThat(purged).isEqualTo(237);
+        verify(jdbcTemplate, times(3)).update(anyString(), any(SqlParameterSource.class));
+        assertThat(meterRegistry.get("product.purge.cart-items").counter().count()).isEqualTo(237);
+    }
+
+    @Test
+    @DisplayName("지울 항목이 없으면 한 번만 조회한다")
+    void purge_NothingToDelete() {
+        // given
+        given(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).willReturn(0);
+
+        // when
+        long purged = productPurgeJob.purge();
+
+        // then
+        assertThat(purged).isZero();
+        verify(jdbcTemplate, times(1)).update(anyString(), any(SqlParameterSource.class));
+    }
+}
@@ -0,0 +1,169 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import com.backend.shopping.entity.Product;
+import com.backend.shopping.repository.ProductRepository;
+
+class ProductSearchIndexTest {
+
+    private ProductRepository productRepository;
+    private ProductSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        given(productRepository.findAll(any(Pageable.class))).willReturn(new PageImpl<>(List.of(
+                product(1L, "갤럭시 스마트폰", "전자제품", "삼성 최신 스마트폰"),
+                product(2L, "스마트폰 케이스", "액세서리", "갤럭시 전용 케이스"),
+                product(3L, "무선 이어폰", "전자제품", "노이즈 캔슬링 이어폰"),
+                product(4L, "Wireless Mouse", "Electronics", "Bluetooth mouse"))));
+        searchIndex = new ProductSearchIndex(productRepository);
+    }
+
+    private Product product(Long id, String name, String category, String description) {
+        return Product.builder().id(id).name(name).category(category).description(description).build();
+    }
+
+    @Test
+    @DisplayName("색인이 만들어지기 전에는 empty를 반환해 DB 검색으로 대체한다")
+    void search_NotReady() {
+        assertThat(searchIndex.search("폰", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부분 문자열로 검색하고 상품명 일치를 더 높게 평가한다")
+    void search_SubstringRankedByRelevance() {
+        // given
+        searchIndex.rebuild();
+
+        // when
+        ProductSearchIndex.SearchResult result = searchIndex.search("마트폰", 0, 10).orElseThrow();
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getProductIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(searchIndex.search("갤럭시 케이스", 0, 10).orElseThrow().getProductIds()).containsExactly(2L);
+        assertThat(searchIndex.search("MOUSE", 0, 10).orElseThrow().getProductIds()).containsExactly(4L);
+        assertThat(searchIndex.search("이어", 0, 10).orElseThrow().getProductIds()).containsExactly(3L);
+        assertThat(searchIndex.search("없는상품", 0, 10).orElseThrow().getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("페이지 크기만큼만 반환하고 전체 건수를 함께 반환한다")
+    void search_Paged() {
+        // given
+        searchIndex.rebuild();
+
+        // when
+        ProductSearchIndex.SearchResult first = searchIndex.search("폰", 0, 1).orElseThrow();
+        ProductSearchIndex.SearchResult second = searchIndex.search("폰", 1, 2).orElseThrow();
+
+        // then
+        assertThat(first.getTotal()).isEqualTo(3);
+        assertThat(first.getProductIds()).hasSize(1);
+        assertThat(second.getProductIds()).hasSize(1).doesNotContainAnyElementsOf(first.getProductIds());
+    }
+
+    @Test
+    @DisplayName("다른 조건으로 거른 뒤에 페이지를 나누고 전체 건수를 센다")
+    void search_Filtered() {
+        // given
+        searchIndex.rebuild();
+
+        // when
+        ProductSearchIndex.SearchResult result = searchIndex.search("폰", 0, 10,
+                ids -> ids.stream().filter(id -> id != 2L).collect(Collectors.toSet())).orElseThrow();
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getProductIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(searchIndex.matchingIds("폰")).contains(Set.of(1L, 2L, 3L));
+        assertThat(searchIndex.matchingIds("갤럭시 케이스")).contains(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("커서 이후의 상품을 관련도 순으로 이어서 조회한다")
+    void searchAfter_ContinuesFromCursor() {
+        // given
+        searchIndex.rebuild();
+        List<ProductSearchIndex.ScoredId> all = searchIndex.searchAfter("폰", null, 10, ids -> ids).orElseThrow();
+
+        // when
+        List<ProductSearchIndex.ScoredId> first = searchIndex.searchAfter("폰", null, 2, ids -> ids).orElseThrow();
+        List<ProductSearchIndex.ScoredId> rest = searchIndex.searchAfter("폰", first.get(1), 2, ids -> ids).orElseThrow();
+        List<ProductSearchIndex.ScoredId> filtered = searchIndex.searchAfter("폰", null, 10, ids -> Set.of(3L)).orElseThrow();
+
+        // then
+        assertThat(all).extracting(ProductSearchIndex.ScoredId::getId)
+                .containsExactlyElementsOf(searchIndex.search("폰", 0, 10).orElseThrow().getProductIds());
+        assertThat(first).extracting(ProductSearchIndex.ScoredId::getId)
+                .containsExactly(all.get(0).getId(), all.get(1).getId());
+        assertThat(rest).extracting(ProductSearchIndex.ScoredId::getId).containsExactly(all.get(2).getId());
+        assertThat(filtered).extracting(ProductSearchIndex.ScoredId::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("변경된 상품만 다시 색인하고 삭제된 상품은 제거한다")
+    void refresh_UpdatesAndRemoves() {
+        // given
+        searchIndex.rebuild();
+        given(productRepository.findAllById(anyCollection()))
+                .willReturn(List.of(product(3L, "블루투스 헤드폰", "전자제품", "")));
+
+        // when
+        searchIndex.refresh(List.of(3L, 4L));
+
+        // then
+        assertThat(searchIndex.search("이어폰", 0, 10).orElseThrow().getTotal()).isZero();
+        assertThat(searchIndex.search("헤드", 0, 10).orElseThrow().getProductIds()).containsExactly(3L);
+        assertThat(searchIndex.search("mouse", 0, 10).orElseThrow().getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 반영하면 나중에 읽은 상태가 마지막에 적용된다")
+    void refresh_ConcurrentAppliesLatest() throws Exception {
+        // given: 첫 반영은 옛 상태를 읽은 채로 멈춰 있음
+        searchIndex.rebuild();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(productRepository.findAllById(anyCollection()))
+                .willAnswer(invocation -> {
+                    reading.countDown();
+                    release.await(1, TimeUnit.SECONDS);
+                    return List.of(product(3L, "무선 이어폰", "전자제품", ""));
+                })
+                .willReturn(List.of(product(3L, "블루투스 헤드폰", "전자제품", "")));
+        Thread stale = new Thread(() -> searchIndex.refresh(List.of(3L)));
+        stale.start();
+        reading.await(1, TimeUnit.SECONDS);
+
+        // when
+        Thread latest = new Thread(() -> searchIndex.refresh(List.of(3L)));
+        latest.start();
+        Thread.sleep(100);
+        release.countDown();
+        stale.join();
+        latest.join();
+
+        // then
+        assertThat(searchIndex.search("헤드", 0, 10).orElseThrow().getProductIds()).containsExactly(3L);
+        assertThat(searchIndex.search("이어폰", 0, 10).orElseThrow().getTotal()).isZero();
+    }
+}
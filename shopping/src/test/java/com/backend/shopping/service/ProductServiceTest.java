@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -19,17 +20,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import com.backend.shopping.dto.request.ProductRequest;
 import com.backend.shopping.dto.request.ProductSearchRequest;
 import com.backend.shopping.dto.response.ProductResponse;
+import com.backend.shopping.dto.response.ProductSummaryResponse;
 import com.backend.shopping.entity.Product;
 import com.backend.shopping.repository.ProductRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 //서비스단위테스트
 @ExtendWith(MockitoExtension.class)
 @Disabled("임시 비활성화 중")
@@ -38,6 +44,28 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
     
+    @Mock
+    private ProductChangeTracker productChangeTracker;
+    
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+    
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+    
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+    
+    @Mock
+    private ProductPopularityTracker popularityTracker;
+    
+    @Mock
+    private ProductViewTracker productViewTracker;
+    
+    @Spy
+    private ProductCache productCache = new ProductCache(new SimpleMeterRegistry(),
+            100, Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+    
     @InjectMocks
     private ProductService productService;
     
@@ -88,7 +116,7 @@ class ProductServiceTest {
     @DisplayName("상품 조회 성공")
     void getProduct_Success() {
         // given
-        given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(productRepository.findActiveById(1L)).willReturn(Optional.of(testProduct));
         
         // when
         ProductResponse response = productService.getProduct(1L);
@@ -103,7 +131,7 @@ class ProductServiceTest {
     @DisplayName("존재하지 않는 상품 조회 시 예외 발생")
     void getProduct_NotFound() {
         // given
-        given(productRepository.findById(999L)).willReturn(Optional.empty());
+        given(productRepository.findActiveById(999L)).willReturn(Optional.empty());
         
         // when & then
         assertThatThrownBy(() -> productService.getProduct(999L))
@@ -115,14 +143,20 @@ class ProductServiceTest {
     @DisplayName("상품 목록 조회 성공")
     void getProducts_Success() {
         // given
-        List<Product> products = Arrays.asList(testProduct);
-        Page<Product> productPage = new PageImpl<>(products);
+        List<ProductSummaryResponse> products = Arrays.asList(ProductSummaryResponse.builder()
+                .id(1L)
+                .name("테스트 상품")
+                .price(new BigDecimal("10000"))
+                .stock(100)
+                .category("Electronics")
+                .build());
+        Page<ProductSummaryResponse> productPage = new PageImpl<>(products);
         
-        given(productRepository.findAll(any(Pageable.class))).willReturn(productPage);
+        given(productRepository.findSummaries(any(Specification.class), any(Pageable.class))).willReturn(productPage);
         
         // when
         ProductSearchRequest searchRequest = new ProductSearchRequest();
-        Page<ProductResponse> response = productService.getProducts(searchRequest);
+        Page<ProductSummaryResponse> response = productService.getProducts(searchRequest);
         
         // then
         assertThat(response).isNotNull();
@@ -134,7 +168,7 @@ class ProductServiceTest {
     @DisplayName("재고 확인 - 충분한 재고")
     void isInStock_Sufficient() {
         // given
-        given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(productRepository.findActiveById(1L)).willReturn(Optional.of(testProduct));
         
         // when
         boolean result = productService.isInStock(1L, 50);
@@ -147,7 +181,7 @@ class ProductServiceTest {
     @DisplayName("재고 확인 - 부족한 재고")
     void isInStock_Insufficient() {
         // given
-        given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(productRepository.findActiveById(1L)).willReturn(Optional.of(testProduct));
         
         // when
         boolean result = productService.isInStock(1L, 150);
@@ -160,7 +194,7 @@ class ProductServiceTest {
     @DisplayName("재고 차감 성공")
     void reduceStock_Success() {
         // given
-        given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(productRepository.findActiveById(1L)).willReturn(Optional.of(testProduct));
         given(productRepository.save(any(Product.class))).willReturn(testProduct);
         
         // when
@@ -174,7 +208,7 @@ class ProductServiceTest {
     @DisplayName("재고 차감 실패 - 부족한 재고")
     void reduceStock_InsufficientStock() {
         // given
-        given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(productRepository.findActiveById(1L)).willReturn(Optional.of(testProduct));
         
         // when & then
         assertThatThrownBy(() -> productService.reduceStock(1L, 150))
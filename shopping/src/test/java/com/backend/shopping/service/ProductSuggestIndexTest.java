@@ -0,0 +1,192 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.backend.shopping.dto.response.ProductSuggestResponse;
+import com.backend.shopping.dto.response.ProductSuggestResponse.ProductSuggestion;
+import com.backend.shopping.dto.response.ProductSummaryResponse;
+import com.backend.shopping.repository.ProductRepository;
+
+class ProductSuggestIndexTest {
+
+    private ProductRepository productRepository;
+    private ProductPopularityTracker popularityTracker;
+    private ProductSuggestIndex suggestIndex;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        popularityTracker = mock(ProductPopularityTracker.class);
+        given(productRepository.findSummaries(any(Specification.class), any(Sort.class), anyInt())).willReturn(List.of(
+                product(1L, "나이키 에어맥스", "신발"),
+                product(2L, "나이키 조던", "신발"),
+                product(3L, "뉴발란스 운동화", "신발"),
+                product(4L, "노트북 가방", "가방")));
+        given(popularityTracker.getRankScores()).willReturn(Map.of(2L, 5.0, 1L, 1.0));
+        // 노드마다 상위 3개만 유지
+        suggestIndex = new ProductSuggestIndex(productRepository, popularityTracker, 3);
+    }
+
+    private ProductSummaryResponse product(Long id, String name, String category) {
+        return ProductSummaryResponse.builder()
+                .id(id)
+                .name(name)
+                .category(category)
+                .price(new BigDecimal("10000"))
+                .stock(1)
+                .build();
+    }
+
+    private List<Long> productIds(ProductSuggestResponse response) {
+        return response.getProducts().stream().map(ProductSuggestion::getId).toList();
+    }
+
+    @Test
+    @DisplayName("색인이 만들어지기 전에는 빈 결과를 반환한다")
+    void suggest_NotReady() {
+        ProductSuggestResponse response = suggestIndex.suggest("나이키", 10);
+
+        assertThat(response.getProducts()).isEmpty();
+        assertThat(response.getCategories()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성이 일치하는 상품을 인기순으로 찾는다")
+    void suggest_Chosung() {
+        // given
+        suggestIndex.rebuild();
+
+        // when
+        ProductSuggestResponse response = suggestIndex.suggest("ㄴㅇㅋ", 10);
+
+        // then
+        assertThat(productIds(response)).containsExactly(2L, 1L);
+        assertThat(response.getProducts()).extracting(ProductSuggestion::getName)
+                .containsExactly("나이키 조던", "나이키 에어맥스");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(받침이 다음 글자 초성)도 접두어로 찾는다")
+    void suggest_PartialSyllable() {
+        // given
+        suggestIndex.rebuild();
+
+        // when & then
+        assertThat(productIds(suggestIndex.suggest("나잌", 10))).containsExactly(2L, 1L);
+        assertThat(productIds(suggestIndex.suggest("나이키 ㅈ", 10))).containsExactly(2L);
+        assertThat(productIds(suggestIndex.suggest("나이카", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 중간 단어와 카테고리로도 찾는다")
+    void suggest_WordAndCategory() {
+        // given
+        suggestIndex.rebuild();
+
+        // when
+        ProductSuggestResponse airMax = suggestIndex.suggest("에어", 10);
+        ProductSuggestResponse bag = suggestIndex.suggest("가", 10);
+
+        // then
+        assertThat(productIds(airMax)).containsExactly(1L);
+        assertThat(bag.getCategories()).containsExactly("가방");
+        assertThat(productIds(bag)).containsExactly(4L);
+        assertThat(suggestIndex.suggest("ㅅ", 10).getCategories()).containsExactly("신발");
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌거나 삭제되면 해당 상품만 다시 반영한다")
+    void refresh_UpdatesAndRemoves() {
+        // given
+        suggestIndex.rebuild();
+        given(productRepository.findSummariesByIds(anyCollection()))
+                .willReturn(List.of(product(1L, "아디다스 슈퍼스타", "신발")));
+
+        // when
+        suggestIndex.refresh(List.of(1L, 2L));
+
+        // then
+        assertThat(productIds(suggestIndex.suggest("나이키", 10))).isEmpty();
+        assertThat(productIds(suggestIndex.suggest("ㅇㄷㄷㅅ", 10))).containsExactly(1L);
+        assertThat(productIds(suggestIndex.suggest("슈퍼", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("상위 목록에 있던 상품이 빠지면 나머지 상품으로 다시 채운다")
+    void refresh_RefillsTopList() {
+        // given: "ㄴ"으로 시작하는 상품 4개 중 상위 3개 (2, 1, 4)
+        suggestIndex.rebuild();
+        assertThat(productIds(suggestIndex.suggest("ㄴ", 10))).containsExactly(2L, 1L, 4L);
+        given(productRepository.findSummariesByIds(anyCollection())).willReturn(List.of());
+
+        // when
+        suggestIndex.refresh(List.of(2L));
+
+        // then
+        assertThat(productIds(suggestIndex.suggest("ㄴ", 10))).containsExactly(1L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("동시에 반영하면 나중에 읽은 상태가 마지막에 적용된다")
+    void refresh_ConcurrentAppliesLatest() throws Exception {
+        // given: 첫 반영은 옛 이름을 읽은 채로 멈춰 있음
+        suggestIndex.rebuild();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(productRepository.findSummariesByIds(anyCollection()))
+                .willAnswer(invocation -> {
+                    reading.countDown();
+                    release.await(1, TimeUnit.SECONDS);
+                    return List.of(product(4L, "노트북 가방", "가방"));
+                })
+                .willReturn(List.of(product(4L, "백팩", "가방")));
+        Thread stale = new Thread(() -> suggestIndex.refresh(List.of(4L)));
+        stale.start();
+        reading.await(1, TimeUnit.SECONDS);
+
+        // when
+        Thread latest = new Thread(() -> suggestIndex.refresh(List.of(4L)));
+        latest.start();
+        Thread.sleep(100);
+        release.countDown();
+        stale.join();
+        latest.join();
+
+        // then
+        assertThat(productIds(suggestIndex.suggest("백팩", 10))).containsExactly(4L);
+        assertThat(productIds(suggestIndex.suggest("노트북", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인기 점수가 바뀌면 순위를 다시 반영한다")
+    void refreshScores_Reorders() {
+        // given
+        suggestIndex.rebuild();
+        given(popularityTracker.getRankScores()).willReturn(Map.of(3L, 10.0, 1L, 1.0));
+
+        // when
+        suggestIndex.refreshScores();
+
+        // then
+        assertThat(productIds(suggestIndex.suggest("ㄴ", 10))).containsExactly(3L, 1L, 4L);
+        assertThat(productIds(suggestIndex.suggest("ㄴㅇㅋ", 10))).containsExactly(1L, 2L);
+    }
+}
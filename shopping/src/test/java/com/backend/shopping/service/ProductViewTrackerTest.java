@@ -0,0 +1,146 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.shopping.entity.ProductViewStat;
+import com.backend.shopping.repository.ProductViewStatRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductViewTrackerTest {
+
+    private ProductViewStatRepository viewStatRepository;
+    private ProductViewTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        viewStatRepository = mock(ProductViewStatRepository.class);
+        tracker = new ProductViewTracker(viewStatRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry(),
+                Duration.ofMinutes(5), Duration.ofDays(30), 4, 64);
+    }
+
+    @Test
+    @DisplayName("여러 스레드의 조회수를 상품별로 합쳐서 한 번에 저장한다")
+    void flush_AggregatesConcurrentViews() throws Exception {
+        // given
+        given(viewStatRepository.addViews(eq(1L), any(), anyString(), anyLong())).willReturn(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    tracker.record(1L);
+                    tracker.record(2L);
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // when
+        tracker.flush();
+
+        // then
+        verify(viewStatRepository).addViews(eq(1L), any(), anyString(), eq(8000L));
+        verify(viewStatRepository).save(argThat((ProductViewStat stat) ->
+                stat.getProductId() == 2L && stat.getViews() == 8000L));
+    }
+
+    @Test
+    @DisplayName("기록하는 도중에 저장해도 조회수를 잃거나 다른 상품으로 넘기지 않는다")
+    void flush_DuringConcurrentRecords() throws Exception {
+        // given
+        Map<Long, Long> saved = new ConcurrentHashMap<>();
+        given(viewStatRepository.addViews(anyLong(), any(), anyString(), anyLong())).willAnswer(invocation -> {
+            saved.merge(invocation.getArgument(0), invocation.getArgument(3), Long::sum);
+            return 1;
+        });
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    tracker.record(1 + i % 40);
+                }
+                done.countDown();
+            });
+        }
+
+        // when
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            tracker.flush();
+        }
+        executor.shutdown();
+        tracker.flush();
+
+        // then
+        long expectedPerProduct = (long) threads * perThread / 40;
+        assertThat(saved).hasSize(40);
+        assertThat(saved.values()).allMatch(views -> views == expectedPerProduct);
+    }
+
+    @Test
+    @DisplayName("저장한 뒤에는 카운터가 비어 다시 저장하지 않는다")
+    void flush_ResetsCounters() {
+        // given
+        given(viewStatRepository.addViews(anyLong(), any(), anyString(), anyLong())).willReturn(1);
+        tracker.record(1L);
+        tracker.flush();
+
+        // when
+        tracker.flush();
+
+        // then
+        verify(viewStatRepository).addViews(eq(1L), any(), anyString(), eq(1L));
+        verify(viewStatRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("카운터 테이블이 꽉 차면 더 이상 새 상품을 받지 않는다")
+    void counterTable_Full() {
+        // given
+        ProductViewTracker.CounterTable table = new ProductViewTracker.CounterTable(4);
+
+        // when
+        for (long id = 1; id <= 4; id++) {
+            assertThat(table.add(id, id)).isTrue();
+        }
+
+        // then
+        assertThat(table.add(5L, 1)).isFalse();
+        assertThat(table.add(3L, 1)).isTrue();
+        Map<Long, Long> drained = new HashMap<>();
+        table.drainTo(drained);
+        assertThat(drained).containsEntry(1L, 1L).containsEntry(3L, 4L).hasSize(4);
+        assertThat(table.add(5L, 1)).isTrue();
+    }
+}
@@ -0,0 +1,73 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.backend.shopping.dto.response.CursorResponse;
+import com.backend.shopping.exception.CustomException;
+import com.backend.shopping.exception.ErrorCode;
+
+class SeekCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 정렬 값과 ID가 복원된다")
+    void encodeDecode_RoundTrip() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+
+        // when
+        String encoded = SeekCursor.of("createdAt", Sort.Direction.DESC, createdAt, 42L).encode();
+        SeekCursor decoded = SeekCursor.decode(encoded);
+
+        // then
+        assertThat(encoded).doesNotContain("|", "=", "+", "/");
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.value(LocalDateTime.class)).isEqualTo(createdAt);
+        decoded.checkMatches("createdAt", Sort.Direction.DESC);
+    }
+
+    @Test
+    @DisplayName("구분자가 들어간 문자열 값과 소수 가격도 그대로 복원된다")
+    void encodeDecode_StringAndDecimal() {
+        SeekCursor byName = SeekCursor.decode(SeekCursor.of("name", Sort.Direction.ASC, "A|B 상품", 7L).encode());
+        SeekCursor byPrice = SeekCursor.decode(SeekCursor.of("price", Sort.Direction.ASC, new BigDecimal("1E+3"), 8L).encode());
+
+        assertThat(byName.value(String.class)).isEqualTo("A|B 상품");
+        assertThat(byPrice.value(BigDecimal.class)).isEqualTo(new BigDecimal("1000"));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 정렬 조건이 다른 커서는 INVALID_CURSOR")
+    void decode_Invalid() {
+        String priceCursor = SeekCursor.of("price", Sort.Direction.ASC, new BigDecimal("100"), 1L).encode();
+
+        assertThatThrownBy(() -> SeekCursor.decode("not a cursor!"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> SeekCursor.decode(priceCursor).checkMatches("price", Sort.Direction.DESC))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> SeekCursor.decode(priceCursor).value(LocalDateTime.class))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("size보다 한 건 더 조회되면 다음 커서를 마지막 항목으로 만든다")
+    void cursorResponse_HasNext() {
+        CursorResponse<Integer> more = CursorResponse.of(List.of(1, 2, 3), 2, String::valueOf);
+        CursorResponse<Integer> last = CursorResponse.of(List.of(1, 2), 2, String::valueOf);
+
+        assertThat(more.getContent()).containsExactly(1, 2);
+        assertThat(more.isHasNext()).isTrue();
+        assertThat(more.getNextCursor()).isEqualTo("2");
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,128 @@
+package com.backend.shopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import com.backend.shopping.dto.response.UserImportResponse;
+import com.backend.shopping.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private LocalValidatorFactoryBean validator;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        userImportService = new UserImportService(userRepository, jdbcTemplate, transactionTemplate,
+                new BCryptPasswordEncoder(4), new ObjectMapper(), validator, new SimpleMeterRegistry(), 2, 2);
+
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+        validator.close();
+    }
+
+    private ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("유효한 회원은 청크 단위로 배치 저장되고, 잘못된 줄은 줄 번호와 함께 보고된다")
+    void importUsers_ReportsPerRecordErrors() throws Exception {
+        // given
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of("exists@test.com"));
+
+        // when
+        UserImportResponse response = userImportService.importUsers(ndjson(
+                "{\"email\":\"a@test.com\",\"password\":\"password1\",\"name\":\"회원A\"}",
+                "{\"email\":\"b@test.com\",\"password\":\"password2\",\"name\":\"회원B\",\"role\":\"admin\"}",
+                "not-json",
+                "{\"email\":\"a@test.com\",\"password\":\"password3\",\"name\":\"회원C\"}",
+                "{\"email\":\"exists@test.com\",\"password\":\"password4\",\"name\":\"회원D\"}",
+                "{\"email\":\"c@test.com\",\"password\":\"123\",\"name\":\"회원E\"}",
+                "",
+                "{\"email\":\"d@test.com\",\"password\":\"password5\",\"name\":\"회원F\"}"));
+
+        // then
+        assertThat(response.getTotalRecords()).isEqualTo(7);
+        assertThat(response.getImportedCount()).isEqualTo(3);
+        assertThat(response.getFailedCount()).isEqualTo(4);
+        assertThat(response.getErrors())
+                .extracting(UserImportResponse.RecordError::getLine)
+                .containsExactly(3, 4, 6, 5);
+
+        // 청크 크기 2 → [a, b], [exists, d] 두 청크, 가입된 이메일을 제외하고 배치 저장
+        ArgumentCaptor<SqlParameterSource[]> batches = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        assertThat(batches.getAllValues().get(0)).hasSize(2);
+        assertThat(batches.getAllValues().get(0)[1].getValue("role")).isEqualTo("ADMIN");
+        assertThat((String) batches.getAllValues().get(0)[0].getValue("password")).startsWith("$2a$04$");
+        assertThat(batches.getAllValues().get(1)).hasSize(1);
+        verify(jdbcTemplate, times(2)).update(anyString(), any(SqlParameterSource.class));
+        verify(userRepository, times(2)).findExistingEmails(anyCollection());
+    }
+
+    @Test
+    @DisplayName("null 줄은 해당 줄만 실패하고 나머지는 저장한다")
+    void importUsers_NullLine_ReportedAsRowError() throws Exception {
+        // when
+        UserImportResponse response = userImportService.importUsers(ndjson(
+                "null",
+                "{\"email\":\"a@test.com\",\"password\":\"password1\",\"name\":\"회원A\"}"));
+
+        // then
+        assertThat(response.getTotalRecords()).isEqualTo(2);
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getErrors())
+                .extracting(UserImportResponse.RecordError::getLine)
+                .containsExactly(1);
+    }
+}
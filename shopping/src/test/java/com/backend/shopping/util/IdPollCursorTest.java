@@ -0,0 +1,73 @@
+package com.backend.shopping.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdPollCursorTest {
+
+    @Test
+    @DisplayName("건너뛴 ID는 gap으로 남고, 나중에 읽으면 빠진다")
+    void advance_RemembersGapsUntilFilled() {
+        // given
+        IdPollCursor cursor = new IdPollCursor(10L, 60_000L, 100);
+
+        // when
+        cursor.advance(11L, 0L);
+        cursor.advance(14L, 0L);
+        cursor.fill(12L);
+
+        // then
+        assertThat(cursor.getLastSeenId()).isEqualTo(14L);
+        assertThat(cursor.pendingGaps(1_000L)).containsExactly(13L);
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지난 gap은 버린다")
+    void pendingGaps_DropsExpired() {
+        // given
+        IdPollCursor cursor = new IdPollCursor(0L, 60_000L, 100);
+        cursor.advance(3L, 0L);
+        cursor.advance(5L, 30_000L);
+
+        // when
+        List<Long> pending = cursor.pendingGaps(70_000L);
+
+        // then
+        assertThat(pending).containsExactly(4L);
+        assertThat(cursor.gapCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("gap 수가 최대값을 넘으면 가장 작은 ID부터 버린다")
+    void advance_CapsGaps() {
+        // given
+        IdPollCursor cursor = new IdPollCursor(0L, 60_000L, 3);
+        cursor.advance(3L, 0L);
+
+        // when
+        cursor.advance(1_000L, 0L);
+
+        // then
+        assertThat(cursor.getLastSeenId()).isEqualTo(1_000L);
+        assertThat(cursor.pendingGaps(0L)).containsExactly(997L, 998L, 999L);
+    }
+
+    @Test
+    @DisplayName("시작 위치를 다시 지정하면 gap도 비운다")
+    void reset_ClearsGaps() {
+        // given
+        IdPollCursor cursor = new IdPollCursor(0L, 60_000L, 100);
+        cursor.advance(3L, 0L);
+
+        // when
+        cursor.reset(50L);
+
+        // then
+        assertThat(cursor.getLastSeenId()).isEqualTo(50L);
+        assertThat(cursor.gapCount()).isZero();
+    }
+}